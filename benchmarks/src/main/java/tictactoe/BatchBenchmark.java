@@ -0,0 +1,96 @@
+package tictactoe;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The `tictactoe.BatchBenchmark` class measures re-validating recorded matches, one move at a time through the
+ * `tictactoe.GameEngine` and all at once through a `tictactoe.MoveBatch`. Both replay the same 1024 random
+ * matches of the standard game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+    private static final int GAMES = 1024;
+    private static final int MAX_PLIES = 60;
+
+    private GameEngine engine;
+    private MoveBatch batch;
+    private int moves;
+    private int[] positions;
+    private int[] cells;
+    private int[] gameStarts;
+    private long[] player1;
+    private long[] player2;
+    private boolean[] turns;
+    private boolean[] over;
+    private byte[] results;
+
+    @Setup
+    public void setup() {
+        Rules rules = Rules.STANDARD;
+        this.engine = new GameEngine(rules, new Player("Player 1", "X", rules), new Player("Player 2", "O", rules));
+        this.batch = new MoveBatch(rules);
+        this.positions = new int[GAMES * MAX_PLIES];
+        this.cells = new int[GAMES * MAX_PLIES];
+        this.gameStarts = new int[GAMES + 1];
+        MovePolicy policy = new RandomPolicy();
+        for (int game = 0; game < GAMES; game++) {
+            this.engine.reset();
+            policy.reset(game);
+            this.gameStarts[game] = this.moves;
+            for (int ply = 0; ply < MAX_PLIES && !this.engine.isOver(); ply++) {
+                int cell = policy.chooseMove(this.engine);
+                this.engine.play(cell);
+                this.positions[this.moves] = game;
+                this.cells[this.moves++] = cell;
+            }
+        }
+        this.gameStarts[GAMES] = this.moves;
+        this.player1 = new long[GAMES];
+        this.player2 = new long[GAMES];
+        this.turns = new boolean[GAMES];
+        this.over = new boolean[GAMES];
+        this.results = new byte[this.moves];
+    }
+
+    @Benchmark
+    public int engineReplay() {
+        int accepted = 0;
+        for (int game = 0; game < GAMES; game++) {
+            this.engine.reset();
+            for (int i = this.gameStarts[game]; i < this.gameStarts[game + 1]; i++) {
+                if (this.engine.play(this.cells[i]).isAccepted()) {
+                    accepted++;
+                }
+            }
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    public int batchReplay() {
+        Arrays.fill(this.player1, 0);
+        Arrays.fill(this.player2, 0);
+        Arrays.fill(this.turns, true);
+        Arrays.fill(this.over, false);
+        this.batch.apply(this.player1, this.player2, this.turns, this.over, this.positions, this.cells, this.results,
+                this.moves);
+        return this.results[this.moves - 1];
+    }
+}
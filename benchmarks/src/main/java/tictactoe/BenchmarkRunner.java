@@ -0,0 +1,31 @@
+package tictactoe;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The `tictactoe.BenchmarkRunner` class runs the JMH benchmarks with the GC profiler enabled, so every
+ * result also reports its allocation rate.
+ */
+public class BenchmarkRunner {
+    /**
+     * Default constructor for the BenchmarkRunner class. This constructor does nothing.
+     */
+    public BenchmarkRunner() {}
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args The usual JMH command-line options, e.g. a benchmark name pattern.
+     * @throws CommandLineOptionException If the options cannot be parsed.
+     * @throws RunnerException            If a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package tictactoe;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The `tictactoe.InputBenchmark` class measures reading and parsing a script of typed moves, as strings through
+ * `Screen.parseCoordinate` and as bytes through a `tictactoe.MemoryInputSource` and `tictactoe.InputLine`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputBenchmark {
+    private static final int LINES = 1024;
+    private static final int SIZE = 5;
+
+    private String[] lines;
+    private byte[] script;
+    private InputLine line;
+
+    @Setup
+    public void setup() {
+        this.lines = new String[LINES];
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            this.lines[i] = (i % SIZE + 1) + (i % 3 == 0 ? ", " : " ") + (i / SIZE % SIZE + 1);
+            script.append(this.lines[i]).append('\n');
+        }
+        this.script = script.toString().getBytes();
+        this.line = new InputLine();
+    }
+
+    @Benchmark
+    public long parseStrings() {
+        long sum = 0;
+        for (String text : this.lines) {
+            int[] coordinate = Screen.parseCoordinate(text, SIZE);
+            sum += coordinate[0] * 8 + coordinate[1];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parseBytes() {
+        MemoryInputSource source = new MemoryInputSource(this.script);
+        long sum = 0;
+        while (source.read(this.line) == InputSource.LINE) {
+            long coordinate = this.line.parseCoordinate(SIZE);
+            sum += InputParser.x(coordinate) * 8 + InputParser.y(coordinate);
+        }
+        return sum;
+    }
+}
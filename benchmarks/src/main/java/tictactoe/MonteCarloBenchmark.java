@@ -0,0 +1,49 @@
+package tictactoe;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The `tictactoe.MonteCarloBenchmark` class measures a `tictactoe.MonteCarloSearch` of 10000 playouts from the
+ * empty 8x8 board, with root parallelism and with a shared tree, for several numbers of workers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonteCarloBenchmark {
+    private static final long PLAYOUTS = 10_000;
+
+    @Param({"1", "4"})
+    public int workers;
+
+    @Param({"false", "true"})
+    public boolean sharedTree;
+
+    private MonteCarloSearch search;
+
+    @Setup
+    public void setup() {
+        Rules rules = new Rules(8, 5, 8);
+        this.search = new MonteCarloSearch(rules, 1 << 18, ForkJoinPool.commonPool(), this.workers, this.sharedTree, 1);
+    }
+
+    @Benchmark
+    public int search() {
+        return this.search.bestMove(0L, 0L, Long.MAX_VALUE, PLAYOUTS);
+    }
+}
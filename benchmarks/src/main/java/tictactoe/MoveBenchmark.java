@@ -0,0 +1,61 @@
+package tictactoe;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The `tictactoe.MoveBenchmark` class measures applying and undoing a single move, both on the
+ * `tictactoe.Board` and `tictactoe.Player` objects and on the packed `tictactoe.BitBoard` state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveBenchmark {
+    private Board board;
+    private Player player;
+    private int state;
+    private int cell;
+
+    @Setup
+    public void setup() {
+        this.board = new Board();
+        this.player = new Player("Player", "X");
+        this.state = BitBoard.pack(0b000_010_001, 0b100_000_000, false);
+    }
+
+    @Benchmark
+    public boolean boardApplyUndo() {
+        int x = BitBoard.x(this.cell);
+        int y = BitBoard.y(this.cell);
+        this.cell = (this.cell + 1) % BitBoard.CELLS;
+        this.player.setMySet(x, y);
+        this.board.updateSet(x, y, "X");
+        boolean free = this.board.isFreeSet(x, y);
+        this.player.removeMySet(x, y);
+        this.board.updateSet(x, y, " ");
+        return free;
+    }
+
+    @Benchmark
+    public int bitBoardPlaceLift() {
+        int free = ~BitBoard.occupied(this.state) & BitBoard.FULL;
+        int target = Integer.numberOfTrailingZeros(free);
+        int placed = BitBoard.place(this.state, target);
+        // Hand the turn back so that the lift removes the piece that was just placed.
+        int restored = BitBoard.pack(BitBoard.player1(placed), BitBoard.player2(placed), BitBoard.turn(this.state));
+        return BitBoard.lift(restored, target);
+    }
+}
@@ -0,0 +1,55 @@
+package tictactoe;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The `tictactoe.PlayoutBenchmark` class measures full random matches through the `tictactoe.GameEngine`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayoutBenchmark {
+    private static final int MAX_PLIES = 200;
+
+    @Param({"3,3,3", "8,5,8"})
+    public String variant;
+
+    private GameEngine engine;
+    private MovePolicy policy;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        String[] values = this.variant.split(",");
+        Rules rules = new Rules(Integer.parseInt(values[0]), Integer.parseInt(values[1]), Integer.parseInt(values[2]));
+        this.engine = new GameEngine(rules, new Player("Player 1", "X", rules), new Player("Player 2", "O", rules));
+        this.policy = new RandomPolicy();
+    }
+
+    @Benchmark
+    public int randomPlayout() {
+        this.engine.reset();
+        this.policy.reset(this.seed++);
+        int plies = 0;
+        while (!this.engine.isOver() && plies < MAX_PLIES) {
+            this.engine.play(this.policy.chooseMove(this.engine));
+            plies++;
+        }
+        return plies;
+    }
+}
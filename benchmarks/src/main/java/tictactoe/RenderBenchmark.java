@@ -0,0 +1,74 @@
+package tictactoe;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The `tictactoe.RenderBenchmark` class measures `Board.displayBoard`, with the console replaced by a
+ * stream that discards everything written to it, and the `tictactoe.BoardRenderer` frame and diff modes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+    private PrintStream console;
+    private Board board;
+    private BoardRenderer renderer;
+    private int move;
+
+    @Setup
+    public void setup() {
+        this.console = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+        this.board = new Board(new Screen());
+        this.board.updateSet(1, 1, "X");
+        this.board.updateSet(2, 2, "O");
+        this.board.updateSet(3, 1, "X");
+        this.renderer = new BoardRenderer(Rules.STANDARD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(this.console);
+    }
+
+    @Benchmark
+    public void displayBoard() {
+        this.board.displayBoard();
+    }
+
+    @Benchmark
+    public int renderFrame() {
+        return this.renderer.renderFrame(this.board);
+    }
+
+    @Benchmark
+    public int renderChanges() {
+        this.board.updateSet(1, 3, (this.move++ & 1) == 0 ? "O" : " ");
+        return this.renderer.renderChanges(this.board);
+    }
+}
@@ -0,0 +1,63 @@
+package tictactoe;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The `tictactoe.SpectatorBenchmark` class measures the cost a `tictactoe.SpectatorChannel` adds to a move of
+ * the `tictactoe.GameEngine`, with and without subscribed spectators that never poll.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpectatorBenchmark {
+    @Param({ "none", "0", "1000" })
+    public String spectators;
+
+    private GameEngine engine;
+    private Spectator[] watchers;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        Rules rules = Rules.STANDARD;
+        this.engine = new GameEngine(rules, new Player("Player 1", "X", rules), new Player("Player 2", "O", rules));
+        if (!this.spectators.equals("none")) {
+            SpectatorChannel channel = new SpectatorChannel(SpectatorChannel.DEFAULT_CAPACITY, null);
+            this.engine.setMoveListener(channel);
+            this.watchers = new Spectator[Integer.parseInt(this.spectators)];
+            for (int i = 0; i < this.watchers.length; i++) {
+                this.watchers[i] = channel.subscribe();
+            }
+        }
+    }
+
+    @Benchmark
+    public MoveResult move() {
+        long legal = this.engine.legalMoves();
+        if (legal == 0) {
+            this.engine.reset();
+            legal = this.engine.legalMoves();
+        }
+        // Vary the moves without a random generator: take the first legal cell after a rotating offset.
+        int offset = this.counter++ % Long.bitCount(legal);
+        for (int i = 0; i < offset; i++) {
+            legal &= legal - 1;
+        }
+        return this.engine.play(Long.numberOfTrailingZeros(legal));
+    }
+}
@@ -0,0 +1,72 @@
+package tictactoe;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The `tictactoe.WinCheckBenchmark` class measures win detection over random positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WinCheckBenchmark {
+    private static final int POSITIONS = 1024;
+
+    @Param({"3,3,3", "5,4,5", "8,5,8"})
+    public String variant;
+
+    private WinMasks winMasks;
+    private long[] masks;
+    private int[] lastCells;
+
+    @Setup
+    public void setup() {
+        String[] values = this.variant.split(",");
+        Rules rules = new Rules(Integer.parseInt(values[0]), Integer.parseInt(values[1]), Integer.parseInt(values[2]));
+        this.winMasks = rules.getWinMasks();
+        this.masks = new long[POSITIONS];
+        this.lastCells = new int[POSITIONS];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < POSITIONS; i++) {
+            long mask = 0;
+            while (Long.bitCount(mask) < rules.getMaxPieces()) {
+                this.lastCells[i] = random.nextInt(rules.getCells());
+                mask |= 1L << this.lastCells[i];
+            }
+            this.masks[i] = mask;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void winningLine(Blackhole blackhole) {
+        for (long mask : this.masks) {
+            blackhole.consume(this.winMasks.winningLine(mask));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void winningLineThroughLastCell(Blackhole blackhole) {
+        for (int i = 0; i < POSITIONS; i++) {
+            blackhole.consume(this.winMasks.winningLine(this.masks[i], this.lastCells[i]));
+        }
+    }
+}
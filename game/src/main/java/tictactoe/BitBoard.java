@@ -0,0 +1,176 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.BitBoard` class holds the primitive encoding of a 3x3 Tic-Tac-Toe game state.
+ * <p>
+ *     Every cell (x, y) maps to one bit of a 9-bit mask, the same bit `tictactoe.Rules` gives it on a 3x3
+ *     board, so a player's pieces fit in a single `int`. A whole position is packed into one `int`: bits 0-8
+ *     hold player 1's pieces, bits 9-17 hold player 2's pieces and bit 18 is the side to move (set when it is
+ *     player 2's turn, like `Game.turn`).
+ * </p>
+ */
+public final class BitBoard {
+    /**
+     * The number of cells on the board.
+     */
+    public static final int CELLS = 9;
+
+    /**
+     * The mask with every cell of the board set.
+     */
+    public static final int FULL = (1 << CELLS) - 1;
+
+    private static final int PLAYER2_SHIFT = CELLS;
+    private static final int TURN_BIT = 1 << (2 * CELLS);
+
+    private BitBoard() {}
+
+    /**
+     * Converts a coordinate to its cell index.
+     *
+     * @param x The X-coordinate (1, 2, or 3).
+     * @param y The Y-coordinate (1, 2, or 3).
+     * @return The cell index (0 to 8).
+     */
+    public static int index(int x, int y) {
+        return (x - 1) * 3 + (y - 1);
+    }
+
+    /**
+     * Converts a coordinate to its single-bit mask.
+     *
+     * @param x The X-coordinate (1, 2, or 3).
+     * @param y The Y-coordinate (1, 2, or 3).
+     * @return The mask with only the bit of the cell set.
+     */
+    public static int bit(int x, int y) {
+        return 1 << index(x, y);
+    }
+
+    /**
+     * Returns the X-coordinate of a cell index.
+     *
+     * @param index The cell index (0 to 8).
+     * @return The X-coordinate (1, 2, or 3).
+     */
+    public static int x(int index) {
+        return index / 3 + 1;
+    }
+
+    /**
+     * Returns the Y-coordinate of a cell index.
+     *
+     * @param index The cell index (0 to 8).
+     * @return The Y-coordinate (1, 2, or 3).
+     */
+    public static int y(int index) {
+        return index % 3 + 1;
+    }
+
+    /**
+     * Checks if a coordinate lies on the board.
+     *
+     * @param x The X-coordinate.
+     * @param y The Y-coordinate.
+     * @return True if both values are between 1 and 3, otherwise false.
+     */
+    public static boolean isOnBoard(int x, int y) {
+        return x >= 1 && x <= 3 && y >= 1 && y <= 3;
+    }
+
+    /**
+     * Packs both players' pieces and the side to move into one state value.
+     *
+     * @param player1 The mask of player 1's pieces.
+     * @param player2 The mask of player 2's pieces.
+     * @param turn    True if player 2 is to move, like `Game.turn`.
+     * @return The packed state.
+     */
+    public static int pack(int player1, int player2, boolean turn) {
+        return player1 | (player2 << PLAYER2_SHIFT) | (turn ? TURN_BIT : 0);
+    }
+
+    /**
+     * Returns player 1's pieces of a packed state.
+     *
+     * @param state The packed state.
+     * @return The mask of player 1's pieces.
+     */
+    public static int player1(int state) {
+        return state & FULL;
+    }
+
+    /**
+     * Returns player 2's pieces of a packed state.
+     *
+     * @param state The packed state.
+     * @return The mask of player 2's pieces.
+     */
+    public static int player2(int state) {
+        return (state >>> PLAYER2_SHIFT) & FULL;
+    }
+
+    /**
+     * Returns the side to move of a packed state.
+     *
+     * @param state The packed state.
+     * @return True if player 2 is to move, otherwise false.
+     */
+    public static boolean turn(int state) {
+        return (state & TURN_BIT) != 0;
+    }
+
+    /**
+     * Returns every occupied cell of a packed state.
+     *
+     * @param state The packed state.
+     * @return The mask of the cells taken by either player.
+     */
+    public static int occupied(int state) {
+        return player1(state) | player2(state);
+    }
+
+    /**
+     * Returns the pieces of the player to move.
+     *
+     * @param state The packed state.
+     * @return The mask of the pieces of the side to move.
+     */
+    public static int mover(int state) {
+        return turn(state) ? player2(state) : player1(state);
+    }
+
+    /**
+     * Returns the pieces of the player waiting for their turn.
+     *
+     * @param state The packed state.
+     * @return The mask of the pieces of the side not to move.
+     */
+    public static int waiting(int state) {
+        return turn(state) ? player1(state) : player2(state);
+    }
+
+    /**
+     * Places a piece of the side to move and passes the turn, like `Game.addSet`.
+     *
+     * @param state The packed state.
+     * @param index The free cell to place on.
+     * @return The new packed state.
+     */
+    public static int place(int state, int index) {
+        int shift = turn(state) ? PLAYER2_SHIFT : 0;
+        return (state | (1 << (index + shift))) ^ TURN_BIT;
+    }
+
+    /**
+     * Lifts a piece of the side to move without passing the turn, like `Game.takeSet`.
+     *
+     * @param state The packed state.
+     * @param index The cell of the piece to lift.
+     * @return The new packed state.
+     */
+    public static int lift(int state, int index) {
+        int shift = turn(state) ? PLAYER2_SHIFT : 0;
+        return state & ~(1 << (index + shift));
+    }
+}
@@ -0,0 +1,132 @@
+package tictactoe;
+
+import java.util.Arrays;
+
+/**
+ * The `tictactoe.Board` class represents the game board for Tic-Tac-Toe.
+ */
+public class Board {
+    private final Rules rules;
+    private final String[] cells;
+    private long occupied;
+    private final Screen gameScreen;
+
+    /**
+     * Constructs a new headless `tictactoe.Board` object for the standard rules that is never displayed.
+     */
+    public Board() {
+        this(null, Rules.STANDARD);
+    }
+
+    /**
+     * Constructs a new headless `tictactoe.Board` object that is never displayed.
+     *
+     * @param rules The variant the board is played with.
+     */
+    public Board(Rules rules) {
+        this(null, rules);
+    }
+
+    /**
+     * Constructs a new `tictactoe.Board` object for the standard rules.
+     *
+     * @param myScreen The tictactoe.Screen on which the board is displayed.
+     */
+    public Board(Screen myScreen) {
+        this(myScreen, Rules.STANDARD);
+    }
+
+    /**
+     * Constructs a new `tictactoe.Board` object.
+     *
+     * @param myScreen The tictactoe.Screen on which the board is displayed.
+     * @param rules    The variant the board is played with.
+     */
+    public Board(Screen myScreen, Rules rules) {
+        this.gameScreen = myScreen;
+        this.rules = rules;
+        this.cells = new String[rules.getCells()];
+        this.initialize();
+    }
+
+    /**
+     * Initializes the game board with empty (FREE) spaces.
+     */
+    private void initialize() {
+        Arrays.fill(this.cells, " ");
+        this.occupied = 0;
+    }
+
+    /**
+     * Resets the game board in place by clearing every cell.
+     */
+    public void resetBoard() {
+        this.initialize();
+    }
+
+    /**
+     * Displays the current state of the game board on the screen.
+     */
+    public void displayBoard() {
+        GameMetrics metrics = GameMetrics.get();
+        long start = metrics.start();
+        this.gameScreen.board(this);
+        metrics.stop(metrics.getRenderTimes(), start);
+    }
+
+    /**
+     * Checks if the specified cell on the board is set to "FREE."
+     *
+     * @param x The X-coordinate of the cell (1 to the board size).
+     * @param y The Y-coordinate of the cell (1 to the board size).
+     * @return True if the cell is free, otherwise false.
+     */
+    public Boolean isFreeSet(int x, int y) {
+        return (this.occupied & this.rules.bit(x, y)) == 0;
+    }
+
+    /**
+     * Updates the character set in the specified cell on the board.
+     *
+     * @param x        The X-coordinate of the cell (1 to the board size).
+     * @param y        The Y-coordinate of the cell (1 to the board size).
+     * @param character The character to set in the cell.
+     */
+    public void updateSet(int x, int y, String character) {
+        long bit = this.rules.bit(x, y);
+        this.cells[this.rules.index(x, y)] = character;
+        if (" ".equals(character)) {
+            this.occupied &= ~bit;
+        } else {
+            this.occupied |= bit;
+        }
+    }
+
+    /**
+     * Returns the mask of every occupied cell on the board.
+     *
+     * @return The occupied cells, one bit per cell index.
+     */
+    public long getOccupied() {
+        return this.occupied;
+    }
+
+    /**
+     * Retrieves the variant the board is played with.
+     *
+     * @return The rules of the board.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Retrieves the character shown in the specified cell.
+     *
+     * @param index The cell index, as given by `Rules.index`.
+     * @return The character in the cell, or " " if it is free.
+     */
+    public String getCell(int index) {
+        return this.cells[index];
+    }
+}
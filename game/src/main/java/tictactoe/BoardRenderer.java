@@ -0,0 +1,208 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The `tictactoe.BoardRenderer` class draws a `tictactoe.Board` into a reused byte buffer.
+ * <p>
+ *     A full frame holds the clear-screen codes, the column and row labels and the grid, and is written to the
+ *     terminal with a single `write` call. In diff mode only the cells that changed since the previous frame
+ *     are redrawn, by moving the cursor to each of them, and everything below the grid is cleared. Building a
+ *     frame does not allocate.
+ * </p>
+ * <p>
+ *     A renderer keeps the last frame it drew, so every terminal needs its own instance.
+ * </p>
+ */
+public class BoardRenderer {
+    private static final byte[] CLEAR = "\033[H\033[2J".getBytes();
+    private static final byte[] CLEAR_BELOW = "\033[J".getBytes();
+    private static final byte[] RESET = "\u001B[0m".getBytes();
+    private static final byte[] GREEN = "\u001B[32m".getBytes();
+    private static final byte[] CELL_SEPARATOR = "-----+".getBytes();
+
+    private final Rules rules;
+    private final String[] lastCells;
+    private byte[] buffer;
+    private int length;
+    private boolean drawn;
+
+    /**
+     * Constructs a new `tictactoe.BoardRenderer`.
+     *
+     * @param rules The variant of the boards it draws.
+     */
+    public BoardRenderer(Rules rules) {
+        int size = rules.getSize();
+        this.rules = rules;
+        this.lastCells = new String[rules.getCells()];
+        this.buffer = new byte[64 + (2 * size + 2) * (24 + 8 * size)];
+    }
+
+    /**
+     * Builds a full frame of the board.
+     *
+     * @param board The board to draw.
+     * @return The number of bytes in the frame.
+     */
+    public int renderFrame(Board board) {
+        int size = this.rules.getSize();
+        this.length = 0;
+        this.append(CLEAR);
+        this.append(GREEN);
+        this.append("    ");
+        for (int column = 1; column <= size; column++) {
+            this.append(' ');
+            this.appendNumber(column);
+            this.append("    ");
+        }
+        this.append(RESET);
+        this.append('\n');
+        this.appendSeparator(size);
+        for (int x = 1; x <= size; x++) {
+            this.append(GREEN);
+            this.append(' ');
+            this.appendNumber(x);
+            this.append(' ');
+            this.append(RESET);
+            this.append('|');
+            for (int y = 1; y <= size; y++) {
+                int index = this.rules.index(x, y);
+                String cell = board.getCell(index);
+                this.lastCells[index] = cell;
+                this.append("  ");
+                this.appendCell(cell);
+                this.append("  |");
+            }
+            this.append('\n');
+            this.appendSeparator(size);
+        }
+        this.drawn = true;
+        return this.length;
+    }
+
+    /**
+     * Builds a frame that only redraws the cells changed since the previous frame. The first frame of a
+     * renderer is always a full frame.
+     *
+     * @param board The board to draw.
+     * @return The number of bytes in the frame.
+     */
+    public int renderChanges(Board board) {
+        if (!this.drawn) {
+            return this.renderFrame(board);
+        }
+        int size = this.rules.getSize();
+        this.length = 0;
+        for (int index = 0; index < this.lastCells.length; index++) {
+            String cell = board.getCell(index);
+            if (!cell.equals(this.lastCells[index])) {
+                this.lastCells[index] = cell;
+                this.appendCursor(2 * this.rules.x(index) + 1, 6 * this.rules.y(index) + 1);
+                this.appendCell(cell);
+            }
+        }
+        this.appendCursor(2 * size + 3, 1);
+        this.append(CLEAR_BELOW);
+        return this.length;
+    }
+
+    /**
+     * Forgets the previous frame, so the next diff frame is drawn in full.
+     */
+    public void invalidate() {
+        this.drawn = false;
+    }
+
+    /**
+     * Writes the last frame with a single call.
+     *
+     * @param out The stream of the terminal.
+     * @throws IOException If the stream fails.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(this.buffer, 0, this.length);
+        out.flush();
+    }
+
+    /**
+     * Retrieves the variant of the boards this renderer draws.
+     *
+     * @return The rules of the boards.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Returns the buffer holding the last frame, which is valid up to the length the render call returned.
+     *
+     * @return The frame buffer.
+     */
+    public byte[] getBuffer() {
+        return this.buffer;
+    }
+
+    private void appendSeparator(int size) {
+        this.append("   +");
+        for (int column = 0; column < size; column++) {
+            this.append(CELL_SEPARATOR);
+        }
+        this.append('\n');
+    }
+
+    private void appendCursor(int row, int column) {
+        this.append('\033');
+        this.append('[');
+        this.appendNumber(row);
+        this.append(';');
+        this.appendNumber(column);
+        this.append('H');
+    }
+
+    /**
+     * Appends the single character of a cell as UTF-8.
+     */
+    private void appendCell(String cell) {
+        char c = cell.isEmpty() ? ' ' : cell.charAt(0);
+        if (c < 0x80) {
+            this.append(c);
+        } else if (c < 0x800) {
+            this.append((char) (0xC0 | (c >> 6)));
+            this.append((char) (0x80 | (c & 0x3F)));
+        } else {
+            this.append((char) (0xE0 | (c >> 12)));
+            this.append((char) (0x80 | ((c >> 6) & 0x3F)));
+            this.append((char) (0x80 | (c & 0x3F)));
+        }
+    }
+
+    private void appendNumber(int value) {
+        if (value >= 10) {
+            this.appendNumber(value / 10);
+        }
+        this.append((char) ('0' + value % 10));
+    }
+
+    private void append(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            this.append(text.charAt(i));
+        }
+    }
+
+    private void append(byte[] bytes) {
+        for (byte b : bytes) {
+            this.append((char) (b & 0xFF));
+        }
+    }
+
+    private void append(char b) {
+        if (this.length == this.buffer.length) {
+            byte[] grown = new byte[this.buffer.length * 2];
+            System.arraycopy(this.buffer, 0, grown, 0, this.length);
+            this.buffer = grown;
+        }
+        this.buffer[this.length++] = (byte) b;
+    }
+}
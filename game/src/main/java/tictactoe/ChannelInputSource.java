@@ -0,0 +1,146 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * The `tictactoe.ChannelInputSource` class reads lines from a `java.nio.channels.ReadableByteChannel`, such as
+ * a socket channel or a channel wrapping the console.
+ * <p>
+ *     Bytes are read into one buffer and split into lines in place. On a channel in non-blocking mode `read`
+ *     returns `NONE` as soon as the channel has nothing more, keeping a partly read line for the next call.
+ * </p>
+ * <p>
+ *     A line longer than the capacity of the `tictactoe.InputLine` is returned as soon as it overflows, and the
+ *     rest of it, up to its newline, is dropped by the next reads. A peer sending bytes without a newline thus
+ *     costs no more memory than the buffer, and its reader learns of it at once.
+ * </p>
+ */
+public class ChannelInputSource implements InputSource {
+    private static final int BUFFER_BYTES = 4096;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean skipping;
+
+    /**
+     * Constructs a new `tictactoe.ChannelInputSource`.
+     *
+     * @param channel The channel to read from.
+     */
+    public ChannelInputSource(ReadableByteChannel channel) {
+        this(channel, BUFFER_BYTES);
+    }
+
+    /**
+     * Constructs a new `tictactoe.ChannelInputSource` with a buffer of the given size, e.g. a small one for each
+     * of many connections.
+     *
+     * @param channel     The channel to read from.
+     * @param bufferBytes The number of bytes read from the channel at once.
+     */
+    ChannelInputSource(ReadableByteChannel channel, int bufferBytes) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferBytes);
+        this.buffer.flip();
+    }
+
+    @Override
+    public int read(InputLine line) throws IOException {
+        if (line.isComplete()) {
+            line.clear();
+        }
+        byte[] bytes = this.buffer.array();
+        while (true) {
+            if (this.skipping) {
+                this.skip();
+            }
+            if (!this.skipping && this.buffer.hasRemaining()) {
+                int end = line.take(bytes, this.buffer.position(), this.buffer.limit());
+                this.buffer.position(end);
+                if (line.isOverflow() && !line.isComplete()) {
+                    this.skipping = true;
+                    line.finish();
+                }
+                if (line.isComplete()) {
+                    return LINE;
+                }
+            }
+            int read = this.readChannel();
+            if (read < 0) {
+                if (!this.skipping && line.isPending()) {
+                    line.finish();
+                    return LINE;
+                }
+                return END;
+            }
+            if (read == 0) {
+                return NONE;
+            }
+        }
+    }
+
+    /**
+     * Waits until bytes not yet taken by `read` are buffered, without taking them. Meant for a channel in
+     * blocking mode.
+     *
+     * @return False if the channel ended first.
+     * @throws IOException If reading fails.
+     */
+    boolean fill() throws IOException {
+        if (this.buffer.hasRemaining()) {
+            return true;
+        }
+        int read;
+        do {
+            read = this.readChannel();
+        } while (read == 0);
+        return read > 0;
+    }
+
+    /**
+     * Drops the buffered bytes not yet taken by `read`.
+     */
+    void discard() {
+        this.buffer.position(this.buffer.limit());
+    }
+
+    /**
+     * Refills the buffer from the channel. The buffer is left empty rather than cleared if the read fails, e.g.
+     * when a socket read times out.
+     */
+    private int readChannel() throws IOException {
+        this.buffer.clear();
+        try {
+            return this.channel.read(this.buffer);
+        } finally {
+            this.buffer.flip();
+        }
+    }
+
+    /**
+     * Drops buffered bytes up to and including the newline that ends an overflowed line.
+     */
+    private void skip() {
+        byte[] bytes = this.buffer.array();
+        int position = this.buffer.position();
+        while (position < this.buffer.limit()) {
+            if (bytes[position++] == '\n') {
+                this.skipping = false;
+                break;
+            }
+        }
+        this.buffer.position(position);
+    }
+
+    /**
+     * Closes the channel.
+     *
+     * @throws IOException If closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -0,0 +1,170 @@
+package tictactoe;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The `tictactoe.ClientConnection` class wraps the socket of a player connected to the `tictactoe.GameServer`.
+ * <p>
+ *     Lines are read as bytes into a `tictactoe.InputLine` of `MAX_LINE_BYTES` through a
+ *     `tictactoe.ChannelInputSource`, and written as UTF-8, both through small buffers, so that a node holding
+ *     tens of thousands of connections does not spend most of its memory on stream buffers. A client sending a
+ *     longer line is disconnected, however many bytes it sends without a newline. Reads are guarded by a lock
+ *     rather than a monitor, so a virtual thread blocked on the socket does not pin its carrier thread.
+ * </p>
+ */
+class ClientConnection implements Closeable {
+    /**
+     * The longest line, in bytes without its terminator, a client may send.
+     */
+    static final int MAX_LINE_BYTES = InputLine.DEFAULT_CAPACITY;
+
+    private static final int BUFFER_SIZE = 256;
+
+    private final Socket socket;
+    private final ChannelInputSource in;
+    private final InputLine line;
+    private final Writer out;
+    private final ReentrantLock reading;
+
+    /**
+     * Constructs a new `tictactoe.ClientConnection`.
+     *
+     * @param socket The accepted socket.
+     * @throws IOException If the streams of the socket cannot be opened.
+     */
+    ClientConnection(Socket socket) throws IOException {
+        this.socket = socket;
+        this.in = new ChannelInputSource(new StreamChannel(socket.getInputStream()), BUFFER_SIZE);
+        this.line = new InputLine(MAX_LINE_BYTES);
+        this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.reading = new ReentrantLock();
+    }
+
+    /**
+     * Reads the next line sent by the client. A line longer than `MAX_LINE_BYTES` closes the connection.
+     *
+     * @return The line without its terminator, which is reused by the next call, or null if the client closed the
+     *         connection.
+     * @throws IOException If the socket fails, the read times out or the line is too long.
+     */
+    InputLine readLine() throws IOException {
+        this.reading.lock();
+        try {
+            if (this.in.read(this.line) == InputSource.END) {
+                return null;
+            }
+        } finally {
+            this.reading.unlock();
+        }
+        if (this.line.isOverflow()) {
+            this.close();
+            throw new IOException("The client sent a line longer than " + MAX_LINE_BYTES + " bytes.");
+        }
+        return this.line;
+    }
+
+    /**
+     * Waits until the client sends something or closes the connection, leaving what it sent for `readLine`.
+     *
+     * @return False if the client closed the connection.
+     * @throws IOException If the socket fails or the wait times out.
+     */
+    boolean awaitInput() throws IOException {
+        this.reading.lock();
+        try {
+            return this.in.fill();
+        } finally {
+            this.reading.unlock();
+        }
+    }
+
+    /**
+     * Drops what the client sent that `readLine` has not read yet.
+     */
+    void discardInput() {
+        this.reading.lock();
+        try {
+            this.in.discard();
+        } finally {
+            this.reading.unlock();
+        }
+    }
+
+    /**
+     * Sends a line to the client.
+     *
+     * @param line The line without its terminator.
+     * @throws IOException If the socket fails.
+     */
+    void send(String line) throws IOException {
+        this.out.write(line);
+        this.out.write('\n');
+        this.out.flush();
+    }
+
+    /**
+     * Sends a line to the client, ignoring a failure because the client is leaving anyway.
+     *
+     * @param line The line without its terminator.
+     */
+    void sendQuietly(String line) {
+        try {
+            this.send(line);
+        } catch (IOException ignored) {
+            // The client is already gone.
+        }
+    }
+
+    /**
+     * Closes the socket, which also wakes a session blocked reading from it.
+     */
+    @Override
+    public void close() {
+        try {
+            this.socket.close();
+        } catch (IOException ignored) {
+            // Nothing left to release.
+        }
+    }
+
+    /**
+     * Reads the stream of a socket as a channel. The adapter of `Channels.newChannel` reads under a monitor,
+     * which would pin the carrier thread of a virtual thread blocked on the socket.
+     */
+    private static final class StreamChannel implements ReadableByteChannel {
+        private final InputStream in;
+
+        private StreamChannel(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read(ByteBuffer buffer) throws IOException {
+            int read = this.in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            if (read > 0) {
+                buffer.position(buffer.position() + read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.in.close();
+        }
+    }
+}
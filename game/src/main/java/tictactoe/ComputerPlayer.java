@@ -0,0 +1,100 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.ComputerPlayer` class represents a player whose moves are chosen by a `tictactoe.NegamaxSearch`.
+ */
+public class ComputerPlayer extends Player {
+    /**
+     * The default time allowed for each move, in nanoseconds.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = 500_000L;
+
+    private NegamaxSearch negamax;
+    private final long budgetNanos;
+    private final PositionStore positions;
+
+    /**
+     * Constructs a new computer player for the given rules that thinks for the default time per move.
+     *
+     * @param name      The name of the player.
+     * @param character The character associated with the player (e.g., "X" or "O").
+     * @param rules     The variant the player plays.
+     */
+    public ComputerPlayer(String name, String character, Rules rules) {
+        this(name, character, rules, DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Constructs a new computer player.
+     *
+     * @param name        The name of the player.
+     * @param character   The character associated with the player (e.g., "X" or "O").
+     * @param rules       The variant the player plays.
+     * @param budgetNanos The time allowed for each move, in nanoseconds.
+     */
+    public ComputerPlayer(String name, String character, Rules rules, long budgetNanos) {
+        this(name, character, rules, budgetNanos, null);
+    }
+
+    /**
+     * Constructs a new computer player that looks positions up in a store before searching.
+     *
+     * @param name        The name of the player.
+     * @param character   The character associated with the player (e.g., "X" or "O").
+     * @param rules       The variant the player plays.
+     * @param budgetNanos The time allowed for each move, in nanoseconds.
+     * @param positions   The store of solved positions for the same rules, or null to always search.
+     */
+    public ComputerPlayer(String name, String character, Rules rules, long budgetNanos, PositionStore positions) {
+        super(name, character, rules);
+        if (positions != null && !positions.getRules().equals(rules)) {
+            throw new IllegalArgumentException("The position store holds " + positions.getRules() + " positions.");
+        }
+        this.budgetNanos = budgetNanos;
+        this.positions = positions;
+    }
+
+    /**
+     * Chooses the next move of this player. The move places a piece while the player has fewer pieces
+     * than the limit and lifts one of their own pieces otherwise, as `tictactoe.GameEngine` requires. A position
+     * found in the position store is answered without searching.
+     *
+     * @param engine The engine running the match, with this player to move.
+     * @return An array of two integers representing the X and Y coordinates.
+     */
+    public int[] chooseMove(GameEngine engine) {
+        if (this.positions != null) {
+            int value = this.positions.lookup(engine);
+            if (value != PositionStore.NOT_FOUND && PositionStore.bestMove(value) >= 0) {
+                int cell = PositionStore.bestMove(value);
+                return new int[] { engine.getRules().x(cell), engine.getRules().y(cell) };
+            }
+        }
+        int cell = this.search(engine);
+        return new int[] { engine.getRules().x(cell), engine.getRules().y(cell) };
+    }
+
+    /**
+     * Searches the position of a match for the best move of this player, which must be on turn. The search
+     * table is created on first use.
+     *
+     * @param engine The engine running the match.
+     * @return The cell index to place on, or to lift from if the player has all their pieces.
+     */
+    protected int search(GameEngine engine) {
+        if (this.negamax == null) {
+            this.negamax = new NegamaxSearch(engine.getRules(), 16);
+        }
+        long theirs = engine.getOpponent().getMySet();
+        return this.negamax.bestMove(this.getMySet(), theirs, engine.isTurn(), this.budgetNanos);
+    }
+
+    /**
+     * Retrieves the time this player may think about each move.
+     *
+     * @return The budget per move, in nanoseconds.
+     */
+    public long getBudgetNanos() {
+        return this.budgetNanos;
+    }
+}
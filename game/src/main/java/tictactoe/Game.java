@@ -0,0 +1,209 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.Game` class connects the `tictactoe.GameEngine` rules to the console `tictactoe.Screen`.
+ */
+public class Game {
+    private final Rules rules;
+    private final Screen myScreen;
+    private final Board myBoard;
+    private final PositionStore positions;
+    private GameEngine engine;
+
+    /**
+     * Constructs a new `tictactoe.Game` object with the standard rules and initializes the game's screen and board.
+     */
+    public Game() {
+        this(Rules.STANDARD);
+    }
+
+    /**
+     * Constructs a new `tictactoe.Game` object and initializes the game's screen and board.
+     *
+     * @param rules The variant to play.
+     */
+    public Game(Rules rules) {
+        this(rules, null);
+    }
+
+    /**
+     * Constructs a new `tictactoe.Game` object whose computer opponent looks positions up in a store.
+     *
+     * @param rules     The variant to play.
+     * @param positions The store of solved positions for the same rules, or null to always search.
+     */
+    public Game(Rules rules, PositionStore positions) {
+        this(rules, positions, StartupProfile.INTERACTIVE);
+    }
+
+    /**
+     * Constructs a new `tictactoe.Game` object that starts with the given profile.
+     *
+     * @param rules     The variant to play.
+     * @param positions The store of solved positions for the same rules, or null to always search.
+     * @param profile   The startup profile, which decides whether loading animations are shown.
+     */
+    public Game(Rules rules, PositionStore positions, StartupProfile profile) {
+        this.rules = rules;
+        this.myScreen = new Screen();
+        this.myScreen.setStartupProfile(profile);
+        this.myBoard = new Board(myScreen, rules);
+        this.positions = positions;
+    }
+
+    /**
+     * Loads the game, displaying the main menu and handling user choices.
+     *
+     * @return The user's choice as an integer.
+     */
+    public int load() {
+        int action = this.myScreen.mainMenu();
+        switch (action) {
+            case 1:
+                this.initialize();
+                break;
+            case 2:
+                this.myScreen.exitScreen();
+                break;
+            default:
+                break;
+        }
+        return action;
+    }
+
+    /**
+     * Starts the game, displaying the game board and the first player's turn.
+     */
+    public void start() {
+        this.myScreen.displayLoadingScreen("Starting Game");
+        while (!this.engine.isOver()) {
+            this.myBoard.displayBoard();
+            int[] pos = this.displayCurrentPlayerTurn();
+            if (pos == null) {
+                this.takeBack();
+            } else {
+                this.nextPlayerMove(pos[0], pos[1]);
+            }
+        }
+    }
+
+    /**
+     * Takes back the last move, and against the computer also its replies, so that the player is on turn again.
+     */
+    public void takeBack() {
+        if (!this.engine.undo()) {
+            System.out.println("There is no move to take back.");
+            return;
+        }
+        while (this.engine.getCurrentPlayer() instanceof ComputerPlayer && this.engine.undo()) {
+            // Keep taking back until a person is to move.
+        }
+    }
+
+    /**
+     * Performs the next move for the current player and reports the result on the screen.
+     *
+     * @param x The X-coordinate of the set on the game board.
+     * @param y The Y-coordinate of the set on the game board.
+     */
+    public void nextPlayerMove(int x, int y) {
+        switch (this.engine.nextPlayerMove(x, y)) {
+            case WON:
+                this.myScreen.displayMatchOver(this.rules.getWinMasks().direction(this.engine.getWinningLine()));
+                break;
+            case REJECTED_TAKEN:
+                System.out.println("Selected coordinate is taken!.");
+                break;
+            case REJECTED_NOT_OWN:
+                System.out.println("You already placed " + this.rules.getMaxPieces() + " pieces. \nTake 1 of your pieces.");
+                break;
+            case REJECTED_OUT_OF_BOARD:
+                System.out.println("Selected coordinate is not on the board!.");
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Handles the restart functionality of the game based on the user's input.
+     *
+     * @return The user's choice after the restart (1 for rematch, 2 for exit).
+     */
+    public int restart() {
+        int action = this.myScreen.restartGame();
+        if (action == 1) {
+            this.rematch();
+        } else if (action == 2) {
+            this.myScreen.exitScreen();
+        }
+        return action;
+    }
+
+    /**
+     * Handles the end of the game, displays the winner's name (if any), the final game board, and informs the user.
+     */
+    public void gameOver() {
+        this.myBoard.displayBoard();
+        this.myScreen.displayWinner(this.engine.getWinner().getName());
+    }
+
+    /**
+     * Displays the name of the current player's turn on the screen and retrieves their chosen coordinate.
+     *
+     * @return The selected coordinate from the current player.
+     */
+    private int[] displayCurrentPlayerTurn() {
+        Player player = this.engine.getCurrentPlayer();
+        this.myScreen.displayName(player.getName());
+        if (player instanceof ComputerPlayer) {
+            return ((ComputerPlayer) player).chooseMove(this.engine);
+        }
+        return this.myScreen.getCoordinate(this.rules.getSize());
+    }
+
+    /**
+     * Initializes the game by prompting players to enter their names. The players and rule tables are prepared
+     * while the loading animation plays. A game started again from the main menu reuses its engine.
+     */
+    private void initialize() {
+        String name, character;
+        name = this.myScreen.nameInput("Player 1:");
+        character = this.myScreen.characterInput();
+        Player player1 = new Player(name, character, this.rules);
+
+        int opponent = this.myScreen.opponentMenu();
+        String computerCharacter = "O".equals(character) ? "X" : "O";
+        if (opponent != 2 && opponent != 3) {
+            name = this.myScreen.nameInput("Player 2:");
+            character = this.myScreen.characterInput();
+        }
+
+        LoadingScreen loading = this.myScreen.startLoading("Loading");
+        this.rules.precompute();
+        Player player2;
+        if (opponent == 2) {
+            player2 = new ComputerPlayer("Computer", computerCharacter, this.rules,
+                    ComputerPlayer.DEFAULT_BUDGET_NANOS, this.positions);
+        } else if (opponent == 3) {
+            player2 = new MonteCarloPlayer("Computer", computerCharacter, this.rules);
+        } else {
+            player2 = new Player(name, character, this.rules);
+        }
+        if (this.engine == null) {
+            this.engine = new GameEngine(this.myBoard, player1, player2);
+        } else {
+            this.engine.reset(player1, player2);
+        }
+        loading.finish();
+    }
+
+    /**
+     * Restarts the game, allowing players to have a rematch by resetting the game state.
+     * This method resets the game board, players' states, and sets the game state to not over.
+     */
+    private void rematch() {
+        this.engine.reset();
+    }
+
+}
\ No newline at end of file
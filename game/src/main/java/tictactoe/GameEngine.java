@@ -0,0 +1,419 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.GameEngine` class applies the Tic-Tac-Toe rules without any input or output.
+ * <p>
+ *     The engine takes a coordinate for the player whose turn it is and returns a `tictactoe.MoveResult`.
+ *     It never reads from or writes to the console, so matches can be driven by the console, bots or servers.
+ * </p>
+ * <p>
+ *     Accepted moves are kept in a `tictactoe.MoveHistory`, so moves can be taken back with `undo` and played
+ *     again with `redo` in constant time.
+ * </p>
+ */
+public class GameEngine {
+    /**
+     * The number of moves an engine can undo.
+     */
+    public static final int HISTORY_CAPACITY = 1024;
+
+    private final Rules rules;
+    private final Board board;
+    private Player player1;
+    private Player player2;
+    private boolean turn;
+    private boolean over;
+    private int winningLine;
+    private final MoveHistory history;
+    private MoveListener listener;
+
+    /**
+     * Constructs a new `tictactoe.GameEngine` for the standard rules on its own headless board.
+     *
+     * @param player1 The first player.
+     * @param player2 The second player, who moves first.
+     */
+    public GameEngine(Player player1, Player player2) {
+        this(new Board(), player1, player2);
+    }
+
+    /**
+     * Constructs a new `tictactoe.GameEngine` on its own headless board.
+     *
+     * @param rules   The variant to play.
+     * @param player1 The first player, created for the same rules.
+     * @param player2 The second player, created for the same rules, who moves first.
+     */
+    public GameEngine(Rules rules, Player player1, Player player2) {
+        this(new Board(rules), player1, player2);
+    }
+
+    /**
+     * Constructs a new `tictactoe.GameEngine` that plays on the given board.
+     *
+     * @param board   The board the pieces are placed on, which sets the rules of the match.
+     * @param player1 The first player, created for the same rules.
+     * @param player2 The second player, created for the same rules, who moves first.
+     */
+    public GameEngine(Board board, Player player1, Player player2) {
+        this.rules = board.getRules();
+        this.board = board;
+        this.player1 = player1;
+        this.player2 = player2;
+        this.turn = true;
+        this.over = false;
+        this.winningLine = WinMasks.NONE;
+        this.history = new MoveHistory(HISTORY_CAPACITY);
+    }
+
+    /**
+     * Performs the next move for the player whose turn it is.
+     * <p>
+     *      This method checks the player's current state and the availability of a set at the specified coordinates
+     *      (x, y) on the game board and takes appropriate action based on the following conditions:
+     * </p>
+     *
+     * <p>
+     *      - If the player has fewer sets than the piece limit and the specified location (x, y) is unoccupied,
+     *        a set is added.
+     *      - If the player already has all their sets and the specified location (x, y) is theirs, a set is taken.
+     * </p>
+     *
+     * @param x The X-coordinate of the set on the game board.
+     * @param y The Y-coordinate of the set on the game board.
+     * @return The result of the move.
+     */
+    public MoveResult nextPlayerMove(int x, int y) {
+        MoveResult result = this.move(x, y);
+        GameMetrics.get().onMove(result);
+        if (result == MoveResult.WON) {
+            GameMetrics.get().onGameOver(this.history.getPlies());
+        }
+        return result;
+    }
+
+    /**
+     * Validates and applies a move for the player whose turn it is.
+     *
+     * @param x The X-coordinate of the set on the game board.
+     * @param y The Y-coordinate of the set on the game board.
+     * @return The result of the move.
+     */
+    private MoveResult move(int x, int y) {
+        if (this.over) {
+            return MoveResult.REJECTED_GAME_OVER;
+        }
+        if (!this.rules.isOnBoard(x, y)) {
+            return MoveResult.REJECTED_OUT_OF_BOARD;
+        }
+        Player player = this.getCurrentPlayer();
+        if (player.getSizeSet() < this.rules.getMaxPieces()) {
+            if (!this.board.isFreeSet(x, y)) {
+                return MoveResult.REJECTED_TAKEN;
+            }
+            boolean turn = this.turn;
+            this.addSet(player, x, y);
+            boolean won = this.setChecker(player, this.rules.index(x, y));
+            this.history.push(MoveHistory.entry(this.rules.index(x, y), 0, this.number(player), turn, won));
+            return won ? MoveResult.WON : MoveResult.PLACED;
+        }
+        if (this.board.isFreeSet(x, y) || !player.isSetTaken(x, y)) {
+            return MoveResult.REJECTED_NOT_OWN;
+        }
+        this.takeSet(player, x, y);
+        int number = this.number(player);
+        this.history.push(MoveHistory.entry(this.rules.index(x, y), number, number, this.turn, false));
+        return MoveResult.LIFTED;
+    }
+
+    /**
+     * Performs the next move for the player whose turn it is on the given cell.
+     *
+     * @param cell The cell index, as given by `Rules.index`.
+     * @return The result of the move.
+     */
+    public MoveResult play(int cell) {
+        return this.nextPlayerMove(this.rules.x(cell), this.rules.y(cell));
+    }
+
+    /**
+     * Takes back the latest move: a placed piece is lifted again, a lifted piece is put back, and the turn and
+     * the end of the match are restored. The listener sees the lift or placement that reverses the move.
+     *
+     * @return False if there is no move to take back.
+     */
+    public boolean undo() {
+        if (this.history.size() == 0) {
+            return false;
+        }
+        int entry = this.history.undo();
+        int cell = MoveHistory.cellOf(entry);
+        Player player = MoveHistory.playerOf(entry) == 1 ? this.player1 : this.player2;
+        if (MoveHistory.occupantOf(entry) == 0) {
+            this.takeSet(player, this.rules.x(cell), this.rules.y(cell));
+        } else {
+            this.addSet(player, this.rules.x(cell), this.rules.y(cell));
+        }
+        this.turn = MoveHistory.turnOf(entry);
+        if (MoveHistory.wonOf(entry)) {
+            this.over = false;
+            this.winningLine = WinMasks.NONE;
+        }
+        return true;
+    }
+
+    /**
+     * Plays the latest move taken back by `undo` again.
+     *
+     * @return The result of the move, or null if there is no move to redo.
+     */
+    public MoveResult redo() {
+        if (this.history.getRedoable() == 0) {
+            return null;
+        }
+        int entry = this.history.redo();
+        int cell = MoveHistory.cellOf(entry);
+        Player player = MoveHistory.playerOf(entry) == 1 ? this.player1 : this.player2;
+        if (MoveHistory.occupantOf(entry) != 0) {
+            this.takeSet(player, this.rules.x(cell), this.rules.y(cell));
+            return MoveResult.LIFTED;
+        }
+        this.addSet(player, this.rules.x(cell), this.rules.y(cell));
+        return this.setChecker(player, cell) ? MoveResult.WON : MoveResult.PLACED;
+    }
+
+    /**
+     * Retrieves the moves played so far, oldest first.
+     *
+     * @return The history of the match, which changes as moves are played and undone.
+     */
+    public MoveHistory getHistory() {
+        return this.history;
+    }
+
+    /**
+     * Returns the cells the player whose turn it is may select: free cells while they have pieces left to
+     * place, and their own pieces once they must lift one.
+     *
+     * @return The mask of the legal cells, or 0 if the match is over.
+     */
+    public long legalMoves() {
+        if (this.over) {
+            return 0;
+        }
+        Player player = this.getCurrentPlayer();
+        if (player.getSizeSet() < this.rules.getMaxPieces()) {
+            return ~this.board.getOccupied() & this.rules.getFullMask();
+        }
+        return player.getMySet();
+    }
+
+    /**
+     * Resets the board and both players so that a new match can start.
+     */
+    public void reset() {
+        this.board.resetBoard();
+        this.player1.resetPlayer();
+        this.player2.resetPlayer();
+        this.turn = true;
+        this.over = false;
+        this.winningLine = WinMasks.NONE;
+        this.history.clear();
+        if (this.listener != null) {
+            this.listener.onReset();
+        }
+    }
+
+    /**
+     * Resets the engine in place for a new match between other players, keeping the board, the history and the
+     * listener.
+     *
+     * @param player1 The first player, created for the same rules.
+     * @param player2 The second player, created for the same rules, who moves first.
+     */
+    public void reset(Player player1, Player player2) {
+        this.player1 = player1;
+        this.player2 = player2;
+        this.reset();
+    }
+
+    /**
+     * Sets the listener notified of every piece placed or lifted and of the win.
+     *
+     * @param listener The listener, or null to stop notifying.
+     */
+    public void setMoveListener(MoveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Retrieves the player whose turn it is.
+     *
+     * @return The player to move.
+     */
+    public Player getCurrentPlayer() {
+        return this.turn ? this.player2 : this.player1;
+    }
+
+    /**
+     * Retrieves the player waiting for their turn.
+     *
+     * @return The player not to move.
+     */
+    public Player getOpponent() {
+        return this.turn ? this.player1 : this.player2;
+    }
+
+    /**
+     * Retrieves the player who completed a line.
+     *
+     * @return The winner, or null if the match is not over.
+     */
+    public Player getWinner() {
+        if (!this.over) {
+            return null;
+        }
+        // The turn already passed to the loser when the winning piece was placed.
+        return this.turn ? this.player1 : this.player2;
+    }
+
+    /**
+     * Retrieves the line that ended the match.
+     *
+     * @return The line index in the rules' `tictactoe.WinMasks`, or `WinMasks.NONE` if the match is not over.
+     */
+    public int getWinningLine() {
+        return this.winningLine;
+    }
+
+    /**
+     * Checks if the match is over.
+     *
+     * @return True if a player completed a line, otherwise false.
+     */
+    public boolean isOver() {
+        return this.over;
+    }
+
+    /**
+     * Returns the side to move.
+     *
+     * @return True if it is player 2's turn, otherwise false.
+     */
+    public boolean isTurn() {
+        return this.turn;
+    }
+
+    /**
+     * Returns the current position of a 3x3 match packed as a `tictactoe.BitBoard` state.
+     *
+     * @return The packed state of both players' pieces and the side to move.
+     * @throws IllegalStateException If the board is larger than 3x3.
+     */
+    public int getState() {
+        if (this.rules.getCells() != BitBoard.CELLS) {
+            throw new IllegalStateException("Only 3x3 positions can be packed into a BitBoard state.");
+        }
+        return BitBoard.pack((int) this.player1.getMySet(), (int) this.player2.getMySet(), this.turn);
+    }
+
+    /**
+     * Retrieves the variant the match is played with.
+     *
+     * @return The rules of the match.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Retrieves the board the match is played on.
+     *
+     * @return The game board.
+     */
+    public Board getBoard() {
+        return this.board;
+    }
+
+    /**
+     * Retrieves the first player.
+     *
+     * @return Player 1.
+     */
+    public Player getPlayer1() {
+        return this.player1;
+    }
+
+    /**
+     * Retrieves the second player.
+     *
+     * @return Player 2.
+     */
+    public Player getPlayer2() {
+        return this.player2;
+    }
+
+    /**
+     * Adds a player's character to the specified coordinate on the game board and updates the turn to the next player.
+     *
+     * @param player The player making the move.
+     * @param x      The X-coordinate on the game board.
+     * @param y      The Y-coordinate on the game board.
+     */
+    private void addSet(Player player, int x, int y) {
+        player.setMySet(x, y);
+        this.board.updateSet(x, y, player.getCharacter());
+        this.turn = !this.turn;
+        if (this.listener != null) {
+            this.listener.onPlace(this.rules.index(x, y), this.number(player));
+        }
+    }
+
+    /**
+     * Takes back a player's character from the specified coordinate on the game board.
+     *
+     * @param player The player taking back their move.
+     * @param x      The X-coordinate on the game board.
+     * @param y      The Y-coordinate on the game board.
+     */
+    private void takeSet(Player player, int x, int y) {
+        player.removeMySet(x, y);
+        this.board.updateSet(x, y, " ");
+        if (this.listener != null) {
+            this.listener.onLift(this.rules.index(x, y), this.number(player));
+        }
+    }
+
+    /**
+     * Returns the number of a player of the match.
+     *
+     * @param player Player 1 or player 2.
+     * @return 1 or 2.
+     */
+    private int number(Player player) {
+        return player == this.player1 ? 1 : 2;
+    }
+
+    /**
+     * Checks if a player's pieces complete a line and ends the match if they do.
+     *
+     * @param player The player whose pieces are checked.
+     * @param cell   The cell index of the piece the player placed last.
+     * @return True if the player won, otherwise false.
+     */
+    private boolean setChecker(Player player, int cell) {
+        GameMetrics metrics = GameMetrics.get();
+        long start = metrics.sample(GameMetrics.WIN_CHECK_SAMPLING);
+        int line = this.rules.getWinMasks().winningLine(player.getMySet(), cell);
+        metrics.stop(metrics.getWinCheckTimes(), start);
+        if (line == WinMasks.NONE) {
+            return false;
+        }
+        this.winningLine = line;
+        this.over = true;
+        if (this.listener != null) {
+            this.listener.onWin(this.number(player), this.rules.getWinMasks().direction(line));
+        }
+        return true;
+    }
+}
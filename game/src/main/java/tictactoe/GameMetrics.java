@@ -0,0 +1,291 @@
+package tictactoe;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * The `tictactoe.GameMetrics` class counts what the game loop does, for capacity planning and for catching
+ * regressions.
+ * <p>
+ *     It records the result of every move played through a `tictactoe.GameEngine`, split by rejection reason,
+ *     the length of every won match in moves, and the time of every win check, every board drawing and every
+ *     wait for a typed move. Counters are `LongAdder`s and timings go into `tictactoe.Histogram`s, so recording
+ *     takes no lock even when many engines play at once. Timings cost two clock reads each and can be turned
+ *     off; the counters always run. Win checks are too quick to time every one without slowing the engine down
+ *     noticeably, so one in `WIN_CHECK_SAMPLING` is timed.
+ * </p>
+ * <p>
+ *     One instance serves the whole process. It can be read through JMX once `register` is called, or as plain
+ *     text with `dump`.
+ * </p>
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+    /**
+     * The JMX name the metrics are registered under.
+     */
+    public static final String OBJECT_NAME = "tictactoe:type=GameMetrics";
+
+    /**
+     * The number of win checks per timed win check.
+     */
+    public static final int WIN_CHECK_SAMPLING = 64;
+
+    /**
+     * The start time returned by `start` while timings are off.
+     */
+    static final long OFF = Long.MIN_VALUE;
+
+    private static final MoveResult[] RESULTS = MoveResult.values();
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    private final LongAdder[] results;
+    private final Histogram gameLength;
+    private final Histogram winCheck;
+    private final Histogram render;
+    private final Histogram inputWait;
+    private volatile boolean enabled;
+    private boolean registered;
+
+    private GameMetrics() {
+        this.results = new LongAdder[RESULTS.length];
+        for (int r = 0; r < RESULTS.length; r++) {
+            this.results[r] = new LongAdder();
+        }
+        this.gameLength = new Histogram();
+        this.winCheck = new Histogram();
+        this.render = new Histogram();
+        this.inputWait = new Histogram();
+        this.enabled = true;
+    }
+
+    /**
+     * Retrieves the metrics of the process.
+     *
+     * @return The shared instance.
+     */
+    public static GameMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under `OBJECT_NAME`. Calling it again does nothing.
+     *
+     * @throws IllegalStateException If the MBean server refuses the registration.
+     */
+    public synchronized void register() {
+        if (this.registered) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Registered by another class loader of the same process.
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register the game metrics.", e);
+        }
+        this.registered = true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Retrieves the number of moves that ended with a result.
+     *
+     * @param result The result.
+     * @return The moves with that result.
+     */
+    public long getMoves(MoveResult result) {
+        return this.results[result.ordinal()].sum();
+    }
+
+    @Override
+    public long getMovesApplied() {
+        long applied = 0;
+        for (MoveResult result : RESULTS) {
+            if (result.isAccepted()) {
+                applied += this.getMoves(result);
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public long getMovesRejected() {
+        long rejected = 0;
+        for (MoveResult result : RESULTS) {
+            if (!result.isAccepted()) {
+                rejected += this.getMoves(result);
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public long getRejectedTaken() {
+        return this.getMoves(MoveResult.REJECTED_TAKEN);
+    }
+
+    @Override
+    public long getRejectedNotOwn() {
+        return this.getMoves(MoveResult.REJECTED_NOT_OWN);
+    }
+
+    @Override
+    public long getRejectedOutOfBoard() {
+        return this.getMoves(MoveResult.REJECTED_OUT_OF_BOARD);
+    }
+
+    @Override
+    public long getRejectedGameOver() {
+        return this.getMoves(MoveResult.REJECTED_GAME_OVER);
+    }
+
+    @Override
+    public long getGamesFinished() {
+        return this.gameLength.getCount();
+    }
+
+    @Override
+    public double getGameLengthMean() {
+        return this.gameLength.getMean();
+    }
+
+    @Override
+    public long getGameLengthP99() {
+        return this.gameLength.getPercentile(99);
+    }
+
+    @Override
+    public double getWinCheckMeanNanos() {
+        return this.winCheck.getMean();
+    }
+
+    @Override
+    public long getWinCheckP99Nanos() {
+        return this.winCheck.getPercentile(99);
+    }
+
+    @Override
+    public double getRenderMeanNanos() {
+        return this.render.getMean();
+    }
+
+    @Override
+    public long getRenderP99Nanos() {
+        return this.render.getPercentile(99);
+    }
+
+    @Override
+    public double getInputWaitMeanNanos() {
+        return this.inputWait.getMean();
+    }
+
+    @Override
+    public long getInputWaitP99Nanos() {
+        return this.inputWait.getPercentile(99);
+    }
+
+    /**
+     * Retrieves the lengths of won matches, in moves.
+     *
+     * @return The histogram of match lengths.
+     */
+    public Histogram getGameLengths() {
+        return this.gameLength;
+    }
+
+    /**
+     * Retrieves the times of the sampled win checks, in nanoseconds.
+     *
+     * @return The histogram of win check times.
+     */
+    public Histogram getWinCheckTimes() {
+        return this.winCheck;
+    }
+
+    /**
+     * Retrieves the times to draw the board, in nanoseconds.
+     *
+     * @return The histogram of drawing times.
+     */
+    public Histogram getRenderTimes() {
+        return this.render;
+    }
+
+    /**
+     * Retrieves the times spent waiting for typed moves, in nanoseconds.
+     *
+     * @return The histogram of input waits.
+     */
+    public Histogram getInputWaitTimes() {
+        return this.inputWait;
+    }
+
+    @Override
+    public String dump() {
+        StringBuilder text = new StringBuilder();
+        for (MoveResult result : RESULTS) {
+            text.append("moves.").append(result.name().toLowerCase()).append(' ').append(this.getMoves(result))
+                    .append('\n');
+        }
+        text.append("games.length ").append(this.gameLength).append('\n');
+        text.append("time.win_check_ns ").append(this.winCheck).append('\n');
+        text.append("time.render_ns ").append(this.render).append('\n');
+        text.append("time.input_wait_ns ").append(this.inputWait).append('\n');
+        return text.toString();
+    }
+
+    /**
+     * Counts the result of a move.
+     */
+    void onMove(MoveResult result) {
+        this.results[result.ordinal()].increment();
+    }
+
+    /**
+     * Counts a won match.
+     */
+    void onGameOver(int moves) {
+        this.gameLength.record(moves);
+    }
+
+    /**
+     * Reads the clock for a timing.
+     *
+     * @return The start time, or `OFF` if timings are off.
+     */
+    long start() {
+        return this.enabled ? System.nanoTime() : OFF;
+    }
+
+    /**
+     * Reads the clock for a sampled timing.
+     *
+     * @param sampling The number of calls per timed call.
+     * @return The start time, or `OFF` if this call is not timed or timings are off.
+     */
+    long sample(int sampling) {
+        return this.enabled && ThreadLocalRandom.current().nextInt(sampling) == 0 ? System.nanoTime() : OFF;
+    }
+
+    /**
+     * Records the time since `start` in a histogram, unless timings were off when it started.
+     */
+    void stop(Histogram histogram, long start) {
+        if (start != OFF) {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+}
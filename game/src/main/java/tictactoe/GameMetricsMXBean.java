@@ -0,0 +1,133 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.GameMetricsMXBean` interface is the JMX view of `tictactoe.GameMetrics`. It is registered as
+ * `tictactoe:type=GameMetrics`. Times are in nanoseconds.
+ */
+public interface GameMetricsMXBean {
+    /**
+     * Checks if timings are measured.
+     *
+     * @return True if timings are measured.
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns the measuring of timings on or off.
+     *
+     * @param enabled True to measure timings, false to skip the clock reads on the hot path.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Retrieves the number of moves that placed or lifted a piece.
+     *
+     * @return The moves that placed or lifted a piece, including winning moves.
+     */
+    long getMovesApplied();
+
+    /**
+     * Retrieves the number of rejected moves.
+     *
+     * @return The moves rejected for any reason.
+     */
+    long getMovesRejected();
+
+    /**
+     * Retrieves the number of moves rejected with `MoveResult.REJECTED_TAKEN`.
+     *
+     * @return The moves rejected because the cell was taken.
+     */
+    long getRejectedTaken();
+
+    /**
+     * Retrieves the number of moves rejected with `MoveResult.REJECTED_NOT_OWN`.
+     *
+     * @return The moves rejected because the player had to lift one of their own pieces.
+     */
+    long getRejectedNotOwn();
+
+    /**
+     * Retrieves the number of moves rejected with `MoveResult.REJECTED_OUT_OF_BOARD`.
+     *
+     * @return The moves rejected because the cell was not on the board.
+     */
+    long getRejectedOutOfBoard();
+
+    /**
+     * Retrieves the number of moves rejected with `MoveResult.REJECTED_GAME_OVER`.
+     *
+     * @return The moves rejected because the match was over.
+     */
+    long getRejectedGameOver();
+
+    /**
+     * Retrieves the number of won matches.
+     *
+     * @return The matches won.
+     */
+    long getGamesFinished();
+
+    /**
+     * Retrieves the mean length of a won match.
+     *
+     * @return The mean number of moves of a won match.
+     */
+    double getGameLengthMean();
+
+    /**
+     * Retrieves the 99th percentile of the length of a won match.
+     *
+     * @return The 99th percentile of the number of moves of a won match.
+     */
+    long getGameLengthP99();
+
+    /**
+     * Retrieves the mean time of a win check.
+     *
+     * @return The mean time of a win check.
+     */
+    double getWinCheckMeanNanos();
+
+    /**
+     * Retrieves the 99th percentile of the time of a win check.
+     *
+     * @return The 99th percentile of the time of a win check.
+     */
+    long getWinCheckP99Nanos();
+
+    /**
+     * Retrieves the mean time to draw the board.
+     *
+     * @return The mean time to draw the board.
+     */
+    double getRenderMeanNanos();
+
+    /**
+     * Retrieves the 99th percentile of the time to draw the board.
+     *
+     * @return The 99th percentile of the time to draw the board.
+     */
+    long getRenderP99Nanos();
+
+    /**
+     * Retrieves the mean time spent waiting for a player to type a move.
+     *
+     * @return The mean time spent waiting for a player to type a move.
+     */
+    double getInputWaitMeanNanos();
+
+    /**
+     * Retrieves the 99th percentile of the time spent waiting for a player to type a move.
+     *
+     * @return The 99th percentile of the time spent waiting for a player to type a move.
+     */
+    long getInputWaitP99Nanos();
+
+    /**
+     * Formats every metric as plain text.
+     *
+     * @return The metrics, one per line.
+     */
+    String dump();
+}
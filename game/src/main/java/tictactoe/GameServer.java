@@ -0,0 +1,246 @@
+package tictactoe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * The `tictactoe.GameServer` class accepts TCP connections and pairs them into matches.
+ * <p>
+ *     Every two connections in the order they arrive form a `tictactoe.GameSession`, which blocks on the
+ *     sockets of its own match only. Sessions run on virtual threads when the runtime has them (Java 21 and
+ *     later), so one node can hold tens of thousands of concurrent matches; older runtimes fall back to one
+ *     platform thread per match. A client waiting for an opponent is watched until it is paired: what it sends
+ *     before its match starts is dropped, and one that leaves gives its place to the next client instead of
+ *     being matched.
+ * </p>
+ * <p>
+ *     The players, engine, board and spectator channel of a finished match are reset in place and kept in a
+ *     `tictactoe.MatchContextPool` for the next match, so steady traffic does not churn the heap with one set
+ *     of them per match.
+ * </p>
+ */
+public class GameServer implements Closeable {
+    /**
+     * The number of finished matches whose objects are kept for the next matches.
+     */
+    public static final int POOLED_MATCHES = 1024;
+
+    /**
+     * The time, in milliseconds, a client may stay silent on its turn before the match is abandoned.
+     */
+    public static final int IDLE_TIMEOUT_MILLIS = 300_000;
+
+    private static final Logger LOGGER = Logger.getLogger(GameServer.class.getName());
+
+    private final Rules rules;
+    private final MatchContextPool contexts;
+    private final ExecutorService executor;
+    private final Set<GameSession> sessions;
+    private final Object lock;
+    private ServerSocket serverSocket;
+    private ClientConnection waiting;
+
+    /**
+     * Constructs a new `tictactoe.GameServer`.
+     *
+     * @param rules The variant every match is played with.
+     */
+    public GameServer(Rules rules) {
+        this(rules, null);
+    }
+
+    /**
+     * Constructs a new `tictactoe.GameServer` that archives every match.
+     *
+     * @param rules    The variant every match is played with.
+     * @param recorder The recorder the moves of every match are appended to, or null to keep no trace. The
+     *                 caller closes it after the server.
+     */
+    public GameServer(Rules rules, MoveRecorder recorder) {
+        this.rules = rules;
+        this.contexts = new MatchContextPool(rules, recorder, POOLED_MATCHES);
+        this.executor = newSessionExecutor();
+        this.sessions = ConcurrentHashMap.newKeySet();
+        this.lock = new Object();
+    }
+
+    /**
+     * Binds the server and starts accepting connections on a background thread.
+     *
+     * @param port The TCP port, or 0 to pick a free one.
+     * @throws IOException If the port cannot be bound.
+     */
+    public void start(int port) throws IOException {
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(new InetSocketAddress(port), 1024);
+        Thread acceptor = new Thread(this::acceptLoop, "tictactoe-acceptor");
+        acceptor.start();
+        LOGGER.info("Serving " + this.rules + " on port " + this.getPort());
+    }
+
+    /**
+     * Retrieves the port the server is bound to.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Retrieves the number of matches being played.
+     *
+     * @return The number of running sessions.
+     */
+    public int getActiveSessions() {
+        return this.sessions.size();
+    }
+
+    /**
+     * Checks if a client is waiting for an opponent.
+     *
+     * @return True if the next client to connect starts a match.
+     */
+    public boolean isWaiting() {
+        synchronized (this.lock) {
+            return this.waiting != null;
+        }
+    }
+
+    /**
+     * Stops accepting connections and ends every running match.
+     */
+    @Override
+    public void close() {
+        try {
+            if (this.serverSocket != null) {
+                this.serverSocket.close();
+            }
+        } catch (IOException ignored) {
+            // The acceptor stops either way.
+        }
+        synchronized (this.lock) {
+            if (this.waiting != null) {
+                this.waiting.close();
+                this.waiting = null;
+            }
+        }
+        for (GameSession session : this.sessions) {
+            session.close();
+        }
+        this.executor.shutdown();
+    }
+
+    private void acceptLoop() {
+        while (!this.serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = this.serverSocket.accept();
+            } catch (IOException e) {
+                return;
+            }
+            try {
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+                this.pair(new ClientConnection(socket));
+            } catch (IOException e) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                    // The client is already gone.
+                }
+            }
+        }
+    }
+
+    /**
+     * Pairs a new connection with the one waiting for an opponent, or makes it wait. Only the acceptor thread
+     * pairs, and it sends nothing while holding the lock.
+     */
+    private void pair(ClientConnection connection) throws IOException {
+        ClientConnection opponent;
+        synchronized (this.lock) {
+            opponent = this.waiting;
+            this.waiting = opponent == null ? connection : null;
+        }
+        if (opponent == null) {
+            try {
+                connection.send("WAITING");
+            } catch (IOException e) {
+                synchronized (this.lock) {
+                    if (this.waiting == connection) {
+                        this.waiting = null;
+                    }
+                }
+                throw e;
+            }
+            this.executor.execute(() -> this.watch(connection));
+            return;
+        }
+        GameSession session = new GameSession(this.contexts.acquire(), opponent, connection);
+        this.sessions.add(session);
+        this.executor.execute(() -> {
+            try {
+                session.run();
+            } finally {
+                this.sessions.remove(session);
+                this.contexts.release(session.getContext());
+            }
+        });
+    }
+
+    /**
+     * Watches the waiting connection until it is paired. Lines the client sends before its match starts are
+     * dropped, and a client that leaves while it is still waiting is dropped too, so the next client waits in its
+     * place.
+     */
+    private void watch(ClientConnection connection) {
+        while (true) {
+            boolean open;
+            try {
+                open = connection.awaitInput();
+            } catch (SocketTimeoutException e) {
+                // Waiting for an opponent is not idling on a turn, so the watch goes on while the client waits.
+                open = true;
+            } catch (IOException e) {
+                open = false;
+            }
+            synchronized (this.lock) {
+                if (this.waiting != connection) {
+                    // Paired: what the client sent since is read by its session.
+                    return;
+                }
+                if (open) {
+                    // Pairing waits for the lock before it sends START, so these bytes cannot be a move.
+                    connection.discardInput();
+                    continue;
+                }
+                this.waiting = null;
+            }
+            connection.close();
+            return;
+        }
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread per session, or a cached pool of platform threads on
+     * runtimes without virtual threads. The virtual thread factory is looked up reflectively so the game still
+     * runs on Java 8.
+     */
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
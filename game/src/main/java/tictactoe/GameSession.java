@@ -0,0 +1,156 @@
+package tictactoe;
+
+import java.io.IOException;
+
+/**
+ * The `tictactoe.GameSession` class plays one match between two clients of the `tictactoe.GameServer`.
+ * <p>
+ *     The session drives a `tictactoe.GameEngine` with a line-based protocol. The server sends:
+ * </p>
+ * <ul>
+ *     <li>`WAITING` while a client has no opponent yet,</li>
+ *     <li>`START &lt;piece&gt; &lt;size&gt; &lt;winLength&gt; &lt;maxPieces&gt;` when the match begins,</li>
+ *     <li>`BOARD &lt;cells&gt;` with every cell row by row, `.` marking a free cell,</li>
+ *     <li>`TURN` to the client that must move,</li>
+ *     <li>`ERROR &lt;message&gt;` when a line cannot be parsed or the move is rejected; the client stays on turn,</li>
+ *     <li>`WIN`, `LOSE` or `OPPONENT_LEFT` when the match ends.</li>
+ * </ul>
+ * <p>
+ *     A client answers `TURN` with a coordinate in the syntax of the console, e.g. `1, 2`, or with `QUIT`.
+ *     Player 2 moves first, as in the console game. Lines sent by a client while it is not its turn are read
+ *     once its turn comes.
+ * </p>
+ */
+class GameSession implements Runnable {
+    private final MatchContext context;
+    private final Rules rules;
+    private final ClientConnection connection1;
+    private final ClientConnection connection2;
+    private final Player player1;
+    private final Player player2;
+    private final GameEngine engine;
+
+    /**
+     * Constructs a new `tictactoe.GameSession`.
+     *
+     * @param context     The context to play the match with, freshly built or reset.
+     * @param connection1 The client playing `X` as player 1.
+     * @param connection2 The client playing `O` as player 2, who moves first.
+     */
+    GameSession(MatchContext context, ClientConnection connection1, ClientConnection connection2) {
+        this.context = context;
+        this.rules = context.getRules();
+        this.connection1 = connection1;
+        this.connection2 = connection2;
+        this.player1 = context.getPlayer1();
+        this.player2 = context.getPlayer2();
+        this.engine = context.getEngine();
+    }
+
+    /**
+     * Plays the match until a client wins or leaves, then closes both connections.
+     */
+    @Override
+    public void run() {
+        try {
+            this.play();
+        } catch (IOException e) {
+            this.connection1.sendQuietly("OPPONENT_LEFT");
+            this.connection2.sendQuietly("OPPONENT_LEFT");
+        } finally {
+            this.close();
+        }
+    }
+
+    /**
+     * Retrieves the channel broadcasting the moves of the match to spectators.
+     *
+     * @return The channel.
+     */
+    SpectatorChannel getSpectators() {
+        return this.context.getSpectators();
+    }
+
+    /**
+     * Retrieves the context the match is played with, which may be released once `run` has returned.
+     *
+     * @return The context.
+     */
+    MatchContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * Closes both connections, which also ends a match blocked waiting for a move.
+     */
+    void close() {
+        this.connection1.close();
+        this.connection2.close();
+    }
+
+    private void play() throws IOException {
+        String variant = " " + this.rules.getSize() + " " + this.rules.getWinLength() + " " + this.rules.getMaxPieces();
+        this.connection1.send("START " + this.player1.getCharacter() + variant);
+        this.connection2.send("START " + this.player2.getCharacter() + variant);
+
+        while (true) {
+            ClientConnection mover = this.engine.getCurrentPlayer() == this.player1 ? this.connection1 : this.connection2;
+            ClientConnection waiting = mover == this.connection1 ? this.connection2 : this.connection1;
+            String board = this.context.boardLine();
+            mover.send(board);
+            waiting.send(board);
+            mover.send("TURN");
+
+            MoveResult result = this.readMove(mover);
+            if (result == null) {
+                waiting.send("OPPONENT_LEFT");
+                return;
+            }
+            if (result == MoveResult.WON) {
+                board = this.context.boardLine();
+                mover.send(board);
+                waiting.send(board);
+                mover.send("WIN");
+                waiting.send("LOSE");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads lines from the client on turn until one of them is an accepted move.
+     *
+     * @return The result of the accepted move, or null if the client quit.
+     */
+    private MoveResult readMove(ClientConnection mover) throws IOException {
+        while (true) {
+            InputLine line = mover.readLine();
+            if (line == null || line.isWord("QUIT")) {
+                return null;
+            }
+            long coordinate = line.parseCoordinate(this.rules.getSize());
+            if (coordinate < 0) {
+                mover.send("ERROR " + InputParser.describe(coordinate, this.rules.getSize()));
+                continue;
+            }
+            MoveResult result = this.engine.nextPlayerMove(InputParser.x(coordinate), InputParser.y(coordinate));
+            if (result.isAccepted()) {
+                return result;
+            }
+            mover.send("ERROR " + this.describe(result));
+        }
+    }
+
+    private String describe(MoveResult result) {
+        switch (result) {
+            case REJECTED_TAKEN:
+                return "Selected coordinate is taken!.";
+            case REJECTED_NOT_OWN:
+                return "You already placed " + this.rules.getMaxPieces() + " pieces. Take 1 of your pieces.";
+            case REJECTED_OUT_OF_BOARD:
+                return "Selected coordinate is not on the board!.";
+            default:
+                return "The match is over.";
+        }
+    }
+}
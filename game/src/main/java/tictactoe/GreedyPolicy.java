@@ -0,0 +1,59 @@
+package tictactoe;
+
+import java.util.SplittableRandom;
+
+/**
+ * The `tictactoe.GreedyPolicy` class looks one move ahead.
+ * <p>
+ *     It completes a line when it can and otherwise blocks a cell that would complete a line for the
+ *     opponent. Every other move, lifts included, goes to the cell with the best
+ *     `WinMasks.openLineScore`, with ties broken at random.
+ * </p>
+ */
+public class GreedyPolicy implements MovePolicy {
+    private SplittableRandom random = new SplittableRandom();
+
+    @Override
+    public void reset(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int chooseMove(GameEngine engine) {
+        WinMasks winMasks = engine.getRules().getWinMasks();
+        long mine = engine.getCurrentPlayer().getMySet();
+        long theirs = engine.getOpponent().getMySet();
+        long cells = engine.legalMoves();
+        boolean lift = Long.bitCount(mine) == engine.getRules().getMaxPieces();
+
+        if (!lift) {
+            for (long free = cells; free != 0; free &= free - 1) {
+                int cell = Long.numberOfTrailingZeros(free);
+                if (winMasks.isWin(mine | (1L << cell), cell)) {
+                    return cell;
+                }
+            }
+            for (long free = cells; free != 0; free &= free - 1) {
+                int cell = Long.numberOfTrailingZeros(free);
+                if (winMasks.isWin(theirs | (1L << cell), cell)) {
+                    return cell;
+                }
+            }
+        }
+
+        long best = 0;
+        int bestScore = Integer.MIN_VALUE;
+        for (; cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            long bit = 1L << cell;
+            int score = winMasks.openLineScore(lift ? mine & ~bit : mine | bit, theirs);
+            if (score > bestScore) {
+                bestScore = score;
+                best = bit;
+            } else if (score == bestScore) {
+                best |= bit;
+            }
+        }
+        return RandomPolicy.pick(best, this.random);
+    }
+}
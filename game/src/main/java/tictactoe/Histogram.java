@@ -0,0 +1,133 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The `tictactoe.Histogram` class counts non-negative values in log-linear buckets, in the manner of an HDR
+ * histogram.
+ * <p>
+ *     Values below 32 get a bucket each. Above that every power of two is split into 32 buckets, so a bucket is
+ *     never wider than about 3% of its values, and the whole range of a long fits in under 2,000 buckets.
+ *     Recording is one atomic increment and needs no lock, so many threads can record into one histogram.
+ *     Reads see a consistent enough picture for monitoring but are not a snapshot.
+ * </p>
+ */
+public final class Histogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (65 - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray counts;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    /**
+     * Constructs a new empty `tictactoe.Histogram`.
+     */
+    public Histogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value The value; negative values are counted as 0.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        this.counts.incrementAndGet(bucket(value));
+        this.count.increment();
+        this.sum.add(value);
+        if (value > this.max.get()) {
+            this.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return The mean, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long count = this.count.sum();
+        return count == 0 ? 0 : (double) this.sum.sum() / count;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return The maximum, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns the value below which a share of the recorded values fall.
+     *
+     * @param percentile The share, from 0 to 100.
+     * @return The upper end of the bucket holding the percentile, capped at the maximum, or 0 if nothing was
+     *         recorded.
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            total += this.counts.get(b);
+        }
+        long rank = (long) Math.ceil(percentile / 100 * total);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += this.counts.get(b);
+            if (seen >= rank && seen > 0) {
+                return Math.min(upperBound(b), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    /**
+     * Formats the count, mean and main percentiles on one line.
+     *
+     * @return The summary of the histogram.
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1f p50=%d p90=%d p99=%d max=%d", this.getCount(), this.getMean(),
+                this.getPercentile(50), this.getPercentile(90), this.getPercentile(99), this.getMax());
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (magnitude << SUB_BITS) + (int) (value >>> magnitude);
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < 2 * SUB_COUNT) {
+            return bucket;
+        }
+        int magnitude = (bucket >>> SUB_BITS) - 1;
+        long sub = bucket - ((long) magnitude << SUB_BITS);
+        long upper = ((sub + 1) << magnitude) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
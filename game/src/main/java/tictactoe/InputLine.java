@@ -0,0 +1,159 @@
+package tictactoe;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The `tictactoe.InputLine` class is a reusable buffer holding one line read from a `tictactoe.InputSource`.
+ * <p>
+ *     The line is kept as bytes without its terminator, so coordinates and menu choices are parsed with
+ *     `tictactoe.InputParser` without creating a string. Bytes past the capacity are dropped and the line is
+ *     marked as overflowed, which makes every parse of it fail.
+ * </p>
+ */
+public final class InputLine {
+    /**
+     * The capacity of a line created with the default constructor.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final byte[] bytes;
+    private int length;
+    private boolean overflow;
+    private boolean complete;
+
+    /**
+     * Constructs a new `tictactoe.InputLine` of the default capacity.
+     */
+    public InputLine() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new `tictactoe.InputLine`.
+     *
+     * @param capacity The number of bytes kept of a line.
+     */
+    public InputLine(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    /**
+     * Parses the line as a coordinate.
+     *
+     * @param size The number of rows and columns of the board.
+     * @return The coordinate or error code, as returned by `InputParser.parseCoordinate`.
+     */
+    public long parseCoordinate(int size) {
+        if (this.overflow) {
+            return InputParser.NOT_TWO_NUMBERS;
+        }
+        return InputParser.parseCoordinate(this.bytes, 0, this.length, size);
+    }
+
+    /**
+     * Parses the line as a menu choice.
+     *
+     * @return The number typed, or `InputParser.INVALID`.
+     */
+    public int parseChoice() {
+        return this.overflow ? InputParser.INVALID : InputParser.parseChoice(this.bytes, 0, this.length);
+    }
+
+    /**
+     * Checks if the line is a word, ignoring the case of ASCII letters and surrounding blanks.
+     *
+     * @param word The word, in ASCII.
+     * @return True if the line is the word.
+     */
+    public boolean isWord(String word) {
+        return !this.overflow && InputParser.isWord(this.bytes, 0, this.length, word);
+    }
+
+    /**
+     * Returns the number of bytes kept of the line.
+     *
+     * @return The length of the line.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Checks if the line was longer than the capacity.
+     *
+     * @return True if bytes of the line were dropped.
+     */
+    public boolean isOverflow() {
+        return this.overflow;
+    }
+
+    /**
+     * Decodes the line as UTF-8.
+     *
+     * @return The text of the line.
+     */
+    @Override
+    public String toString() {
+        return new String(this.bytes, 0, this.length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks if the terminator of the line was read.
+     */
+    boolean isComplete() {
+        return this.complete;
+    }
+
+    /**
+     * Checks if a line was started but not terminated.
+     */
+    boolean isPending() {
+        return !this.complete && (this.length > 0 || this.overflow);
+    }
+
+    /**
+     * Empties the line for the next one.
+     */
+    void clear() {
+        this.length = 0;
+        this.overflow = false;
+        this.complete = false;
+    }
+
+    /**
+     * Appends bytes up to and including the next newline, which completes the line. A carriage return before
+     * the newline is dropped.
+     *
+     * @param source The bytes read.
+     * @param from   The index of the first byte to take.
+     * @param to     The index after the last byte read.
+     * @return The index after the last byte taken.
+     */
+    int take(byte[] source, int from, int to) {
+        int end = from;
+        while (end < to && source[end] != '\n') {
+            end++;
+        }
+        int copied = Math.min(end - from, this.bytes.length - this.length);
+        System.arraycopy(source, from, this.bytes, this.length, copied);
+        this.length += copied;
+        if (copied < end - from) {
+            this.overflow = true;
+        }
+        if (end == to) {
+            return to;
+        }
+        this.finish();
+        return end + 1;
+    }
+
+    /**
+     * Completes a line, dropping a carriage return at its end.
+     */
+    void finish() {
+        if (this.length > 0 && this.bytes[this.length - 1] == '\r') {
+            this.length--;
+        }
+        this.complete = true;
+    }
+}
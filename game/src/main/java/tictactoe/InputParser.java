@@ -0,0 +1,220 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.InputParser` class parses typed coordinates and menu choices straight from bytes.
+ * <p>
+ *     The grammar is that of `Screen.parseCoordinate`: after leading and trailing blanks are dropped, a
+ *     coordinate is two integers separated by commas and whitespace, each between 0 and the board size. A menu
+ *     choice is a single integer. Integers are ASCII digits with an optional sign and must fit in an int. The
+ *     parser makes one pass over the bytes and allocates nothing; errors are returned as negative codes rather
+ *     than thrown.
+ * </p>
+ */
+public final class InputParser {
+    /**
+     * The choice returned for a line that is not a single integer.
+     */
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    /**
+     * The error code of a line that does not hold exactly two words.
+     */
+    public static final long NOT_TWO_NUMBERS = -1;
+
+    /**
+     * The error code of a line whose words are not both integers.
+     */
+    public static final long NOT_A_NUMBER = -2;
+
+    /**
+     * The error code of a coordinate outside 0 to the board size.
+     */
+    public static final long OUT_OF_RANGE = -3;
+
+    private static final long NO_INT = Long.MIN_VALUE;
+
+    private InputParser() {}
+
+    /**
+     * Parses a coordinate such as '1, 2' or '1 2'.
+     *
+     * @param bytes The bytes of the line.
+     * @param from  The index of the first byte.
+     * @param to    The index after the last byte.
+     * @param size  The number of rows and columns of the board.
+     * @return The coordinate packed for `x` and `y`, or a negative error code.
+     */
+    public static long parseCoordinate(byte[] bytes, int from, int to, int size) {
+        while (from < to && isBlank(bytes[from])) {
+            from++;
+        }
+        while (to > from && isBlank(bytes[to - 1])) {
+            to--;
+        }
+        // Split the way String.split does: a leading separator makes an empty first word, trailing ones do not
+        // count.
+        int words = 0;
+        int firstStart = from;
+        int firstEnd = from;
+        int secondStart = from;
+        int secondEnd = from;
+        int i = from;
+        while (i < to || (words == 0 && i == to)) {
+            int start = i;
+            while (i < to && !isSeparator(bytes[i])) {
+                i++;
+            }
+            if (words == 0) {
+                firstStart = start;
+                firstEnd = i;
+            } else if (words == 1) {
+                secondStart = start;
+                secondEnd = i;
+            }
+            words++;
+            while (i < to && isSeparator(bytes[i])) {
+                i++;
+            }
+        }
+        if (words != 2) {
+            return NOT_TWO_NUMBERS;
+        }
+        long x = parseInt(bytes, firstStart, firstEnd);
+        long y = parseInt(bytes, secondStart, secondEnd);
+        if (x == NO_INT || y == NO_INT) {
+            return NOT_A_NUMBER;
+        }
+        if (x > size || y > size || x < 0 || y < 0) {
+            return OUT_OF_RANGE;
+        }
+        return x << 32 | y;
+    }
+
+    /**
+     * Extracts the X-coordinate of a parsed coordinate.
+     *
+     * @param coordinate A coordinate returned by `parseCoordinate`.
+     * @return The X-coordinate.
+     */
+    public static int x(long coordinate) {
+        return (int) (coordinate >>> 32);
+    }
+
+    /**
+     * Extracts the Y-coordinate of a parsed coordinate.
+     *
+     * @param coordinate A coordinate returned by `parseCoordinate`.
+     * @return The Y-coordinate.
+     */
+    public static int y(long coordinate) {
+        return (int) coordinate;
+    }
+
+    /**
+     * Describes an error code of `parseCoordinate` to the player.
+     *
+     * @param error The error code.
+     * @param size  The number of rows and columns of the board.
+     * @return The message.
+     */
+    public static String describe(long error, int size) {
+        if (error == NOT_TWO_NUMBERS) {
+            return "Please enter 2 numbers separated by space.";
+        }
+        if (error == NOT_A_NUMBER) {
+            return "Invalid input. Please enter 2 valid numbers.";
+        }
+        return "Both numbers must be less than or equal to " + size + ".";
+    }
+
+    /**
+     * Parses a menu choice.
+     *
+     * @param bytes The bytes of the line.
+     * @param from  The index of the first byte.
+     * @param to    The index after the last byte.
+     * @return The number typed, or `INVALID` if the line is not a single integer.
+     */
+    public static int parseChoice(byte[] bytes, int from, int to) {
+        while (from < to && isBlank(bytes[from])) {
+            from++;
+        }
+        while (to > from && isBlank(bytes[to - 1])) {
+            to--;
+        }
+        long choice = parseInt(bytes, from, to);
+        return choice == NO_INT ? INVALID : (int) choice;
+    }
+
+    /**
+     * Checks if a line is a word, ignoring the case of ASCII letters and surrounding blanks.
+     *
+     * @param bytes The bytes of the line.
+     * @param from  The index of the first byte.
+     * @param to    The index after the last byte.
+     * @param word  The word, in ASCII.
+     * @return True if the line is the word.
+     */
+    public static boolean isWord(byte[] bytes, int from, int to, String word) {
+        while (from < to && isBlank(bytes[from])) {
+            from++;
+        }
+        while (to > from && isBlank(bytes[to - 1])) {
+            to--;
+        }
+        if (to - from != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase((char) bytes[from + i]) != Character.toLowerCase(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses an integer the way `Integer.parseInt` does for ASCII digits.
+     *
+     * @return The integer, or `NO_INT` if the bytes are not an int.
+     */
+    private static long parseInt(byte[] bytes, int from, int to) {
+        if (from == to) {
+            return NO_INT;
+        }
+        boolean negative = bytes[from] == '-';
+        if (negative || bytes[from] == '+') {
+            from++;
+            if (from == to) {
+                return NO_INT;
+            }
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return NO_INT;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NO_INT;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? NO_INT : value;
+    }
+
+    /**
+     * Checks for the characters `String.trim` drops.
+     */
+    private static boolean isBlank(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+
+    /**
+     * Checks for a comma or a character of the regular expression class `\s`.
+     */
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+    }
+}
@@ -0,0 +1,41 @@
+package tictactoe;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * The `tictactoe.InputSource` interface delivers typed lines to a `tictactoe.Screen` or any other reader of
+ * player input, whether they come from the console, a socket or a script.
+ * <p>
+ *     A source fills a caller's `tictactoe.InputLine` instead of returning strings, so reading and parsing a
+ *     move allocates nothing. A source that is not blocking returns `NONE` when no complete line has arrived
+ *     yet; a caller polling many sources, e.g. from a `java.nio.channels.Selector`, then moves on and calls
+ *     again later without a thread waiting for each player.
+ * </p>
+ */
+public interface InputSource extends Closeable {
+    /**
+     * Returned by `read` when a line was read.
+     */
+    int LINE = 1;
+
+    /**
+     * Returned by `read` when no complete line is available yet.
+     */
+    int NONE = 0;
+
+    /**
+     * Returned by `read` when the input ended.
+     */
+    int END = -1;
+
+    /**
+     * Reads the next line. A line cut off by the end of the input counts as a line.
+     *
+     * @param line The line to fill. The same line must be passed until `LINE` is returned, since a partly read
+     *             line is kept in it.
+     * @return `LINE`, `NONE` or `END`.
+     * @throws IOException If reading fails.
+     */
+    int read(InputLine line) throws IOException;
+}
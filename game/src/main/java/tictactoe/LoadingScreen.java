@@ -0,0 +1,86 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.LoadingScreen` class plays the loading animation of a `tictactoe.Screen` on its own thread.
+ * <p>
+ *     The animation starts when the loading screen is created, so the caller can prepare the game meanwhile, and
+ *     ends when `finish` is called and the last frame was shown. `skip` cuts it short. Nothing else may be
+ *     printed until `finish` returns. With the fast `tictactoe.StartupProfile` nothing is shown at all.
+ * </p>
+ */
+public final class LoadingScreen {
+    private static final String[] FRAMES = { ".", "..", "...", "....", "....->" };
+    private static final int FRAME_COUNT = 4;
+
+    private final String complete;
+    private final Thread animation;
+
+    /**
+     * Constructs a new `tictactoe.LoadingScreen` and starts its animation.
+     *
+     * @param message  The loading message.
+     * @param complete The text printed when loading is complete.
+     * @param profile  The startup profile.
+     */
+    LoadingScreen(String message, String complete, StartupProfile profile) {
+        this.complete = complete;
+        long frameMillis = profile.getFrameMillis();
+        if (frameMillis == 0) {
+            this.animation = null;
+            return;
+        }
+        this.animation = new Thread(() -> animate(message, frameMillis), "loading-screen");
+        this.animation.setDaemon(true);
+        this.animation.start();
+    }
+
+    /**
+     * Cuts the animation short.
+     */
+    public void skip() {
+        if (this.animation != null) {
+            this.animation.interrupt();
+        }
+    }
+
+    /**
+     * Waits for the animation to end and announces that loading is complete.
+     */
+    public void finish() {
+        if (this.animation == null) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                this.animation.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+                this.skip();
+            }
+        }
+        System.out.println(this.complete);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void animate(String message, long frameMillis) {
+        int animationIndex = 0;
+        System.out.print(message + "...");
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            try {
+                Thread.sleep(frameMillis);
+            } catch (InterruptedException e) {
+                break;
+            }
+            System.out.print(FRAMES[animationIndex]);
+            animationIndex = (animationIndex + 1) % FRAMES.length;
+            for (int j = 0; j < FRAMES[animationIndex].length(); j++) {
+                System.out.print(".");
+            }
+        }
+        System.out.flush();
+    }
+}
@@ -0,0 +1,226 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The `tictactoe.Main` class serves as the entry point for the Tic-Tac-Toe game application.
+ * <p>
+ *     Besides the console game it starts the server and runs the command-line tools, so it is the only class
+ *     that prints their results; the server itself reports through `java.util.logging`.
+ * </p>
+ */
+public class Main {
+    /**
+     * Default constructor for the Main class. This constructor does nothing.
+     */
+    public Main() {}
+
+    /**
+     * The main method that initializes the game and starts it.
+     * <p>
+     *     The game is played with the standard rules unless the board size, win length and pieces per player
+     *     are given, e.g. `4 3 4` for a 4x4 board with 3 in a row and 4 pieces per player. With
+     *     `--server <port>` no console game is played; a `tictactoe.GameServer` serves matches over TCP instead,
+     *     and a directory given after the variant archives the moves of every match. With
+     *     `--positions <file>` the computer opponent answers from a `tictactoe.PositionStore` before searching.
+     *     With `--metrics` the `tictactoe.GameMetrics` are published through JMX and printed when the program
+     *     ends. With `--fast` no loading animations are shown; otherwise `StartupProfile.detect` decides.
+     * </p>
+     * <p>
+     *     The tools run instead of the game when their option comes first: `--selfplay`, `--tournament`,
+     *     `--solve` and `--analyze`, each described with the method that runs it.
+     * </p>
+     *
+     * @param args The command-line arguments: a tool and its arguments, or optionally `--metrics` and `--fast`,
+     *             then optionally `--server <port>` or `--positions <file>`, then optionally the board size, win
+     *             length and pieces per player.
+     * @throws IOException          If the server port cannot be bound, the position store cannot be mapped or a
+     *                              tool cannot read or write its files.
+     * @throws InterruptedException If a tool is interrupted.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length >= 1) {
+            String[] toolArgs = Arrays.copyOfRange(args, 1, args.length);
+            switch (args[0]) {
+                case "--selfplay":
+                    selfPlay(toolArgs);
+                    return;
+                case "--tournament":
+                    tournament(toolArgs);
+                    return;
+                case "--solve":
+                    solve(toolArgs);
+                    return;
+                case "--analyze":
+                    analyze(toolArgs);
+                    return;
+                default:
+                    break;
+            }
+        }
+        if (args.length >= 1 && args[0].equals("--metrics")) {
+            GameMetrics metrics = GameMetrics.get();
+            metrics.register();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.print(metrics.dump())));
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+        StartupProfile profile = StartupProfile.detect();
+        if (args.length >= 1 && args[0].equals("--fast")) {
+            profile = StartupProfile.FAST;
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+        if (args.length >= 2 && args[0].equals("--server")) {
+            serve(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        PositionStore positions = null;
+        if (args.length >= 2 && args[0].equals("--positions")) {
+            positions = PositionStore.open(Paths.get(args[1]));
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+        Rules rules = Rules.STANDARD;
+        if (args.length == 3) {
+            rules = Rules.of(Integer.parseInt(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        }
+        Game game = new Game(rules, positions, profile);
+        int action = game.load();
+
+        while (action == 1) {
+            game.start();
+            game.gameOver();
+            action = game.restart();
+        }
+    }
+
+    /**
+     * Runs a server until the process is stopped, with its `tictactoe.GameMetrics` published through JMX.
+     *
+     * @param args The port, optionally followed by the board size, win length and pieces per player, and
+     *             optionally by the directory of the move log.
+     * @throws IOException If the port cannot be bound or the move log cannot be created.
+     */
+    private static void serve(String[] args) throws IOException {
+        Rules rules = Rules.STANDARD;
+        if (args.length >= 4) {
+            rules = Rules.of(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+        }
+        MoveRecorder recorder = null;
+        if (args.length == 2 || args.length == 5) {
+            recorder = new MoveRecorder(Paths.get(args[args.length - 1]), rules);
+            MoveRecorder log = recorder;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    log.close();
+                } catch (IOException e) {
+                    System.err.println("Could not close the move log: " + e.getMessage());
+                }
+            }));
+        }
+        GameMetrics.get().register();
+        GameServer server = new GameServer(rules, recorder);
+        server.start(Integer.parseInt(args[0]));
+    }
+
+    /**
+     * Runs `tictactoe.SelfPlay` on every processor and prints the results.
+     *
+     * @param args The number of games, the seed, the policy of player 1, the policy of player 2 and
+     *             optionally the board size, win length and pieces per player.
+     * @throws InterruptedException If the main thread is interrupted.
+     */
+    private static void selfPlay(String[] args) throws InterruptedException {
+        if (args.length != 4 && args.length != 7) {
+            System.out.println("Usage: --selfplay <games> <seed> <policy1> <policy2> [size winLength maxPieces]");
+            System.out.println("Policies: random, greedy, search:<depth>");
+            return;
+        }
+        Rules rules = Rules.STANDARD;
+        if (args.length == 7) {
+            rules = Rules.of(Integer.parseInt(args[4]), Integer.parseInt(args[5]), Integer.parseInt(args[6]));
+        }
+        SelfPlay selfPlay = new SelfPlay(rules, SelfPlay.policy(args[2], rules), SelfPlay.policy(args[3], rules),
+                200);
+        int threads = Runtime.getRuntime().availableProcessors();
+        long start = System.nanoTime();
+        SelfPlayStats stats = selfPlay.run(Long.parseLong(args[0]), threads, Long.parseLong(args[1]));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(stats);
+        System.out.printf("%.0f games/s on %d threads%n", stats.getGames() / seconds, threads);
+    }
+
+    /**
+     * Runs a `tictactoe.Tournament` of the standard game and prints the ratings table.
+     *
+     * @param args The format, `robin` or `swiss:<rounds>`, the games per pairing, the seed and two or more
+     *             policies, each `random`, `greedy` or `search:<depth>`.
+     */
+    private static void tournament(String[] args) {
+        if (args.length < 5) {
+            System.out.println("Usage: --tournament <robin|swiss:rounds> <gamesPerPairing> <seed> <policy> "
+                    + "<policy>...");
+            System.out.println("Policies: random, greedy, search:<depth>");
+            return;
+        }
+        Rules rules = Rules.STANDARD;
+        Tournament tournament = new Tournament(rules, 200, ForkJoinPool.commonPool());
+        for (int i = 3; i < args.length; i++) {
+            int entries = Collections.frequency(Arrays.asList(args).subList(3, i + 1), args[i]);
+            tournament.add(entries > 1 ? args[i] + "#" + entries : args[i], SelfPlay.policy(args[i], rules));
+        }
+        int gamesPerPairing = Integer.parseInt(args[1]);
+        long seed = Long.parseLong(args[2]);
+        long start = System.nanoTime();
+        Ratings ratings = args[0].startsWith("swiss:")
+                ? tournament.swiss(Integer.parseInt(args[0].substring("swiss:".length())), gamesPerPairing, seed)
+                : tournament.roundRobin(gamesPerPairing, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long games = 0;
+        for (int e = 0; e < ratings.size(); e++) {
+            games += ratings.getGames(e);
+        }
+        System.out.print(ratings);
+        System.out.printf("%d games in %.2f s on %d workers%n", games / 2, seconds,
+                ForkJoinPool.commonPool().getParallelism());
+    }
+
+    /**
+     * Writes the solved `tictactoe.PositionStore` of the standard game.
+     *
+     * @param args The path of the file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void solve(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.out.println("Usage: --solve <file>");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        PositionStore.writeSolved(file);
+        System.out.println("Wrote " + PositionStore.open(file).size() + " positions to " + file);
+    }
+
+    /**
+     * Analyses a move log with a `tictactoe.MoveLogAnalyzer` and prints its statistics.
+     *
+     * @param args The directory of the log.
+     * @throws IOException If the log cannot be read.
+     */
+    private static void analyze(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.out.println("Usage: --analyze <log directory>");
+            return;
+        }
+        MoveLogAnalyzer analyzer = new MoveLogAnalyzer(Paths.get(args[0]));
+        long start = System.nanoTime();
+        MoveLogStats stats = analyzer.analyze(ForkJoinPool.commonPool());
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.print(stats);
+        System.out.printf("%s, %d segments, %.0f moves/s%n", analyzer.getRules(), analyzer.getSegmentCount(),
+                stats.getMoves() / seconds);
+    }
+}
@@ -0,0 +1,105 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.MatchContext` class holds the objects a `tictactoe.GameSession` plays a match with: both
+ * players, the engine with its board and move history, the spectator channel and the buffer of the `BOARD`
+ * line.
+ * <p>
+ *     A context is built once and reset in place for every match it plays, so a `tictactoe.MatchContextPool`
+ *     can hand it from one session to the next. Resetting starts a new game id in the move log, if any, and
+ *     closes the spectators of the match before the board is cleared, so they never see the next match.
+ * </p>
+ */
+final class MatchContext {
+    private final Rules rules;
+    private final Player player1;
+    private final Player player2;
+    private final GameEngine engine;
+    private final SpectatorChannel spectators;
+    private final char[] boardLine;
+
+    /**
+     * Constructs a new `tictactoe.MatchContext` ready for its first match.
+     *
+     * @param rules    The variant to play.
+     * @param recorder The recorder archiving the moves, or null to keep no trace.
+     */
+    MatchContext(Rules rules, MoveRecorder recorder) {
+        this.rules = rules;
+        this.player1 = new Player("Player 1", "X", rules);
+        this.player2 = new Player("Player 2", "O", rules);
+        this.engine = new GameEngine(rules, this.player1, this.player2);
+        this.spectators = new SpectatorChannel(SpectatorChannel.DEFAULT_CAPACITY,
+                recorder == null ? null : recorder.listener());
+        this.engine.setMoveListener(this.spectators);
+        this.boardLine = new char[6 + rules.getCells()];
+        "BOARD ".getChars(0, 6, this.boardLine, 0);
+    }
+
+    /**
+     * Closes the spectators of the match and clears the board, the players and the history for the next match.
+     */
+    void reset() {
+        this.spectators.endSubscriptions();
+        this.engine.reset();
+    }
+
+    /**
+     * Retrieves the variant of the context.
+     *
+     * @return The rules.
+     */
+    Rules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Retrieves the player whose pieces are `X`.
+     *
+     * @return Player 1.
+     */
+    Player getPlayer1() {
+        return this.player1;
+    }
+
+    /**
+     * Retrieves the player whose pieces are `O`, who moves first.
+     *
+     * @return Player 2.
+     */
+    Player getPlayer2() {
+        return this.player2;
+    }
+
+    /**
+     * Retrieves the engine of the match.
+     *
+     * @return The engine.
+     */
+    GameEngine getEngine() {
+        return this.engine;
+    }
+
+    /**
+     * Retrieves the channel broadcasting the moves of the match to spectators.
+     *
+     * @return The channel.
+     */
+    SpectatorChannel getSpectators() {
+        return this.spectators;
+    }
+
+    /**
+     * Formats the board as a `BOARD` line, every cell row by row and `.` marking a free cell.
+     *
+     * @return The line.
+     */
+    String boardLine() {
+        Board board = this.engine.getBoard();
+        for (int index = 0; index < this.rules.getCells(); index++) {
+            String cell = board.getCell(index);
+            this.boardLine[6 + index] = cell.equals(" ") ? '.' : cell.charAt(0);
+        }
+        return new String(this.boardLine);
+    }
+}
@@ -0,0 +1,102 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The `tictactoe.MatchContextPool` class recycles the `tictactoe.MatchContext`s of finished matches.
+ * <p>
+ *     A context is taken with `acquire` and given back with `release` once its session has ended. Released
+ *     contexts are reset in place and kept on a stack, most recently used on top, so that the next match starts
+ *     on objects that are likely still in the CPU caches. The stack is an array sized to the capacity, so
+ *     recycling a context allocates nothing, and it is guarded by a lock held for a few stores once per match.
+ *     At most `capacity` idle contexts are kept; a burst of matches beyond that builds new contexts that are left
+ *     to the garbage collector when released, so the idle memory of a server stays flat however long it runs.
+ * </p>
+ */
+final class MatchContextPool {
+    private final Rules rules;
+    private final MoveRecorder recorder;
+    private final MatchContext[] idle;
+    private final AtomicLong created;
+    private final AtomicLong reused;
+    private int idleCount;
+
+    /**
+     * Constructs a new empty `tictactoe.MatchContextPool`.
+     *
+     * @param rules    The variant of the matches.
+     * @param recorder The recorder archiving the moves of every match, or null to keep no trace.
+     * @param capacity The number of idle contexts kept.
+     */
+    MatchContextPool(Rules rules, MoveRecorder recorder, int capacity) {
+        this.rules = rules;
+        this.recorder = recorder;
+        this.idle = new MatchContext[capacity];
+        this.created = new AtomicLong();
+        this.reused = new AtomicLong();
+    }
+
+    /**
+     * Takes an idle context, or builds one if none is idle.
+     *
+     * @return A context ready for a new match.
+     */
+    MatchContext acquire() {
+        MatchContext context = null;
+        synchronized (this.idle) {
+            if (this.idleCount > 0) {
+                context = this.idle[--this.idleCount];
+                this.idle[this.idleCount] = null;
+            }
+        }
+        if (context != null) {
+            this.reused.incrementAndGet();
+            return context;
+        }
+        this.created.incrementAndGet();
+        return new MatchContext(this.rules, this.recorder);
+    }
+
+    /**
+     * Resets a context whose session has ended and keeps it for the next match if there is room.
+     *
+     * @param context A context taken from this pool, no longer used by its session.
+     */
+    void release(MatchContext context) {
+        context.reset();
+        synchronized (this.idle) {
+            if (this.idleCount < this.idle.length) {
+                this.idle[this.idleCount++] = context;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of contexts kept for reuse.
+     *
+     * @return The idle contexts.
+     */
+    int getIdle() {
+        synchronized (this.idle) {
+            return this.idleCount;
+        }
+    }
+
+    /**
+     * Returns the number of contexts built because none was idle.
+     *
+     * @return The contexts built.
+     */
+    long getCreated() {
+        return this.created.get();
+    }
+
+    /**
+     * Returns the number of matches that started on a recycled context.
+     *
+     * @return The contexts reused.
+     */
+    long getReused() {
+        return this.reused.get();
+    }
+}
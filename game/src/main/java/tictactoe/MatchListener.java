@@ -0,0 +1,37 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.MatchListener` interface receives the events of the matches a `tictactoe.Seat` plays in a
+ * `tictactoe.MatchScheduler`.
+ * <p>
+ *     Events are delivered on the scheduler's worker threads, one match at a time and in order. Listeners must
+ *     return quickly, since a worker serves many matches.
+ * </p>
+ */
+public interface MatchListener {
+    /**
+     * Called when the seat is paired and the match begins. Player 2 moves first.
+     *
+     * @param match  The match.
+     * @param player The player the seat plays: 1 or 2.
+     */
+    void onStart(ScheduledMatch match, int player);
+
+    /**
+     * Called for every move submitted in the match, accepted or not.
+     *
+     * @param match  The match.
+     * @param player The player who submitted the move: 1 or 2.
+     * @param cell   The cell index of the move.
+     * @param result The result of the move.
+     */
+    void onMove(ScheduledMatch match, int player, int cell, MoveResult result);
+
+    /**
+     * Called once when the match ends, by a completed line, a resignation or a failure of the match.
+     *
+     * @param match  The match.
+     * @param winner The player who won: 1 or 2, or 0 if the match failed and was abandoned.
+     */
+    void onOver(ScheduledMatch match, int winner);
+}
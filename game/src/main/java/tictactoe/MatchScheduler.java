@@ -0,0 +1,406 @@
+package tictactoe;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The `tictactoe.MatchScheduler` class pairs waiting players into matches and runs many matches on a few worker
+ * threads.
+ * <p>
+ *     Players join as `tictactoe.Seat` objects. Seats wait in one pool per variant, ordered by rating, and a seat is
+ *     paired with the closest rated seat of the same variant whose rating is within the rating window. The window
+ *     grows the longer a seat waits, so nobody waits forever. The seat that waited longer moves first.
+ * </p>
+ * <p>
+ *     Running matches hold no thread. A match with a move to play is put on a lock-free ready queue, and the
+ *     workers take matches from the queue and play their moves, see `tictactoe.ScheduledMatch`.
+ * </p>
+ * <p>
+ *     The scheduler protects its latency with backpressure. No match starts while `maxMatches` are running; seats
+ *     keep waiting instead. A seat that joins while `maxWaiting` seats already wait is rejected, so the caller can
+ *     send the player elsewhere. Each seat can have only one move waiting at a time.
+ * </p>
+ * <p>
+ *     The depth of the ready queue, the number of waiting seats and the time seats wait for an opponent and
+ *     matches wait for a worker are exposed as metrics.
+ * </p>
+ * <p>
+ *     A match whose run throws, e.g. from a listener, is ended without a winner and counted in `getFailedMatches`.
+ *     Its slot is freed, so failures cannot leak slots until backpressure rejects every pairing.
+ * </p>
+ * <p>
+ *     Matches are played on `tictactoe.MatchContext`s drawn from one `tictactoe.MatchContextPool` per variant and
+ *     given back when they end, so steady traffic reuses the same engines. A seat whose player goes away before
+ *     it is paired is taken out with `leave`.
+ * </p>
+ * <p>
+ *     The scheduler is meant for callers that never block its workers, such as bots or a front end on
+ *     non-blocking channels. `tictactoe.GameServer` does not use it: its sessions block on their sockets on
+ *     virtual threads, and writing to a socket from a listener would stall every match of the worker.
+ * </p>
+ */
+public class MatchScheduler implements Closeable {
+    private static final long TICK_MILLIS = 20;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int maxMatches;
+    private final int maxWaiting;
+    private final int ratingWindow;
+    private final int windowGrowth;
+    private final ConcurrentLinkedQueue<ScheduledMatch> ready;
+    private final Semaphore readyPermits;
+    private final AtomicInteger readyDepth;
+    private final Thread[] workers;
+    private final ScheduledExecutorService ticker;
+    private final Object lock;
+    private final Map<Rules, WaitingPool> pools;
+    private final Map<Rules, MatchContextPool> contexts;
+    private final AtomicInteger waitingSeats;
+    private final AtomicInteger activeMatches;
+    private final LongAdder rejected;
+    private final LongAdder failed;
+    private final LongAdder matchesStarted;
+    private final LongAdder matchWaitTotal;
+    private final AtomicLong matchWaitMax;
+    private final LongAdder readyRuns;
+    private final LongAdder readyWaitTotal;
+    private final AtomicLong readyWaitMax;
+    private long sequence;
+    private volatile boolean running;
+
+    /**
+     * The seats waiting for a match of one variant, by rating and by arrival.
+     */
+    private static final class WaitingPool {
+        private final TreeMap<Long, Seat> byRating = new TreeMap<>();
+        private final ArrayDeque<Seat> byArrival = new ArrayDeque<>();
+    }
+
+    /**
+     * Constructs a new `tictactoe.MatchScheduler`.
+     *
+     * @param workers      The number of worker threads playing moves.
+     * @param maxMatches   The number of matches that may run at once.
+     * @param maxWaiting   The number of seats that may wait for an opponent before new seats are rejected.
+     * @param ratingWindow The largest rating difference of a pairing when a seat joins.
+     * @param windowGrowth The amount the rating window of a seat grows per second of waiting.
+     */
+    public MatchScheduler(int workers, int maxMatches, int maxWaiting, int ratingWindow, int windowGrowth) {
+        this.maxMatches = maxMatches;
+        this.maxWaiting = maxWaiting;
+        this.ratingWindow = ratingWindow;
+        this.windowGrowth = windowGrowth;
+        this.ready = new ConcurrentLinkedQueue<>();
+        this.readyPermits = new Semaphore(0);
+        this.readyDepth = new AtomicInteger();
+        this.workers = new Thread[workers];
+        for (int w = 0; w < workers; w++) {
+            this.workers[w] = new Thread(this::work, "match-worker-" + w);
+            this.workers[w].setDaemon(true);
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "match-maker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lock = new Object();
+        this.pools = new HashMap<>();
+        this.contexts = new HashMap<>();
+        this.waitingSeats = new AtomicInteger();
+        this.activeMatches = new AtomicInteger();
+        this.rejected = new LongAdder();
+        this.failed = new LongAdder();
+        this.matchesStarted = new LongAdder();
+        this.matchWaitTotal = new LongAdder();
+        this.matchWaitMax = new AtomicLong();
+        this.readyRuns = new LongAdder();
+        this.readyWaitTotal = new LongAdder();
+        this.readyWaitMax = new AtomicLong();
+    }
+
+    /**
+     * Starts the workers and the periodic matchmaking.
+     */
+    public void start() {
+        this.running = true;
+        for (Thread worker : this.workers) {
+            worker.start();
+        }
+        this.ticker.scheduleWithFixedDelay(this::matchmake, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the workers and the matchmaking. Running matches are abandoned without events.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        this.ticker.shutdownNow();
+        for (Thread worker : this.workers) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Adds a seat to the pool of its variant and pairs it at once if an opponent in its rating window waits and
+     * a match slot is free.
+     *
+     * @param seat The seat, which must not have joined before.
+     * @return False if too many seats are waiting, in which case the seat is rejected.
+     */
+    public boolean join(Seat seat) {
+        long now = System.nanoTime();
+        synchronized (this.lock) {
+            if (this.waitingSeats.get() >= this.maxWaiting) {
+                this.rejected.increment();
+                return false;
+            }
+            seat.join(now, this.sequence++);
+            WaitingPool pool = this.pools.get(seat.getRules());
+            if (pool == null) {
+                pool = new WaitingPool();
+                this.pools.put(seat.getRules(), pool);
+            }
+            this.waitingSeats.incrementAndGet();
+            Seat opponent = this.activeMatches.get() < this.maxMatches ? this.nearest(pool, seat, this.ratingWindow) : null;
+            if (opponent != null) {
+                pool.byRating.remove(opponent.getKey());
+                this.begin(opponent, seat, now);
+            } else {
+                pool.byRating.put(seat.getKey(), seat);
+                pool.byArrival.addLast(seat);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes a seat out of matchmaking, e.g. when its player disconnects. A seat that is already playing resigns
+     * its match instead, which its opponent wins.
+     *
+     * @param seat A seat that joined this scheduler.
+     * @return True if the seat was waiting and will not be paired.
+     */
+    public boolean leave(Seat seat) {
+        synchronized (this.lock) {
+            WaitingPool pool = this.pools.get(seat.getRules());
+            boolean waiting = pool != null && pool.byRating.get(seat.getKey()) == seat;
+            if (waiting && seat.getMatch() == null && !seat.hasLeft()) {
+                pool.byRating.remove(seat.getKey());
+                seat.leave();
+                this.waitingSeats.decrementAndGet();
+                return true;
+            }
+        }
+        seat.resign();
+        return false;
+    }
+
+    /**
+     * Retrieves the number of matches waiting for a worker.
+     *
+     * @return The depth of the ready queue.
+     */
+    public int getReadyDepth() {
+        return this.readyDepth.get();
+    }
+
+    /**
+     * Retrieves the number of seats waiting for an opponent.
+     *
+     * @return The waiting seats of all variants.
+     */
+    public int getWaitingSeats() {
+        return this.waitingSeats.get();
+    }
+
+    /**
+     * Retrieves the number of running matches.
+     *
+     * @return The active matches.
+     */
+    public int getActiveMatches() {
+        return this.activeMatches.get();
+    }
+
+    /**
+     * Retrieves the number of seats rejected because too many seats were waiting.
+     *
+     * @return The rejected seats since the scheduler was created.
+     */
+    public long getRejected() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * Retrieves the number of matches ended because running them threw.
+     *
+     * @return The failed matches since the scheduler was created.
+     */
+    public long getFailedMatches() {
+        return this.failed.sum();
+    }
+
+    /**
+     * Retrieves the mean time a seat waited for an opponent.
+     *
+     * @return The mean wait of the seats paired so far, in nanoseconds.
+     */
+    public long getMatchWaitMeanNanos() {
+        long seats = 2 * this.matchesStarted.sum();
+        return seats == 0 ? 0 : this.matchWaitTotal.sum() / seats;
+    }
+
+    /**
+     * Retrieves the longest time a seat waited for an opponent.
+     *
+     * @return The longest wait of the seats paired so far, in nanoseconds.
+     */
+    public long getMatchWaitMaxNanos() {
+        return this.matchWaitMax.get();
+    }
+
+    /**
+     * Retrieves the mean time a match with a move to play waited on the ready queue.
+     *
+     * @return The mean queueing delay, in nanoseconds.
+     */
+    public long getReadyWaitMeanNanos() {
+        long runs = this.readyRuns.sum();
+        return runs == 0 ? 0 : this.readyWaitTotal.sum() / runs;
+    }
+
+    /**
+     * Retrieves the longest time a match with a move to play waited on the ready queue.
+     *
+     * @return The longest queueing delay, in nanoseconds.
+     */
+    public long getReadyWaitMaxNanos() {
+        return this.readyWaitMax.get();
+    }
+
+    /**
+     * Puts a match on the ready queue unless it is queued or running already.
+     */
+    void schedule(ScheduledMatch match) {
+        if (match.enqueue(System.nanoTime())) {
+            this.ready.offer(match);
+            this.readyDepth.incrementAndGet();
+            this.readyPermits.release();
+        }
+    }
+
+    /**
+     * Frees the slot of a match that ended.
+     */
+    void finished(ScheduledMatch match) {
+        this.activeMatches.decrementAndGet();
+    }
+
+    private void work() {
+        while (this.running) {
+            try {
+                this.readyPermits.acquire();
+            } catch (InterruptedException e) {
+                return;
+            }
+            ScheduledMatch match = this.ready.poll();
+            if (match == null) {
+                continue;
+            }
+            this.readyDepth.decrementAndGet();
+            long waited = System.nanoTime() - match.getReadySince();
+            this.readyRuns.increment();
+            this.readyWaitTotal.add(waited);
+            this.readyWaitMax.accumulateAndGet(waited, Math::max);
+            try {
+                match.run();
+            } catch (RuntimeException e) {
+                this.failed.increment();
+                match.fail();
+            }
+        }
+    }
+
+    /**
+     * Pairs the waiting seats of every variant, oldest first, with their rating windows widened by the time they
+     * waited.
+     */
+    private void matchmake() {
+        long now = System.nanoTime();
+        synchronized (this.lock) {
+            for (WaitingPool pool : this.pools.values()) {
+                Iterator<Seat> seats = pool.byArrival.iterator();
+                while (seats.hasNext() && this.activeMatches.get() < this.maxMatches) {
+                    Seat seat = seats.next();
+                    if (seat.getMatch() != null || seat.hasLeft()) {
+                        // Paired earlier as the opponent of another seat, or gone.
+                        seats.remove();
+                        continue;
+                    }
+                    long window = this.ratingWindow + this.windowGrowth * (now - seat.getJoinedAt()) / NANOS_PER_SECOND;
+                    pool.byRating.remove(seat.getKey());
+                    Seat opponent = this.nearest(pool, seat, window);
+                    if (opponent == null) {
+                        pool.byRating.put(seat.getKey(), seat);
+                        continue;
+                    }
+                    seats.remove();
+                    pool.byRating.remove(opponent.getKey());
+                    this.begin(seat, opponent, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the waiting seat with the rating closest to a seat that is not in the pool's rating order.
+     *
+     * @return The opponent, or null if no seat is within the window.
+     */
+    private Seat nearest(WaitingPool pool, Seat seat, long window) {
+        Map.Entry<Long, Seat> below = pool.byRating.floorEntry(seat.getKey());
+        Map.Entry<Long, Seat> above = pool.byRating.ceilingEntry(seat.getKey());
+        long belowGap = below == null ? Long.MAX_VALUE : (long) seat.getRating() - below.getValue().getRating();
+        long aboveGap = above == null ? Long.MAX_VALUE : (long) above.getValue().getRating() - seat.getRating();
+        if (Math.min(belowGap, aboveGap) > window) {
+            return null;
+        }
+        return belowGap <= aboveGap ? below.getValue() : above.getValue();
+    }
+
+    /**
+     * Starts a match between two seats taken out of their pool.
+     */
+    private void begin(Seat first, Seat second, long now) {
+        MatchContextPool contexts = this.contexts.get(first.getRules());
+        if (contexts == null) {
+            contexts = new MatchContextPool(first.getRules(), null, this.maxMatches);
+            this.contexts.put(first.getRules(), contexts);
+        }
+        ScheduledMatch match = new ScheduledMatch(this, contexts, second, first);
+        second.seat(match, 1);
+        first.seat(match, 2);
+        this.waitingSeats.addAndGet(-2);
+        this.activeMatches.incrementAndGet();
+        this.matchesStarted.increment();
+        for (Seat seat : new Seat[] { first, second }) {
+            long waited = now - seat.getJoinedAt();
+            this.matchWaitTotal.add(waited);
+            this.matchWaitMax.accumulateAndGet(waited, Math::max);
+        }
+        this.schedule(match);
+    }
+}
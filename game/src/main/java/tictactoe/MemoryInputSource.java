@@ -0,0 +1,50 @@
+package tictactoe;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The `tictactoe.MemoryInputSource` class reads lines from bytes held in memory, e.g. a script of moves.
+ */
+public class MemoryInputSource implements InputSource {
+    private final byte[] bytes;
+    private int position;
+
+    /**
+     * Constructs a new `tictactoe.MemoryInputSource` over text.
+     *
+     * @param text The lines, separated by newlines.
+     */
+    public MemoryInputSource(String text) {
+        this(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructs a new `tictactoe.MemoryInputSource` over bytes, which are not copied.
+     *
+     * @param bytes The lines in UTF-8, separated by newlines.
+     */
+    public MemoryInputSource(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    public int read(InputLine line) {
+        if (line.isComplete()) {
+            line.clear();
+        }
+        this.position = line.take(this.bytes, this.position, this.bytes.length);
+        if (line.isComplete()) {
+            return LINE;
+        }
+        if (line.isPending()) {
+            line.finish();
+            return LINE;
+        }
+        return END;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release.
+    }
+}
@@ -0,0 +1,102 @@
+package tictactoe;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The `tictactoe.MonteCarloPlayer` class represents a computer player whose moves are chosen by a
+ * `tictactoe.MonteCarloSearch`, which suits the larger board variants better than a full-width search.
+ * <p>
+ *     Unless given a search, the player sizes the node pool of its own from the playouts its budget allows: a
+ *     playout expands at most one node, which adds at most a child per cell. A short budget thus costs a small
+ *     pool, and the pool never exceeds `MAX_NODES`.
+ * </p>
+ */
+public class MonteCarloPlayer extends ComputerPlayer {
+    /**
+     * The default time allowed for each move, in nanoseconds: long enough for some ten thousand playouts per
+     * core, short enough to answer at once in the console.
+     */
+    public static final long DEFAULT_MOVE_NANOS = 100_000_000L;
+
+    /**
+     * The largest number of tree nodes a player sizes its search for.
+     */
+    public static final int MAX_NODES = 1 << 20;
+
+    /**
+     * A generous estimate of the time one worker takes per playout, in nanoseconds.
+     */
+    private static final long PLAYOUT_NANOS = 5_000L;
+
+    private final MonteCarloSearch search;
+    private final long maxPlayouts;
+
+    /**
+     * Constructs a new Monte Carlo player that uses every core of the common pool, with root parallelism, for
+     * the default time per move.
+     *
+     * @param name      The name of the player.
+     * @param character The character associated with the player (e.g., "X" or "O").
+     * @param rules     The variant the player plays.
+     */
+    public MonteCarloPlayer(String name, String character, Rules rules) {
+        this(name, character, rules, DEFAULT_MOVE_NANOS, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new Monte Carlo player that uses every core of the common pool, with root parallelism, and
+     * a node pool sized for its budget.
+     *
+     * @param name        The name of the player.
+     * @param character   The character associated with the player (e.g., "X" or "O").
+     * @param rules       The variant the player plays.
+     * @param budgetNanos The time allowed for each move, in nanoseconds.
+     * @param maxPlayouts The number of playouts per move, which sets the strength of the player.
+     */
+    public MonteCarloPlayer(String name, String character, Rules rules, long budgetNanos, long maxPlayouts) {
+        this(name, character, rules, budgetNanos, maxPlayouts,
+                new MonteCarloSearch(rules,
+                        nodesFor(rules, budgetNanos, maxPlayouts, Runtime.getRuntime().availableProcessors()),
+                        ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors(), false,
+                        System.nanoTime()));
+    }
+
+    /**
+     * Constructs a new Monte Carlo player.
+     *
+     * @param name        The name of the player.
+     * @param character   The character associated with the player (e.g., "X" or "O").
+     * @param rules       The variant the player plays.
+     * @param budgetNanos The time allowed for each move, in nanoseconds.
+     * @param maxPlayouts The number of playouts per move, which sets the strength of the player.
+     * @param search      The search choosing the moves, created for the same rules.
+     */
+    public MonteCarloPlayer(String name, String character, Rules rules, long budgetNanos, long maxPlayouts,
+                            MonteCarloSearch search) {
+        super(name, character, rules, budgetNanos);
+        this.search = search;
+        this.maxPlayouts = maxPlayouts;
+    }
+
+    /**
+     * Computes the node pool a search needs to keep expanding for a whole move.
+     *
+     * @param rules       The variant searched.
+     * @param budgetNanos The time allowed for each move, in nanoseconds.
+     * @param maxPlayouts The number of playouts per move.
+     * @param workers     The number of workers searching at once.
+     * @return The number of nodes, at most `MAX_NODES` and at least a root with all its moves per worker.
+     */
+    static int nodesFor(Rules rules, long budgetNanos, long maxPlayouts, int workers) {
+        long playouts = Math.min(maxPlayouts, Math.max(budgetNanos, 0) / PLAYOUT_NANOS * workers);
+        long perPlayout = rules.getCells() + 1;
+        long nodes = Math.min(playouts, MAX_NODES) * perPlayout + workers * perPlayout;
+        return (int) Math.min(nodes, Math.max(MAX_NODES, workers * perPlayout));
+    }
+
+    @Override
+    protected int search(GameEngine engine) {
+        long theirs = engine.getOpponent().getMySet();
+        return this.search.bestMove(this.getMySet(), theirs, this.getBudgetNanos(), this.maxPlayouts);
+    }
+}
@@ -0,0 +1,343 @@
+package tictactoe;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The `tictactoe.MonteCarloSearch` class picks moves with Monte Carlo tree search.
+ * <p>
+ *     Every iteration descends the tree by UCT, expands the leaf it reaches, plays the position out with
+ *     uniformly random moves and adds the result to every node on the way. The moves follow
+ *     `GameEngine.nextPlayerMove`: a player places on a free cell until all their pieces are down, then lifts one
+ *     of their own, and a lift keeps the turn. A placement that completes a line ends the playout. Playouts that
+ *     reach the ply limit count as draws. Playouts work on two piece masks and allocate nothing.
+ * </p>
+ * <p>
+ *     The search runs on several workers of a `ForkJoinPool`. With root parallelism every worker grows its own
+ *     tree from its share of the node pool and the visit counts of the root moves are summed at the end. With a
+ *     shared tree all workers grow one tree, and a node visited by one worker counts as a loss for the others
+ *     until its playout returns, which spreads them over different lines. The best move is the most visited
+ *     one.
+ * </p>
+ * <p>
+ *     A `tictactoe.MonteCarloSearch` keeps its node pool between moves and must be used by one thread at a
+ *     time.
+ * </p>
+ */
+public class MonteCarloSearch {
+    /**
+     * The default weight of the exploration term of UCT.
+     */
+    public static final double DEFAULT_EXPLORATION = 1.4;
+
+    private static final int MAX_DEPTH = 512;
+    private static final int CHECK_INTERVAL = 15;
+
+    private final Rules rules;
+    private final WinMasks winMasks;
+    private final long fullMask;
+    private final int maxPieces;
+    private final int maxPlayoutPlies;
+    private final ForkJoinPool pool;
+    private final int workers;
+    private final boolean sharedTree;
+    private final MonteCarloTree[] trees;
+    private final SplittableRandom[] randoms;
+    private final int[][] paths;
+    private final long[] playouts;
+    private double exploration;
+    private long rootMine;
+    private long rootTheirs;
+    private long start;
+    private long budgetNanos;
+
+    /**
+     * Constructs a new `tictactoe.MonteCarloSearch`.
+     *
+     * @param rules        The variant to search.
+     * @param nodeCapacity The number of tree nodes shared out among the workers.
+     * @param pool         The pool the workers run on.
+     * @param workers      The number of workers searching at once.
+     * @param sharedTree   True to let every worker grow one shared tree, false for root parallelism.
+     * @param seed         The seed of the random playouts.
+     */
+    public MonteCarloSearch(Rules rules, int nodeCapacity, ForkJoinPool pool, int workers, boolean sharedTree,
+                            long seed) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("A search needs at least one worker.");
+        }
+        if ((sharedTree ? nodeCapacity : nodeCapacity / workers) <= rules.getCells()) {
+            throw new IllegalArgumentException("Every tree needs room for the root and all its moves.");
+        }
+        this.rules = rules;
+        this.winMasks = rules.getWinMasks();
+        this.fullMask = rules.getFullMask();
+        this.maxPieces = rules.getMaxPieces();
+        this.maxPlayoutPlies = 4 * rules.getCells();
+        this.pool = pool;
+        this.workers = workers;
+        this.sharedTree = sharedTree;
+        this.exploration = DEFAULT_EXPLORATION;
+        if (sharedTree) {
+            this.trees = new MonteCarloTree[] { new MonteCarloTree(nodeCapacity, workers > 1) };
+        } else {
+            this.trees = new MonteCarloTree[workers];
+            for (int w = 0; w < workers; w++) {
+                this.trees[w] = new MonteCarloTree(nodeCapacity / workers, false);
+            }
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        this.randoms = new SplittableRandom[workers];
+        this.paths = new int[workers][MAX_DEPTH + 1];
+        for (int w = 0; w < workers; w++) {
+            this.randoms[w] = random.split();
+        }
+        this.playouts = new long[workers];
+    }
+
+    /**
+     * Sets the weight of the exploration term of UCT. Higher values widen the search, lower values deepen it.
+     *
+     * @param exploration The weight, `DEFAULT_EXPLORATION` unless set.
+     */
+    public void setExploration(double exploration) {
+        this.exploration = exploration;
+    }
+
+    /**
+     * Searches a position until the deadline passes.
+     *
+     * @param mine        The mask of the pieces of the side to move.
+     * @param theirs      The mask of the pieces of the other side.
+     * @param budgetNanos The time allowed for the move, in nanoseconds.
+     * @return The cell index to place on, or to lift from if the side to move has all its pieces.
+     */
+    public int bestMove(long mine, long theirs, long budgetNanos) {
+        return this.bestMove(mine, theirs, budgetNanos, Long.MAX_VALUE);
+    }
+
+    /**
+     * Searches a position until the deadline passes or the number of playouts is reached, which sets the
+     * strength of the search independently of the machine.
+     *
+     * @param mine        The mask of the pieces of the side to move.
+     * @param theirs      The mask of the pieces of the other side.
+     * @param budgetNanos The time allowed for the move, in nanoseconds.
+     * @param maxPlayouts The number of playouts shared out among the workers.
+     * @return The cell index to place on, or to lift from if the side to move has all its pieces.
+     */
+    public int bestMove(long mine, long theirs, long budgetNanos, long maxPlayouts) {
+        this.rootMine = mine;
+        this.rootTheirs = theirs;
+        this.start = System.nanoTime();
+        this.budgetNanos = budgetNanos;
+        for (MonteCarloTree tree : this.trees) {
+            tree.clear();
+            tree.claim(0);
+            this.expand(tree, 0, mine, theirs, 0);
+        }
+
+        long quota = Math.max(1, maxPlayouts / this.workers);
+        if (this.workers == 1) {
+            this.work(0, quota);
+        } else {
+            ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[this.workers];
+            for (int w = 0; w < this.workers; w++) {
+                final int worker = w;
+                tasks[w] = this.pool.submit(() -> this.work(worker, quota));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+        return this.mostVisited();
+    }
+
+    /**
+     * Returns the number of playouts of the last search.
+     *
+     * @return The playout count over all workers.
+     */
+    public long getPlayouts() {
+        long total = 0;
+        for (long count : this.playouts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the variant this search plays.
+     *
+     * @return The rules of the search.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    private void work(int worker, long quota) {
+        MonteCarloTree tree = this.trees[this.sharedTree ? 0 : worker];
+        SplittableRandom random = this.randoms[worker];
+        int[] path = this.paths[worker];
+        long count = 0;
+        while (count < quota && ((count & CHECK_INTERVAL) != 0 || System.nanoTime() - this.start < this.budgetNanos)) {
+            this.iterate(tree, random, path);
+            count++;
+        }
+        this.playouts[worker] = count;
+    }
+
+    /**
+     * Runs one selection, expansion, playout and backup. Player 0 is the side to move at the root.
+     */
+    private void iterate(MonteCarloTree tree, SplittableRandom random, int[] path) {
+        long pieces0 = this.rootMine;
+        long pieces1 = this.rootTheirs;
+        int toMove = 0;
+        int node = 0;
+        int depth = 0;
+        int winner = -1;
+        tree.visit(0);
+        path[depth++] = 0;
+
+        while (depth < MAX_DEPTH) {
+            if (tree.isTerminal(node)) {
+                winner = tree.mover(node);
+                break;
+            }
+            if (!tree.isExpanded(node)) {
+                long mine = toMove == 0 ? pieces0 : pieces1;
+                long theirs = toMove == 0 ? pieces1 : pieces0;
+                if (!tree.claim(node) || !this.expand(tree, node, mine, theirs, toMove)) {
+                    break;
+                }
+            }
+            node = this.select(tree, node);
+            tree.visit(node);
+            path[depth++] = node;
+
+            long bit = 1L << tree.cell(node);
+            long mine = toMove == 0 ? pieces0 : pieces1;
+            if (Long.bitCount(mine) < this.maxPieces) {
+                mine |= bit;
+                if (toMove == 0) {
+                    pieces0 = mine;
+                } else {
+                    pieces1 = mine;
+                }
+                toMove ^= 1;
+            } else if (toMove == 0) {
+                pieces0 = mine & ~bit;
+            } else {
+                pieces1 = mine & ~bit;
+            }
+        }
+
+        if (winner < 0) {
+            winner = this.playout(pieces0, pieces1, toMove, random);
+        }
+        for (int i = 0; i < depth; i++) {
+            int visited = path[i];
+            tree.addScore(visited, winner < 0 ? 1 : winner == tree.mover(visited) ? 2 : 0);
+        }
+    }
+
+    /**
+     * Creates the children of a claimed node, one per legal move of the side to move.
+     *
+     * @return False if the pool is full.
+     */
+    private boolean expand(MonteCarloTree tree, int node, long mine, long theirs, int toMove) {
+        boolean placing = Long.bitCount(mine) < this.maxPieces;
+        long moves = placing ? ~(mine | theirs) & this.fullMask : mine;
+        int first = tree.allocate(node, Long.bitCount(moves));
+        if (first < 0) {
+            return false;
+        }
+        int child = first;
+        for (long rest = moves; rest != 0; rest &= rest - 1) {
+            int cell = Long.numberOfTrailingZeros(rest);
+            boolean wins = placing && this.winMasks.isWin(mine | 1L << cell, cell);
+            tree.reset(child++, cell, toMove, wins);
+        }
+        tree.publish(node);
+        return true;
+    }
+
+    /**
+     * Picks the child with the highest upper confidence bound. Unvisited children come first.
+     */
+    private int select(MonteCarloTree tree, int node) {
+        int first = tree.firstChild(node);
+        int end = first + tree.childCount(node);
+        double logVisits = Math.log(Math.max(1, tree.visits(node)));
+        int best = first;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int child = first; child < end; child++) {
+            int visits = tree.visits(child);
+            if (visits == 0) {
+                return child;
+            }
+            double value = tree.score(child) / (2.0 * visits) + this.exploration * Math.sqrt(logVisits / visits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays random moves until a line is completed or the ply limit is reached.
+     *
+     * @return The player who won, or -1 for a draw.
+     */
+    private int playout(long pieces0, long pieces1, int toMove, SplittableRandom random) {
+        for (int ply = 0; ply < this.maxPlayoutPlies; ply++) {
+            long mine = toMove == 0 ? pieces0 : pieces1;
+            if (Long.bitCount(mine) < this.maxPieces) {
+                int cell = RandomPolicy.pick(~(pieces0 | pieces1) & this.fullMask, random);
+                mine |= 1L << cell;
+                if (this.winMasks.isWin(mine, cell)) {
+                    return toMove;
+                }
+                if (toMove == 0) {
+                    pieces0 = mine;
+                } else {
+                    pieces1 = mine;
+                }
+                toMove ^= 1;
+            } else {
+                mine &= ~(1L << RandomPolicy.pick(mine, random));
+                if (toMove == 0) {
+                    pieces0 = mine;
+                } else {
+                    pieces1 = mine;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sums the visits of every root move over all trees and returns the most visited move.
+     */
+    private int mostVisited() {
+        MonteCarloTree first = this.trees[0];
+        int children = first.childCount(0);
+        int best = first.cell(first.firstChild(0));
+        long bestVisits = -1;
+        for (int i = 0; i < children; i++) {
+            long visits = 0;
+            for (MonteCarloTree tree : this.trees) {
+                visits += tree.visits(tree.firstChild(0) + i);
+            }
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                best = first.cell(first.firstChild(0) + i);
+            }
+        }
+        return best;
+    }
+}
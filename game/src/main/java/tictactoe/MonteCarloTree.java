@@ -0,0 +1,166 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The `tictactoe.MonteCarloTree` class is the pre-sized node pool of a `tictactoe.MonteCarloSearch`.
+ * <p>
+ *     Nodes are indices into parallel arrays, so a search allocates nothing once the pool exists. The children
+ *     of a node take one contiguous block of indices. Each node records the cell of the move that leads to it,
+ *     the player who made that move (0 for the side to move at the root, 1 for the other side), and whether the
+ *     move completed a line. Scores are counted in half points: 2 for a win of the mover, 1 for a draw.
+ * </p>
+ * <p>
+ *     A tree shared by several threads keeps visits and scores in atomic arrays and expands a node only once,
+ *     guarded by a compare-and-set on its status; a thread that finds a node being expanded plays out from it
+ *     instead. A tree owned by one thread uses plain arrays.
+ * </p>
+ */
+final class MonteCarloTree {
+    private static final int NEW = 0;
+    private static final int EXPANDING = 1;
+    private static final int EXPANDED = 2;
+    private static final int TERMINAL_BIT = 1 << 9;
+
+    private final boolean shared;
+    private final int capacity;
+    private final int[] info;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final AtomicIntegerArray status;
+    private final int[] visits;
+    private final long[] scores;
+    private final AtomicIntegerArray sharedVisits;
+    private final AtomicLongArray sharedScores;
+    private final AtomicInteger size;
+
+    /**
+     * Constructs a new `tictactoe.MonteCarloTree`.
+     *
+     * @param capacity The number of nodes in the pool.
+     * @param shared   True if several threads search the tree at once.
+     */
+    MonteCarloTree(int capacity, boolean shared) {
+        this.shared = shared;
+        this.capacity = capacity;
+        this.info = new int[capacity];
+        this.firstChild = new int[capacity];
+        this.childCount = new int[capacity];
+        this.status = new AtomicIntegerArray(capacity);
+        this.visits = shared ? null : new int[capacity];
+        this.scores = shared ? null : new long[capacity];
+        this.sharedVisits = shared ? new AtomicIntegerArray(capacity) : null;
+        this.sharedScores = shared ? new AtomicLongArray(capacity) : null;
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     * Empties the pool and creates the root, node 0.
+     */
+    void clear() {
+        this.size.set(1);
+        this.reset(0, 0, 1, false);
+    }
+
+    /**
+     * Claims the expansion of a node.
+     *
+     * @return True if the caller must expand the node, false if it is expanded or being expanded.
+     */
+    boolean claim(int node) {
+        return this.status.get(node) == NEW && this.status.compareAndSet(node, NEW, EXPANDING);
+    }
+
+    /**
+     * Checks if the children of a node are ready.
+     */
+    boolean isExpanded(int node) {
+        return this.status.get(node) == EXPANDED;
+    }
+
+    /**
+     * Reserves a block of children for a claimed node.
+     *
+     * @return The index of the first child, or -1 if the pool is full, which leaves the node a leaf for good.
+     */
+    int allocate(int node, int count) {
+        int first = this.size.getAndAdd(count);
+        if (first + count > this.capacity) {
+            return -1;
+        }
+        this.firstChild[node] = first;
+        this.childCount[node] = count;
+        return first;
+    }
+
+    /**
+     * Prepares a pooled node for a move.
+     */
+    void reset(int node, int cell, int mover, boolean terminal) {
+        this.info[node] = cell | mover << 8 | (terminal ? TERMINAL_BIT : 0);
+        this.status.lazySet(node, NEW);
+        if (this.shared) {
+            this.sharedVisits.set(node, 0);
+            this.sharedScores.set(node, 0);
+        } else {
+            this.visits[node] = 0;
+            this.scores[node] = 0;
+        }
+    }
+
+    /**
+     * Publishes the children of a claimed node. The children must be reset before.
+     */
+    void publish(int node) {
+        this.status.set(node, EXPANDED);
+    }
+
+    int firstChild(int node) {
+        return this.firstChild[node];
+    }
+
+    int childCount(int node) {
+        return this.childCount[node];
+    }
+
+    int cell(int node) {
+        return this.info[node] & 0xFF;
+    }
+
+    int mover(int node) {
+        return (this.info[node] >>> 8) & 1;
+    }
+
+    boolean isTerminal(int node) {
+        return (this.info[node] & TERMINAL_BIT) != 0;
+    }
+
+    int visits(int node) {
+        return this.shared ? this.sharedVisits.get(node) : this.visits[node];
+    }
+
+    long score(int node) {
+        return this.shared ? this.sharedScores.get(node) : this.scores[node];
+    }
+
+    /**
+     * Counts a visit before the playout result is known, which works as a virtual loss for other threads.
+     */
+    void visit(int node) {
+        if (this.shared) {
+            this.sharedVisits.incrementAndGet(node);
+        } else {
+            this.visits[node]++;
+        }
+    }
+
+    void addScore(int node, int halfPoints) {
+        if (this.shared) {
+            this.sharedScores.addAndGet(node, halfPoints);
+        } else {
+            this.scores[node] += halfPoints;
+        }
+    }
+}
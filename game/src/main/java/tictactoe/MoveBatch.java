@@ -0,0 +1,183 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.MoveBatch` class validates and applies many moves in one loop, for bulk evaluation of recorded
+ * matches.
+ * <p>
+ *     Positions are given as parallel arrays: player 1's piece masks, player 2's piece masks, the side to move,
+ *     as in `tictactoe.GameEngine` (true when player 2 is to move), and whether the match is over. The over flag
+ *     is set by the move that completes a line, so a move is checked against the end of its match without
+ *     scanning every line; `markOver` sets the flags of positions taken from the middle of matches. Moves are
+ *     given as another set of parallel arrays: the cell of each move and, optionally, the position it applies
+ *     to, so the moves of many interleaved matches can be replayed in the order they were recorded. Accepted
+ *     moves update the position arrays in place. The result of every move is written as the ordinal of its
+ *     `tictactoe.MoveResult`.
+ * </p>
+ * <p>
+ *     The rules are those of `GameEngine.nextPlayerMove`: a player with fewer pieces than the limit places on a
+ *     free cell, a player with all their pieces lifts one of their own, a lift keeps the turn, and a position
+ *     where the player who just moved completed a line is over. Nothing is allocated per move.
+ * </p>
+ */
+public final class MoveBatch {
+    /**
+     * The code of `MoveResult.PLACED`.
+     */
+    public static final byte PLACED = (byte) MoveResult.PLACED.ordinal();
+
+    /**
+     * The code of `MoveResult.LIFTED`.
+     */
+    public static final byte LIFTED = (byte) MoveResult.LIFTED.ordinal();
+
+    /**
+     * The code of `MoveResult.WON`.
+     */
+    public static final byte WON = (byte) MoveResult.WON.ordinal();
+
+    /**
+     * The code of `MoveResult.REJECTED_TAKEN`.
+     */
+    public static final byte REJECTED_TAKEN = (byte) MoveResult.REJECTED_TAKEN.ordinal();
+
+    /**
+     * The code of `MoveResult.REJECTED_NOT_OWN`.
+     */
+    public static final byte REJECTED_NOT_OWN = (byte) MoveResult.REJECTED_NOT_OWN.ordinal();
+
+    /**
+     * The code of `MoveResult.REJECTED_OUT_OF_BOARD`.
+     */
+    public static final byte REJECTED_OUT_OF_BOARD = (byte) MoveResult.REJECTED_OUT_OF_BOARD.ordinal();
+
+    /**
+     * The code of `MoveResult.REJECTED_GAME_OVER`.
+     */
+    public static final byte REJECTED_GAME_OVER = (byte) MoveResult.REJECTED_GAME_OVER.ordinal();
+
+    private static final MoveResult[] RESULTS = MoveResult.values();
+
+    private final Rules rules;
+    private final WinMasks winMasks;
+    private final int cells;
+    private final int maxPieces;
+
+    /**
+     * Constructs a new `tictactoe.MoveBatch`.
+     *
+     * @param rules The variant the moves are played with.
+     */
+    public MoveBatch(Rules rules) {
+        this.rules = rules;
+        this.winMasks = rules.getWinMasks();
+        this.cells = rules.getCells();
+        this.maxPieces = rules.getMaxPieces();
+    }
+
+    /**
+     * Validates and applies one move to each position: move i applies to position i.
+     *
+     * @param player1 The masks of player 1's pieces, updated in place.
+     * @param player2 The masks of player 2's pieces, updated in place.
+     * @param turns   The side to move of each position, updated in place.
+     * @param over    Whether each position is over, updated in place.
+     * @param cells   The cell index of each move, as given by `Rules.index`.
+     * @param results Receives the result code of each move.
+     * @param count   The number of moves.
+     */
+    public void apply(long[] player1, long[] player2, boolean[] turns, boolean[] over, int[] cells, byte[] results,
+                      int count) {
+        this.apply(player1, player2, turns, over, null, cells, results, count);
+    }
+
+    /**
+     * Validates and applies moves to the positions they belong to, in order.
+     *
+     * @param player1   The masks of player 1's pieces, updated in place.
+     * @param player2   The masks of player 2's pieces, updated in place.
+     * @param turns     The side to move of each position, updated in place.
+     * @param over      Whether each position is over, updated in place.
+     * @param positions The index of the position each move applies to, or null if move i applies to position i.
+     * @param cells     The cell index of each move, as given by `Rules.index`.
+     * @param results   Receives the result code of each move.
+     * @param count     The number of moves.
+     */
+    public void apply(long[] player1, long[] player2, boolean[] turns, boolean[] over, int[] positions, int[] cells,
+                      byte[] results, int count) {
+        for (int i = 0; i < count; i++) {
+            int position = positions == null ? i : positions[i];
+            int cell = cells[i];
+            boolean turn = turns[position];
+            long mine = turn ? player2[position] : player1[position];
+            long theirs = turn ? player1[position] : player2[position];
+
+            byte result;
+            if (over[position]) {
+                result = REJECTED_GAME_OVER;
+            } else if (cell < 0 || cell >= this.cells) {
+                result = REJECTED_OUT_OF_BOARD;
+            } else if (Long.bitCount(mine) < this.maxPieces) {
+                long bit = 1L << cell;
+                if (((mine | theirs) & bit) != 0) {
+                    result = REJECTED_TAKEN;
+                } else {
+                    mine |= bit;
+                    turns[position] = !turn;
+                    if (this.winMasks.isWin(mine, cell)) {
+                        over[position] = true;
+                        result = WON;
+                    } else {
+                        result = PLACED;
+                    }
+                }
+            } else if ((mine & 1L << cell) == 0) {
+                result = REJECTED_NOT_OWN;
+            } else {
+                mine &= ~(1L << cell);
+                result = LIFTED;
+            }
+
+            if (turn) {
+                player2[position] = mine;
+            } else {
+                player1[position] = mine;
+            }
+            results[i] = result;
+        }
+    }
+
+    /**
+     * Sets the over flags of positions from their pieces: a position is over if the player who just moved holds
+     * a line. This scans every line, so it is meant for positions a batch did not play from the start.
+     *
+     * @param player1 The masks of player 1's pieces.
+     * @param player2 The masks of player 2's pieces.
+     * @param turns   The side to move of each position.
+     * @param over    Receives whether each position is over.
+     * @param count   The number of positions.
+     */
+    public void markOver(long[] player1, long[] player2, boolean[] turns, boolean[] over, int count) {
+        for (int position = 0; position < count; position++) {
+            over[position] = this.winMasks.isWin(turns[position] ? player1[position] : player2[position]);
+        }
+    }
+
+    /**
+     * Converts a result code back to its `tictactoe.MoveResult`.
+     *
+     * @param code A code written by `apply`.
+     * @return The result.
+     */
+    public static MoveResult result(byte code) {
+        return RESULTS[code];
+    }
+
+    /**
+     * Retrieves the variant the moves are played with.
+     *
+     * @return The rules of the batch.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+}
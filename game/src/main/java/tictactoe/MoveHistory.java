@@ -0,0 +1,174 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.MoveHistory` class is the undo and redo stack of a `tictactoe.GameEngine`.
+ * <p>
+ *     Every accepted move is one int entry holding the cell, the previous occupant of the cell (0 when it was
+ *     free), the player who moved, the side to move before the move and whether the move won. That is all an
+ *     engine needs to reverse the move, so undo and redo take constant time and allocate nothing.
+ * </p>
+ * <p>
+ *     The entries live in a ring of fixed capacity. When the ring is full the oldest move is forgotten and can no
+ *     longer be undone. Undone moves stay above the top of the stack until they are redone or a new move
+ *     replaces them.
+ * </p>
+ */
+public final class MoveHistory {
+    private static final int CELL_MASK = 0xFF;
+    private static final int OCCUPANT_SHIFT = 8;
+    private static final int PLAYER_SHIFT = 10;
+    private static final int TURN_BIT = 1 << 12;
+    private static final int WON_BIT = 1 << 13;
+
+    private final int[] entries;
+    private int start;
+    private int size;
+    private int redoable;
+    private int forgotten;
+
+    /**
+     * Constructs a new `tictactoe.MoveHistory`.
+     *
+     * @param capacity The number of moves that can be undone.
+     */
+    MoveHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A move history needs room for at least one move.");
+        }
+        this.entries = new int[capacity];
+    }
+
+    /**
+     * Returns the number of moves that can be undone.
+     *
+     * @return The moves in the history.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of moves that led to the current position, including those too old to be undone.
+     *
+     * @return The length of the match so far.
+     */
+    public int getPlies() {
+        return this.forgotten + this.size;
+    }
+
+    /**
+     * Returns the number of undone moves that can be redone.
+     *
+     * @return The moves above the top of the stack.
+     */
+    public int getRedoable() {
+        return this.redoable;
+    }
+
+    /**
+     * Retrieves the cell of a move.
+     *
+     * @param move The move, 0 for the oldest one kept.
+     * @return The cell index, as given by `Rules.index`.
+     */
+    public int cell(int move) {
+        return cellOf(this.entry(move));
+    }
+
+    /**
+     * Retrieves the player who made a move.
+     *
+     * @param move The move, 0 for the oldest one kept.
+     * @return 1 or 2.
+     */
+    public int player(int move) {
+        return playerOf(this.entry(move));
+    }
+
+    /**
+     * Checks if a move lifted a piece.
+     *
+     * @param move The move, 0 for the oldest one kept.
+     * @return True for a lift, false for a placement.
+     */
+    public boolean isLift(int move) {
+        return occupantOf(this.entry(move)) != 0;
+    }
+
+    /**
+     * Pushes a move and forgets the undone moves.
+     */
+    void push(int entry) {
+        this.entries[(this.start + this.size) % this.entries.length] = entry;
+        if (this.size == this.entries.length) {
+            this.start = (this.start + 1) % this.entries.length;
+            this.forgotten++;
+        } else {
+            this.size++;
+        }
+        this.redoable = 0;
+    }
+
+    /**
+     * Pops the latest move, keeping it for redo. The history must not be empty.
+     */
+    int undo() {
+        this.size--;
+        this.redoable++;
+        return this.entries[(this.start + this.size) % this.entries.length];
+    }
+
+    /**
+     * Restores the latest undone move. There must be one.
+     */
+    int redo() {
+        int entry = this.entries[(this.start + this.size) % this.entries.length];
+        this.size++;
+        this.redoable--;
+        return entry;
+    }
+
+    /**
+     * Forgets every move.
+     */
+    void clear() {
+        this.start = 0;
+        this.size = 0;
+        this.redoable = 0;
+        this.forgotten = 0;
+    }
+
+    /**
+     * Packs a move into an entry.
+     */
+    static int entry(int cell, int occupant, int player, boolean turn, boolean won) {
+        return cell | occupant << OCCUPANT_SHIFT | player << PLAYER_SHIFT | (turn ? TURN_BIT : 0) | (won ? WON_BIT : 0);
+    }
+
+    static int cellOf(int entry) {
+        return entry & CELL_MASK;
+    }
+
+    static int occupantOf(int entry) {
+        return (entry >>> OCCUPANT_SHIFT) & 3;
+    }
+
+    static int playerOf(int entry) {
+        return (entry >>> PLAYER_SHIFT) & 3;
+    }
+
+    static boolean turnOf(int entry) {
+        return (entry & TURN_BIT) != 0;
+    }
+
+    static boolean wonOf(int entry) {
+        return (entry & WON_BIT) != 0;
+    }
+
+    private int entry(int move) {
+        if (move < 0 || move >= this.size) {
+            throw new IndexOutOfBoundsException("Move " + move + " is not in the history.");
+        }
+        return this.entries[(this.start + move) % this.entries.length];
+    }
+}
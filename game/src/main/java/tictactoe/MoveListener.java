@@ -0,0 +1,40 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.MoveListener` interface is notified of every piece a `tictactoe.GameEngine` places or lifts and of
+ * the win that ends a match.
+ * <p>
+ *     Listeners are called on the thread that plays the move, after the board was updated.
+ * </p>
+ */
+public interface MoveListener {
+    /**
+     * Called when a piece is placed.
+     *
+     * @param cell   The cell index, as given by `Rules.index`.
+     * @param player The player who placed the piece: 1 or 2.
+     */
+    void onPlace(int cell, int player);
+
+    /**
+     * Called when a piece is lifted.
+     *
+     * @param cell   The cell index, as given by `Rules.index`.
+     * @param player The player who lifted the piece: 1 or 2.
+     */
+    void onLift(int cell, int player);
+
+    /**
+     * Called when a piece completes a line, right after the piece is placed.
+     *
+     * @param player    The player who won: 1 or 2.
+     * @param direction The direction of the line: `WinMasks.HORIZONTAL`, `WinMasks.VERTICAL` or
+     *                  `WinMasks.DIAGONAL`.
+     */
+    void onWin(int player, int direction);
+
+    /**
+     * Called when the engine is reset for a new match.
+     */
+    void onReset();
+}
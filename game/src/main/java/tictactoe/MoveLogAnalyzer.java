@@ -0,0 +1,342 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The `tictactoe.MoveLogAnalyzer` class computes `tictactoe.MoveLogStats` over a move log written by
+ * `tictactoe.MoveRecorder`.
+ * <p>
+ *     Segments are analysed in parallel on a `ForkJoinPool`, each streamed by a `tictactoe.MoveReplayer` of its
+ *     own, and their partial results are merged in segment order. A worker follows the games of its
+ *     segment in an open-addressing table keyed by game id that holds only each player's pieces, the opening
+ *     and the number of moves. A game is counted and dropped from the table as soon as a placement completes a
+ *     line, so the table holds the games in progress, and memory does not grow with the size of the log.
+ * </p>
+ * <p>
+ *     A game still in progress when a segment fills up continues in a later one. Such a game has an id below
+ *     the start game of the later segment, so a worker keeps the moves of those games apart, as relative changes
+ *     to an unknown board, and the merge joins them to the games left open by earlier segments. A game without
+ *     moves in `IDLE_SEGMENTS` segments in a row is counted as unfinished, which bounds the games the merge
+ *     holds. Segments of version 1 carry no start game, so every game in them is taken to start in the segment:
+ *     a game cut by a boundary between such segments counts as two, and only segments of version 2 or later join
+ *     the games they continue.
+ * </p>
+ */
+public final class MoveLogAnalyzer {
+    /**
+     * The number of segments without a move after which an open game is counted as unfinished.
+     */
+    public static final int IDLE_SEGMENTS = 4;
+
+    private final Path directory;
+    private final Rules rules;
+    private final int[] segments;
+
+    /**
+     * The moves of one game seen in one segment, or in several joined segments.
+     */
+    private static final class Fragment {
+        private long game;
+        private int segment;
+        private int opening;
+        private int opener;
+        private int plies;
+        private final long[] placed = new long[3];
+        private final long[] lifted = new long[3];
+        private int lastCell;
+        private int lastAction;
+        private int lastPlayer;
+
+        /**
+         * Starts the fragment with its first move.
+         */
+        private Fragment start(long game, int cell, int player) {
+            this.game = game;
+            this.opening = cell;
+            this.opener = player;
+            this.plies = 0;
+            Arrays.fill(this.placed, 0);
+            Arrays.fill(this.lifted, 0);
+            return this;
+        }
+
+        /**
+         * Applies a move. A cell's latest move decides whether it counts as placed or lifted.
+         */
+        private void apply(int cell, int action, int player) {
+            long bit = 1L << cell;
+            if (action == MoveRecorder.LIFT) {
+                this.placed[player] &= ~bit;
+                this.lifted[player] |= bit;
+            } else {
+                this.placed[player] |= bit;
+                this.lifted[player] &= ~bit;
+            }
+            this.plies++;
+            this.lastCell = cell;
+            this.lastAction = action;
+            this.lastPlayer = player;
+        }
+
+        /**
+         * Appends the moves of a later fragment of the same game.
+         */
+        private Fragment append(Fragment later) {
+            this.segment = later.segment;
+            for (int player = 1; player <= 2; player++) {
+                this.placed[player] = this.placed[player] & ~later.lifted[player] | later.placed[player];
+                this.lifted[player] = this.lifted[player] & ~later.placed[player] | later.lifted[player];
+            }
+            this.plies += later.plies;
+            this.lastCell = later.lastCell;
+            this.lastAction = later.lastAction;
+            this.lastPlayer = later.lastPlayer;
+            return this;
+        }
+
+        /**
+         * Checks if the last move of a fragment that starts on the empty board completed a line.
+         */
+        private boolean isWon(WinMasks winMasks) {
+            return this.lastAction == MoveRecorder.PLACE && winMasks.isWin(this.placed[this.lastPlayer], this.lastCell);
+        }
+    }
+
+    /**
+     * The statistics of the games a segment finished, and the fragments it could not finish.
+     */
+    private static final class Partial {
+        private final MoveLogStats stats;
+        private final List<Fragment> continued;
+        private final List<Fragment> open;
+
+        private Partial(MoveLogStats stats) {
+            this.stats = stats;
+            this.continued = new ArrayList<>();
+            this.open = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Analyses one segment.
+     */
+    private final class Segment extends RecursiveTask<Partial> implements MoveReplayer.Visitor {
+        private static final long serialVersionUID = 1L;
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final int segment;
+        private final WinMasks winMasks;
+        private MoveReplayer replayer;
+        private Partial partial;
+        private long startGame;
+        private long[] keys;
+        private Fragment[] fragments;
+        private int size;
+        private Fragment[] spare;
+        private int spares;
+
+        private Segment(int segment) {
+            this.segment = segment;
+            this.winMasks = MoveLogAnalyzer.this.rules.getWinMasks();
+        }
+
+        @Override
+        protected Partial compute() {
+            MoveLogAnalyzer analyzer = MoveLogAnalyzer.this;
+            this.replayer = new MoveReplayer(analyzer.directory, analyzer.segments, analyzer.rules);
+            this.partial = new Partial(new MoveLogStats(MoveLogAnalyzer.this.rules));
+            this.keys = new long[64];
+            Arrays.fill(this.keys, EMPTY);
+            this.fragments = new Fragment[64];
+            this.spare = new Fragment[16];
+            this.startGame = -1;
+            try {
+                this.replayer.replay(this.segment, this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (int slot = 0; slot < this.keys.length; slot++) {
+                if (this.keys[slot] != EMPTY) {
+                    Fragment fragment = this.fragments[slot];
+                    fragment.segment = this.segment;
+                    (fragment.game < this.startGame ? this.partial.continued : this.partial.open).add(fragment);
+                }
+            }
+            return this.partial;
+        }
+
+        @Override
+        public void onRecord(long game, int cell, int action, int player) {
+            if (this.startGame < 0) {
+                // The replayer reads the header before the first record.
+                this.startGame = this.replayer.getVersion() >= 2 ? this.replayer.getStartGame() : 0;
+            }
+            this.partial.stats.recordMove(action);
+            int slot = this.find(game);
+            Fragment fragment;
+            if (this.keys[slot] == EMPTY) {
+                fragment = (this.spares > 0 ? this.spare[--this.spares] : new Fragment()).start(game, cell, player);
+                this.keys[slot] = game;
+                this.fragments[slot] = fragment;
+                if (++this.size * 2 > this.keys.length) {
+                    this.grow();
+                    slot = this.find(game);
+                }
+            } else {
+                fragment = this.fragments[slot];
+            }
+            fragment.apply(cell, action, player);
+            // Games that may have begun in an earlier segment are judged when the segments are merged.
+            if (game >= this.startGame && fragment.isWon(this.winMasks)) {
+                this.partial.stats.recordGame(fragment.opening, fragment.opener, player, fragment.plies);
+                this.remove(slot);
+                if (this.spares == this.spare.length) {
+                    this.spare = Arrays.copyOf(this.spare, this.spares * 2);
+                }
+                this.spare[this.spares++] = fragment;
+            }
+        }
+
+        /**
+         * Finds the slot of a game, or the empty slot where it belongs.
+         */
+        private int find(long game) {
+            int mask = this.keys.length - 1;
+            int slot = (int) (SelfPlay.mix(game) & mask);
+            while (this.keys[slot] != EMPTY && this.keys[slot] != game) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Empties a slot and moves later entries of its probe run back so that no lookup stops short.
+         */
+        private void remove(int slot) {
+            int mask = this.keys.length - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; this.keys[next] != EMPTY; next = (next + 1) & mask) {
+                int home = (int) (SelfPlay.mix(this.keys[next]) & mask);
+                // Move the entry into the hole unless its home lies cyclically after the hole.
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    this.keys[hole] = this.keys[next];
+                    this.fragments[hole] = this.fragments[next];
+                    hole = next;
+                }
+            }
+            this.keys[hole] = EMPTY;
+            this.fragments[hole] = null;
+            this.size--;
+        }
+
+        private void grow() {
+            long[] oldKeys = this.keys;
+            Fragment[] oldFragments = this.fragments;
+            this.keys = new long[oldKeys.length * 2];
+            Arrays.fill(this.keys, EMPTY);
+            this.fragments = new Fragment[this.keys.length];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = this.find(oldKeys[i]);
+                    this.keys[slot] = oldKeys[i];
+                    this.fragments[slot] = oldFragments[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructs a new `tictactoe.MoveLogAnalyzer`.
+     *
+     * @param directory The directory of the log.
+     * @throws IOException If the directory holds no segment or the first segment header is invalid.
+     */
+    public MoveLogAnalyzer(Path directory) throws IOException {
+        MoveReplayer replayer = new MoveReplayer(directory);
+        this.directory = directory;
+        this.rules = replayer.getRules();
+        this.segments = replayer.getSegments();
+    }
+
+    /**
+     * Retrieves the variant of the log.
+     *
+     * @return The rules read from the segment headers.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Retrieves the number of segments of the log.
+     *
+     * @return The number of segment files analysed.
+     */
+    public int getSegmentCount() {
+        return this.segments.length;
+    }
+
+    /**
+     * Analyses every segment of the log.
+     *
+     * @param pool The pool the segments are analysed on.
+     * @return The statistics of the whole log.
+     * @throws IOException If a segment cannot be read, has an invalid header or was written for other rules.
+     */
+    public MoveLogStats analyze(ForkJoinPool pool) throws IOException {
+        List<ForkJoinTask<Partial>> tasks = new ArrayList<>();
+        for (int segment : this.segments) {
+            tasks.add(pool.submit(new Segment(segment)));
+        }
+        MoveLogStats stats = new MoveLogStats(this.rules);
+        WinMasks winMasks = this.rules.getWinMasks();
+        Map<Long, Fragment> open = new HashMap<>();
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                Partial partial = tasks.get(i).join();
+                int segment = this.segments[i];
+                stats.merge(partial.stats);
+                Map<Long, Fragment> next = new HashMap<>();
+                for (Fragment later : partial.continued) {
+                    Fragment earlier = open.remove(later.game);
+                    Fragment game = earlier == null ? later : earlier.append(later);
+                    if (game.isWon(winMasks)) {
+                        stats.recordGame(game.opening, game.opener, game.lastPlayer, game.plies);
+                    } else {
+                        next.put(game.game, game);
+                    }
+                }
+                for (Fragment idle : open.values()) {
+                    if (segment - idle.segment < IDLE_SEGMENTS) {
+                        next.put(idle.game, idle);
+                    } else {
+                        stats.recordGame(idle.opening, idle.opener, 0, idle.plies);
+                    }
+                }
+                for (Fragment fragment : partial.open) {
+                    next.put(fragment.game, fragment);
+                }
+                open = next;
+            }
+        } catch (UncheckedIOException e) {
+            for (ForkJoinTask<Partial> task : tasks) {
+                task.cancel(false);
+            }
+            throw e.getCause();
+        }
+        for (Fragment abandoned : open.values()) {
+            stats.recordGame(abandoned.opening, abandoned.opener, 0, abandoned.plies);
+        }
+        return stats;
+    }
+}
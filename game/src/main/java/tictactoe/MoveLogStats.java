@@ -0,0 +1,215 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.MoveLogStats` class accumulates statistics over the games of a move log.
+ * <p>
+ *     Besides the results and lengths of the games, the statistics count every game by its opening, the cell of
+ *     its first move, together with how the player who opened fared. Each worker of a
+ *     `tictactoe.MoveLogAnalyzer` fills its own instance and the instances are merged, so the memory needed does
+ *     not grow with the number of games.
+ * </p>
+ */
+public class MoveLogStats {
+    private final Rules rules;
+    private final long[] openings;
+    private final long[] openerWins;
+    private final long[] openerLosses;
+    private long moves;
+    private long lifts;
+    private long games;
+    private long player1Wins;
+    private long player2Wins;
+    private long unfinished;
+    private long totalPlies;
+    private int longest;
+
+    /**
+     * Constructs a new empty `tictactoe.MoveLogStats`.
+     *
+     * @param rules The variant of the log.
+     */
+    public MoveLogStats(Rules rules) {
+        this.rules = rules;
+        this.openings = new long[rules.getCells()];
+        this.openerWins = new long[rules.getCells()];
+        this.openerLosses = new long[rules.getCells()];
+    }
+
+    /**
+     * Counts one record of the log.
+     *
+     * @param action `MoveRecorder.PLACE` or `MoveRecorder.LIFT`.
+     */
+    public void recordMove(int action) {
+        this.moves++;
+        if (action == MoveRecorder.LIFT) {
+            this.lifts++;
+        }
+    }
+
+    /**
+     * Records one game.
+     *
+     * @param opening The cell of the first move.
+     * @param opener  The player who made the first move: 1 or 2.
+     * @param winner  1 or 2 for the winning player, or 0 if the game ended without a winner.
+     * @param plies   The number of moves of the game, lifts included.
+     */
+    public void recordGame(int opening, int opener, int winner, int plies) {
+        this.games++;
+        this.openings[opening]++;
+        if (winner == 0) {
+            this.unfinished++;
+        } else {
+            if (winner == 1) {
+                this.player1Wins++;
+            } else {
+                this.player2Wins++;
+            }
+            if (winner == opener) {
+                this.openerWins[opening]++;
+            } else {
+                this.openerLosses[opening]++;
+            }
+        }
+        this.totalPlies += plies;
+        this.longest = Math.max(this.longest, plies);
+    }
+
+    /**
+     * Adds the statistics of another instance to this one.
+     *
+     * @param other The statistics to add, for the same variant.
+     */
+    public void merge(MoveLogStats other) {
+        for (int cell = 0; cell < this.openings.length; cell++) {
+            this.openings[cell] += other.openings[cell];
+            this.openerWins[cell] += other.openerWins[cell];
+            this.openerLosses[cell] += other.openerLosses[cell];
+        }
+        this.moves += other.moves;
+        this.lifts += other.lifts;
+        this.games += other.games;
+        this.player1Wins += other.player1Wins;
+        this.player2Wins += other.player2Wins;
+        this.unfinished += other.unfinished;
+        this.totalPlies += other.totalPlies;
+        this.longest = Math.max(this.longest, other.longest);
+    }
+
+    /**
+     * Returns the number of records, placements and lifts.
+     *
+     * @return The number of moves.
+     */
+    public long getMoves() {
+        return this.moves;
+    }
+
+    /**
+     * Returns the number of lifts.
+     *
+     * @return The number of lifted pieces.
+     */
+    public long getLifts() {
+        return this.lifts;
+    }
+
+    /**
+     * Returns the number of games.
+     *
+     * @return The number of games, finished or not.
+     */
+    public long getGames() {
+        return this.games;
+    }
+
+    /**
+     * Returns the number of games won by a player.
+     *
+     * @param player 1 or 2.
+     * @return The number of wins.
+     */
+    public long getWins(int player) {
+        return player == 1 ? this.player1Wins : this.player2Wins;
+    }
+
+    /**
+     * Returns the number of games that stopped without a winner, e.g. because a player left.
+     *
+     * @return The number of unfinished games.
+     */
+    public long getUnfinished() {
+        return this.unfinished;
+    }
+
+    /**
+     * Returns the average number of moves per game.
+     *
+     * @return The average game length, or 0 if there is no game.
+     */
+    public double getAverageLength() {
+        return this.games == 0 ? 0 : (double) this.totalPlies / this.games;
+    }
+
+    /**
+     * Returns the length of the longest game.
+     *
+     * @return The number of moves of the longest game.
+     */
+    public int getLongest() {
+        return this.longest;
+    }
+
+    /**
+     * Returns the number of games opened on a cell.
+     *
+     * @param cell The cell index, as given by `Rules.index`.
+     * @return The number of games.
+     */
+    public long getOpenings(int cell) {
+        return this.openings[cell];
+    }
+
+    /**
+     * Returns the share of the finished games opened on a cell that the player who opened won.
+     *
+     * @param cell The cell index, as given by `Rules.index`.
+     * @return The win rate, from 0 to 1, or 0 if no such game finished.
+     */
+    public double getOpenerWinRate(int cell) {
+        long finished = this.openerWins[cell] + this.openerLosses[cell];
+        return finished == 0 ? 0 : (double) this.openerWins[cell] / finished;
+    }
+
+    /**
+     * Formats the totals and a table of the openings, most frequent first.
+     *
+     * @return The statistics.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(String.format(
+                "moves=%d lifts=%d (%.1f%%) games=%d player1=%d player2=%d unfinished=%d avgPlies=%.2f maxPlies=%d%n",
+                this.moves, this.lifts, this.moves == 0 ? 0 : 100.0 * this.lifts / this.moves, this.games,
+                this.player1Wins, this.player2Wins, this.unfinished, this.getAverageLength(), this.longest));
+        text.append(String.format("%-10s %12s %8s %10s%n", "Opening", "Games", "Share", "Opener won"));
+        boolean[] listed = new boolean[this.openings.length];
+        for (int row = 0; row < this.openings.length; row++) {
+            int best = -1;
+            for (int cell = 0; cell < this.openings.length; cell++) {
+                if (!listed[cell] && (best < 0 || this.openings[cell] > this.openings[best])) {
+                    best = cell;
+                }
+            }
+            listed[best] = true;
+            if (this.openings[best] == 0) {
+                break;
+            }
+            String cell = "(" + this.rules.x(best) + ", " + this.rules.y(best) + ")";
+            text.append(String.format("%-10s %12d %7.1f%% %9.1f%%%n", cell, this.openings[best],
+                    100.0 * this.openings[best] / this.games, 100 * this.getOpenerWinRate(best)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.MovePolicy` interface chooses moves for a player without any input or output.
+ * <p>
+ *     A policy may keep state between moves, so every thread needs its own instance.
+ * </p>
+ */
+public interface MovePolicy {
+    /**
+     * Prepares the policy for a new match. The same seed must lead to the same moves.
+     *
+     * @param seed The seed of the match.
+     */
+    void reset(long seed);
+
+    /**
+     * Chooses a legal move for the player whose turn it is.
+     *
+     * @param engine The engine running the match.
+     * @return The cell index to select, one of the bits of `GameEngine.legalMoves`.
+     */
+    int chooseMove(GameEngine engine);
+}
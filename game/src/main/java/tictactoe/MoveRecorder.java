@@ -0,0 +1,303 @@
+package tictactoe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The `tictactoe.MoveRecorder` class appends every move of the matches it listens to to a binary move log.
+ * <p>
+ *     The log is a directory of segment files named `moves-000001.log`, `moves-000002.log` and so on. Every
+ *     segment starts with a header of `HEADER_BYTES` bytes: the `MAGIC` number, the `VERSION`, the board
+ *     size, win length and pieces per player as one byte each, and the start game as a long: the id the recorder
+ *     would reserve next when the segment was started. Only games with lower ids can have moves in earlier
+ *     segments. Segments of version 1, written before the start game was kept, have unused bytes in its place.
+ *     The header is followed by records of `RECORD_BYTES` bytes: the game id as a long, then the cell index, the
+ *     action (`PLACE` or `LIFT`) and the player (1 or 2) as one byte each, and one unused byte.
+ * </p>
+ * <p>
+ *     Records are collected in a direct buffer and written to the segment with one sequential write when it
+ *     fills up, so recording a move costs a few stores. A new segment is started once a segment reaches its size
+ *     limit. Recording takes a `ReentrantLock`, so matches on several threads may share one recorder, and a
+ *     match on a virtual thread waiting for the lock or writing a full buffer does not pin its carrier thread.
+ *     Records of concurrent matches are interleaved and told apart by their game id.
+ * </p>
+ * <p>
+ *     Game ids start at the number of the first segment the recorder writes shifted left by 32 bits, so
+ *     recorders that append to the same directory one after the other never reuse an id.
+ * </p>
+ */
+public class MoveRecorder implements Closeable {
+    /**
+     * The number at the start of every segment: "TTTL" in ASCII.
+     */
+    public static final int MAGIC = 0x5454544C;
+
+    /**
+     * The version of the segment format. Version 2 added the start game to the header.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The size of a segment header in bytes.
+     */
+    public static final int HEADER_BYTES = 16;
+
+    /**
+     * The size of a move record in bytes.
+     */
+    public static final int RECORD_BYTES = 12;
+
+    /**
+     * The action of a record that places a piece.
+     */
+    public static final int PLACE = 0;
+
+    /**
+     * The action of a record that lifts a piece.
+     */
+    public static final int LIFT = 1;
+
+    /**
+     * The size, in bytes, after which a new segment is started unless another limit is given.
+     */
+    public static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final String PREFIX = "moves-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final Rules rules;
+    private final long segmentBytes;
+    private final ByteBuffer buffer;
+    private final AtomicLong nextGame;
+    private final ReentrantLock lock;
+    private FileChannel channel;
+    private int segment;
+    private long segmentSize;
+
+    /**
+     * Constructs a new `tictactoe.MoveRecorder` with the default segment size.
+     *
+     * @param directory The directory of the log, which is created if needed.
+     * @param rules     The variant of the recorded matches.
+     * @throws IOException If the first segment cannot be created.
+     */
+    public MoveRecorder(Path directory, Rules rules) throws IOException {
+        this(directory, rules, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Constructs a new `tictactoe.MoveRecorder`. Existing segments in the directory are kept and new segments
+     * are numbered after them.
+     *
+     * @param directory    The directory of the log, which is created if needed.
+     * @param rules        The variant of the recorded matches.
+     * @param segmentBytes The size in bytes after which a new segment is started.
+     * @throws IOException If the first segment cannot be created.
+     */
+    public MoveRecorder(Path directory, Rules rules, long segmentBytes) throws IOException {
+        if (segmentBytes < HEADER_BYTES + RECORD_BYTES) {
+            throw new IllegalArgumentException("A segment must hold at least one record.");
+        }
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.rules = rules;
+        this.segmentBytes = segmentBytes;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        int[] existing = segments(directory);
+        this.segment = existing.length == 0 ? 0 : existing[existing.length - 1];
+        this.nextGame = new AtomicLong((long) (this.segment + 1) << 32);
+        this.lock = new ReentrantLock();
+        this.openSegment();
+    }
+
+    /**
+     * Reserves the id of a new game.
+     *
+     * @return An id no other game of this log uses.
+     */
+    public long newGame() {
+        return this.nextGame.getAndIncrement();
+    }
+
+    /**
+     * Creates a listener that records the moves of one `tictactoe.GameEngine`. Every match of the engine,
+     * separated by `GameEngine.reset`, gets its own game id.
+     *
+     * @return A listener for a single engine.
+     */
+    public MoveListener listener() {
+        return new MoveListener() {
+            private long game = MoveRecorder.this.newGame();
+
+            @Override
+            public void onPlace(int cell, int player) {
+                MoveRecorder.this.record(this.game, cell, PLACE, player);
+            }
+
+            @Override
+            public void onLift(int cell, int player) {
+                MoveRecorder.this.record(this.game, cell, LIFT, player);
+            }
+
+            @Override
+            public void onWin(int player, int direction) {
+                // A win follows from the moves, so replays find it without a record.
+            }
+
+            @Override
+            public void onReset() {
+                this.game = MoveRecorder.this.newGame();
+            }
+        };
+    }
+
+    /**
+     * Appends a move record.
+     *
+     * @param game   The id of the game.
+     * @param cell   The cell index, as given by `Rules.index`.
+     * @param action `PLACE` or `LIFT`.
+     * @param player The player who moved: 1 or 2.
+     * @throws UncheckedIOException If the log cannot be written.
+     */
+    public void record(long game, int cell, int action, int player) {
+        this.lock.lock();
+        try {
+            if (this.segmentSize + RECORD_BYTES > this.segmentBytes) {
+                this.drain();
+                this.channel.close();
+                this.openSegment();
+            } else if (this.buffer.remaining() < RECORD_BYTES) {
+                this.drain();
+            }
+            this.buffer.putLong(game);
+            this.buffer.put((byte) cell);
+            this.buffer.put((byte) action);
+            this.buffer.put((byte) player);
+            this.buffer.put((byte) 0);
+            this.segmentSize += RECORD_BYTES;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered records to the current segment.
+     *
+     * @throws IOException If the segment cannot be written.
+     */
+    public void flush() throws IOException {
+        this.lock.lock();
+        try {
+            this.drain();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered records, forces them to the storage device and closes the current segment.
+     *
+     * @throws IOException If the segment cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+        try {
+            if (!this.channel.isOpen()) {
+                return;
+            }
+            this.drain();
+            this.channel.force(false);
+            this.channel.close();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the variant of the recorded matches.
+     *
+     * @return The rules written in every segment header.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    private void openSegment() throws IOException {
+        this.segment++;
+        this.channel = FileChannel.open(segmentPath(this.directory, this.segment),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.buffer.putInt(MAGIC);
+        this.buffer.put((byte) VERSION);
+        this.buffer.put((byte) this.rules.getSize());
+        this.buffer.put((byte) this.rules.getWinLength());
+        this.buffer.put((byte) this.rules.getMaxPieces());
+        this.buffer.putLong(this.nextGame.get());
+        this.segmentSize = HEADER_BYTES;
+    }
+
+    private void drain() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Returns the path of a segment.
+     *
+     * @param directory The directory of the log.
+     * @param segment   The number of the segment.
+     * @return The path of the segment file.
+     */
+    static Path segmentPath(Path directory, int segment) {
+        return directory.resolve(String.format("%s%06d%s", PREFIX, segment, SUFFIX));
+    }
+
+    /**
+     * Lists the segments of a log.
+     *
+     * @param directory The directory of the log.
+     * @return The segment numbers in ascending order.
+     * @throws IOException If the directory cannot be read.
+     */
+    static int[] segments(Path directory) throws IOException {
+        int[] numbers = new int[16];
+        int count = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                String digits = name.substring(PREFIX.length(), name.length() - SUFFIX.length());
+                int number;
+                try {
+                    number = Integer.parseInt(digits);
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (count == numbers.length) {
+                    numbers = Arrays.copyOf(numbers, count * 2);
+                }
+                numbers[count++] = number;
+            }
+        }
+        numbers = Arrays.copyOf(numbers, count);
+        Arrays.sort(numbers);
+        return numbers;
+    }
+}
@@ -0,0 +1,211 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The `tictactoe.MoveReplayer` class streams the records of a move log written by `tictactoe.MoveRecorder`.
+ * <p>
+ *     Segments are read in order through a reused direct buffer, and records are handed to a visitor as
+ *     primitives, so replaying does not allocate per record. A record cut short at the end of a segment, left by
+ *     a process that stopped while writing, is skipped. A replayer reads through one buffer, so threads that
+ *     replay segments in parallel need a replayer each.
+ * </p>
+ */
+public class MoveReplayer {
+    private static final int BUFFER_BYTES = 256 * 1024 - 256 * 1024 % MoveRecorder.RECORD_BYTES;
+
+    /**
+     * The `tictactoe.MoveReplayer.Visitor` interface receives the records of a move log.
+     */
+    public interface Visitor {
+        /**
+         * Called for every record in the order it was written.
+         *
+         * @param game   The id of the game.
+         * @param cell   The cell index, as given by `Rules.index`.
+         * @param action `MoveRecorder.PLACE` or `MoveRecorder.LIFT`.
+         * @param player The player who moved: 1 or 2.
+         */
+        void onRecord(long game, int cell, int action, int player);
+    }
+
+    private final Path directory;
+    private final int[] segments;
+    private final Rules rules;
+    private final ByteBuffer buffer;
+    private int version;
+    private long startGame;
+
+    /**
+     * Constructs a new `tictactoe.MoveReplayer`.
+     *
+     * @param directory The directory of the log.
+     * @throws IOException If the directory holds no segment or the first segment header is invalid.
+     */
+    public MoveReplayer(Path directory) throws IOException {
+        this.directory = directory;
+        this.segments = MoveRecorder.segments(directory);
+        if (this.segments.length == 0) {
+            throw new IOException("No move log segments in " + directory + ".");
+        }
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        try (FileChannel channel = this.open(this.segments[0])) {
+            this.rules = this.readHeader(channel);
+        }
+    }
+
+    /**
+     * Constructs a new `tictactoe.MoveReplayer` for a log whose segments and rules are already known.
+     *
+     * @param directory The directory of the log.
+     * @param segments  The segment numbers in ascending order.
+     * @param rules     The rules read from the first segment header.
+     */
+    MoveReplayer(Path directory, int[] segments, Rules rules) {
+        this.directory = directory;
+        this.segments = segments;
+        this.rules = rules;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    }
+
+    /**
+     * Retrieves the variant of the recorded matches.
+     *
+     * @return The rules read from the segment headers.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Streams every record of the log to a visitor.
+     *
+     * @param visitor The visitor receiving the records.
+     * @return The number of records read.
+     * @throws IOException If a segment cannot be read or was written for other rules.
+     */
+    public long replay(Visitor visitor) throws IOException {
+        long records = 0;
+        for (int segment : this.segments) {
+            records += this.replay(segment, visitor);
+        }
+        return records;
+    }
+
+    /**
+     * Streams the records of one segment to a visitor.
+     *
+     * @param segment The number of the segment, one of `getSegments`.
+     * @param visitor The visitor receiving the records.
+     * @return The number of records read.
+     * @throws IOException If the segment cannot be read or was written for other rules.
+     */
+    public long replay(int segment, Visitor visitor) throws IOException {
+        try (FileChannel channel = this.open(segment)) {
+            if (!this.rules.equals(this.readHeader(channel))) {
+                throw new IOException("Segment " + segment + " was recorded with other rules.");
+            }
+            return this.replay(channel, visitor);
+        }
+    }
+
+    /**
+     * Retrieves the numbers of the segments of the log.
+     *
+     * @return The segment numbers in ascending order.
+     */
+    public int[] getSegments() {
+        return this.segments.clone();
+    }
+
+    /**
+     * Retrieves the format version of the segment read last.
+     *
+     * @return The version, from 1 to `MoveRecorder.VERSION`.
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Retrieves the start game written in the header of the segment read last: games with lower ids may have
+     * moves in earlier segments.
+     *
+     * @return The start game, or 0 for a segment of version 1, which does not know it.
+     */
+    public long getStartGame() {
+        return this.startGame;
+    }
+
+    /**
+     * Rebuilds the board of one game as it was after its last recorded move.
+     *
+     * @param game   The id of the game.
+     * @param piece1 The character drawn for player 1's pieces.
+     * @param piece2 The character drawn for player 2's pieces.
+     * @return A headless board holding the pieces of the game.
+     * @throws IOException If the log cannot be read.
+     */
+    public Board rebuild(long game, String piece1, String piece2) throws IOException {
+        Board board = new Board(this.rules);
+        this.replay((id, cell, action, player) -> {
+            if (id == game) {
+                String piece = action == MoveRecorder.LIFT ? " " : player == 1 ? piece1 : piece2;
+                board.updateSet(this.rules.x(cell), this.rules.y(cell), piece);
+            }
+        });
+        return board;
+    }
+
+    private FileChannel open(int segment) throws IOException {
+        return FileChannel.open(MoveRecorder.segmentPath(this.directory, segment), StandardOpenOption.READ);
+    }
+
+    private Rules readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = this.buffer;
+        header.clear().limit(MoveRecorder.HEADER_BYTES);
+        while (header.hasRemaining()) {
+            if (channel.read(header) < 0) {
+                throw new IOException("Truncated move log segment header.");
+            }
+        }
+        header.flip();
+        int version = header.getInt() == MoveRecorder.MAGIC ? header.get() : -1;
+        if (version < 1 || version > MoveRecorder.VERSION) {
+            throw new IOException("Not a move log segment of version 1 to " + MoveRecorder.VERSION + ".");
+        }
+        Rules rules;
+        try {
+            rules = Rules.of(header.get(), header.get(), header.get());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid rules in move log segment header.", e);
+        }
+        // Version 1 left the start game's bytes unused.
+        this.startGame = version >= 2 ? header.getLong() : 0;
+        this.version = version;
+        return rules;
+    }
+
+    private long replay(FileChannel channel, Visitor visitor) throws IOException {
+        long records = 0;
+        this.buffer.clear();
+        while (channel.read(this.buffer) >= 0) {
+            this.buffer.flip();
+            while (this.buffer.remaining() >= MoveRecorder.RECORD_BYTES) {
+                long game = this.buffer.getLong();
+                int cell = this.buffer.get();
+                int action = this.buffer.get();
+                int player = this.buffer.get();
+                this.buffer.get();
+                visitor.onRecord(game, cell, action, player);
+                records++;
+            }
+            this.buffer.compact();
+        }
+        return records;
+    }
+}
@@ -0,0 +1,50 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.MoveResult` enum lists the outcomes of a move submitted to the `tictactoe.GameEngine`.
+ */
+public enum MoveResult {
+    /**
+     * The piece was placed on a free cell and the turn passed to the other player.
+     */
+    PLACED,
+
+    /**
+     * The piece was lifted from the board and the same player must place it again.
+     */
+    LIFTED,
+
+    /**
+     * The piece was placed and completed a line, which ends the match.
+     */
+    WON,
+
+    /**
+     * The move was rejected because the selected cell is taken.
+     */
+    REJECTED_TAKEN,
+
+    /**
+     * The move was rejected because the player has placed all pieces and did not select one of their own.
+     */
+    REJECTED_NOT_OWN,
+
+    /**
+     * The move was rejected because the coordinate is not on the board.
+     */
+    REJECTED_OUT_OF_BOARD,
+
+    /**
+     * The move was rejected because the match is already over.
+     */
+    REJECTED_GAME_OVER;
+
+    /**
+     * Checks if the move changed the game state.
+     *
+     * @return True if the move was accepted, otherwise false.
+     */
+    public boolean isAccepted() {
+        return this == PLACED || this == LIFTED || this == WON;
+    }
+}
@@ -0,0 +1,301 @@
+package tictactoe;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The `tictactoe.NegamaxSearch` class picks moves with an iterative-deepening negamax search.
+ * <p>
+ *     The search uses alpha-beta pruning, tries the transposition-table move, then killer moves, then
+ *     moves ordered by their history score, and stops at the deadline given for the move. Positions are
+ *     keyed by Zobrist hashing. A lift does not pass the turn, so its score is not negated.
+ *     A position repeated on the current line is scored as a draw, which keeps the search finite.
+ * </p>
+ * <p>
+ *     A `tictactoe.NegamaxSearch` keeps its tables between moves and is not thread-safe; give every
+ *     thread its own instance.
+ * </p>
+ */
+public class NegamaxSearch {
+    /**
+     * The score of a won position, less the number of plies needed to win.
+     */
+    public static final int WIN_SCORE = 10000;
+
+    private static final int MAX_PLY = 128;
+    private static final int INFINITY = WIN_SCORE + 1;
+    private static final int NO_MOVE = 0x7F;
+    private static final int EXACT = 0;
+    private static final int LOWER = 1;
+    private static final int UPPER = 2;
+    private static final int CHECK_INTERVAL = 1023;
+
+    private static final long[][] PIECE_KEYS = new long[2][Long.SIZE];
+    private static final long SIDE_KEY;
+
+    static {
+        Random random = new Random(0x5EED);
+        for (long[] keys : PIECE_KEYS) {
+            for (int cell = 0; cell < keys.length; cell++) {
+                keys[cell] = random.nextLong();
+            }
+        }
+        SIDE_KEY = random.nextLong();
+    }
+
+    private final Rules rules;
+    private final WinMasks winMasks;
+    private final long[] tableKeys;
+    private final int[] tableData;
+    private final int tableMask;
+    private final int[][] killers;
+    private final int[][] history;
+    private final long[] path;
+    private final int[][] moveBuffer;
+    private final int[][] scoreBuffer;
+    private long deadline;
+    private long nodes;
+    private boolean stopped;
+
+    /**
+     * Constructs a new `tictactoe.NegamaxSearch` with a transposition table of 2^tableBits entries.
+     *
+     * @param rules     The variant to search.
+     * @param tableBits The base-2 logarithm of the transposition table size.
+     */
+    public NegamaxSearch(Rules rules, int tableBits) {
+        this.rules = rules;
+        this.winMasks = rules.getWinMasks();
+        this.tableKeys = new long[1 << tableBits];
+        this.tableData = new int[1 << tableBits];
+        this.tableMask = (1 << tableBits) - 1;
+        this.killers = new int[MAX_PLY][2];
+        this.history = new int[2][rules.getCells()];
+        this.path = new long[MAX_PLY + 1];
+        this.moveBuffer = new int[MAX_PLY][rules.getCells()];
+        this.scoreBuffer = new int[MAX_PLY][rules.getCells()];
+    }
+
+    /**
+     * Searches a position until the deadline passes or the result is known.
+     *
+     * @param mine        The mask of the pieces of the side to move.
+     * @param theirs      The mask of the pieces of the other side.
+     * @param side        True if player 2 is to move, like `GameEngine.isTurn`.
+     * @param budgetNanos The time allowed for the move, in nanoseconds.
+     * @return The cell index to place on, or to lift from if the side to move has all its pieces.
+     */
+    public int bestMove(long mine, long theirs, boolean side, long budgetNanos) {
+        return this.bestMove(mine, theirs, side, budgetNanos, MAX_PLY - 1);
+    }
+
+    /**
+     * Searches a position until the deadline passes, the result is known or the depth limit is reached.
+     *
+     * @param mine        The mask of the pieces of the side to move.
+     * @param theirs      The mask of the pieces of the other side.
+     * @param side        True if player 2 is to move, like `GameEngine.isTurn`.
+     * @param budgetNanos The time allowed for the move, in nanoseconds.
+     * @param maxDepth    The deepest iteration to search, in plies.
+     * @return The cell index to place on, or to lift from if the side to move has all its pieces.
+     */
+    public int bestMove(long mine, long theirs, boolean side, long budgetNanos, int maxDepth) {
+        this.deadline = System.nanoTime() + budgetNanos;
+        this.nodes = 0;
+        this.stopped = false;
+        for (int[] killer : this.killers) {
+            Arrays.fill(killer, NO_MOVE);
+        }
+        for (int[] scores : this.history) {
+            Arrays.fill(scores, 0);
+        }
+
+        long key = side ? key(theirs, mine, true) : key(mine, theirs, false);
+
+        int best = this.firstMove(mine, theirs);
+        for (int depth = 1; depth <= Math.min(maxDepth, MAX_PLY - 1); depth++) {
+            int score = this.negamax(mine, theirs, side, key, depth, -INFINITY, INFINITY, 0);
+            if (this.stopped) {
+                break;
+            }
+            int move = this.probeMove(key);
+            if (move != NO_MOVE) {
+                best = move;
+            }
+            if (Math.abs(score) >= WIN_SCORE - MAX_PLY) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Empties the transposition table, so the next search does not depend on earlier ones.
+     */
+    public void clear() {
+        Arrays.fill(this.tableKeys, 0L);
+        Arrays.fill(this.tableData, 0);
+    }
+
+    /**
+     * Returns the number of positions visited by the last search.
+     *
+     * @return The node count.
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    private int negamax(long mine, long theirs, boolean side, long key,
+                        int depth, int alpha, int beta, int ply) {
+        if ((++this.nodes & CHECK_INTERVAL) == 0 && System.nanoTime() > this.deadline) {
+            this.stopped = true;
+        }
+        if (this.stopped) {
+            return 0;
+        }
+        for (int i = ply - 1; i >= 0; i--) {
+            if (this.path[i] == key) {
+                return 0;
+            }
+        }
+        if (depth == 0 || ply >= MAX_PLY - 1) {
+            return this.winMasks.openLineScore(mine, theirs);
+        }
+
+        int slot = (int) key & this.tableMask;
+        int ttMove = NO_MOVE;
+        if (this.tableKeys[slot] == key) {
+            int data = this.tableData[slot];
+            ttMove = data & NO_MOVE;
+            int score = fromTable(data >> 16, ply);
+            int flag = (data >>> 7) & 0x3;
+            if (((data >>> 9) & 0x7F) >= depth
+                    && (flag == EXACT || (flag == LOWER && score >= beta) || (flag == UPPER && score <= alpha))) {
+                return score;
+            }
+        }
+
+        this.path[ply] = key;
+        boolean lift = Long.bitCount(mine) == this.rules.getMaxPieces();
+        int count = this.orderMoves(lift ? mine : ~(mine | theirs) & this.rules.getFullMask(), side, ttMove, ply);
+        int[] moves = this.moveBuffer[ply];
+        int player = side ? 1 : 0;
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = NO_MOVE;
+        for (int i = 0; i < count; i++) {
+            int cell = moves[i];
+            long bit = 1L << cell;
+            long pieceKey = PIECE_KEYS[player][cell];
+            int score;
+            if (lift) {
+                score = this.negamax(mine & ~bit, theirs, side, key ^ pieceKey,
+                        depth - 1, alpha, beta, ply + 1);
+            } else if (this.winMasks.isWin(mine | bit, cell)) {
+                score = WIN_SCORE - ply - 1;
+            } else {
+                score = -this.negamax(theirs, mine | bit, !side, key ^ pieceKey ^ SIDE_KEY,
+                        depth - 1, -beta, -alpha, ply + 1);
+            }
+            if (this.stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = cell;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                if (this.killers[ply][0] != cell) {
+                    this.killers[ply][1] = this.killers[ply][0];
+                    this.killers[ply][0] = cell;
+                }
+                this.history[player][cell] += depth * depth;
+                break;
+            }
+        }
+
+        int flag = bestScore <= originalAlpha ? UPPER : bestScore >= beta ? LOWER : EXACT;
+        this.tableKeys[slot] = key;
+        this.tableData[slot] = (toTable(bestScore, ply) << 16) | (Math.min(depth, 0x7F) << 9) | (flag << 7) | bestMove;
+        return bestScore;
+    }
+
+    /**
+     * Fills the move buffer of a ply with the given cells, best candidates first.
+     *
+     * @return The number of moves.
+     */
+    private int orderMoves(long cells, boolean side, int ttMove, int ply) {
+        int[] moves = this.moveBuffer[ply];
+        int[] scores = this.scoreBuffer[ply];
+        int[] historyScores = this.history[side ? 1 : 0];
+        int count = 0;
+        for (; cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            int score = historyScores[cell];
+            if (cell == ttMove) {
+                score = Integer.MAX_VALUE;
+            } else if (cell == this.killers[ply][0]) {
+                score = Integer.MAX_VALUE - 2;
+            } else if (cell == this.killers[ply][1]) {
+                score = Integer.MAX_VALUE - 3;
+            }
+            int i = count++;
+            for (; i > 0 && scores[i - 1] < score; i--) {
+                moves[i] = moves[i - 1];
+                scores[i] = scores[i - 1];
+            }
+            moves[i] = cell;
+            scores[i] = score;
+        }
+        return count;
+    }
+
+    private int probeMove(long key) {
+        int slot = (int) key & this.tableMask;
+        return this.tableKeys[slot] == key ? this.tableData[slot] & NO_MOVE : NO_MOVE;
+    }
+
+    private int firstMove(long mine, long theirs) {
+        boolean lift = Long.bitCount(mine) == this.rules.getMaxPieces();
+        return Long.numberOfTrailingZeros(lift ? mine : ~(mine | theirs) & this.rules.getFullMask());
+    }
+
+    private static long key(long player1, long player2, boolean side) {
+        long key = side ? SIDE_KEY : 0;
+        for (long cells = player1; cells != 0; cells &= cells - 1) {
+            key ^= PIECE_KEYS[0][Long.numberOfTrailingZeros(cells)];
+        }
+        for (long cells = player2; cells != 0; cells &= cells - 1) {
+            key ^= PIECE_KEYS[1][Long.numberOfTrailingZeros(cells)];
+        }
+        return key;
+    }
+
+    /**
+     * Converts a win score to its distance from the stored position, so it stays valid at any ply.
+     */
+    private static int toTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) {
+            return score + ply;
+        }
+        if (score <= MAX_PLY - WIN_SCORE) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) {
+            return score - ply;
+        }
+        if (score <= MAX_PLY - WIN_SCORE) {
+            return score + ply;
+        }
+        return score;
+    }
+}
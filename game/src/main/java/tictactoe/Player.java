@@ -1,21 +1,36 @@
+package tictactoe;
+
 /**
  * The `tictactoe.Player` class represents a player in a game.
  */
 public class Player {
     private final String name;
     private final String character;
-    private Coordinate mySet;
+    private final Rules rules;
+    private long mySet;
 
     /**
-     * Constructs a new player with the given name and character.
+     * Constructs a new player with the given name and character for the standard rules.
      *
      * @param name      The name of the player.
      * @param character The character associated with the player (e.g., "X" or "O").
      */
     Player(String name, String character) {
+        this(name, character, Rules.STANDARD);
+    }
+
+    /**
+     * Constructs a new player with the given name and character.
+     *
+     * @param name      The name of the player.
+     * @param character The character associated with the player (e.g., "X" or "O").
+     * @param rules     The variant the player plays.
+     */
+    Player(String name, String character, Rules rules) {
         this.name = name;
         this.character = character;
-        this.mySet = new Coordinate();
+        this.rules = rules;
+        this.mySet = 0;
     }
 
     /**
@@ -30,9 +45,9 @@ public class Player {
     /**
      * Retrieves the set of coordinates where the player has made moves on the game board.
      *
-     * @return The set of coordinates representing the player's moves on the game board.
+     * @return The mask of the player's moves on the game board, one bit per cell index.
      */
-    public Coordinate getMySet() {
+    public long getMySet() {
         return this.mySet;
     }
 
@@ -51,7 +66,7 @@ public class Player {
      * @return The number of coordinates with the player's moves.
      */
     public int getSizeSet() {
-        return this.mySet.size();
+        return Long.bitCount(this.mySet);
     }
 
     /**
@@ -62,11 +77,7 @@ public class Player {
      * @return True if the player has taken a move at the specified coordinate, otherwise false.
      */
     public Boolean isSetTaken(int x, int y) {
-        String set = this.mySet.get(x, y);
-        if (set == null) {
-            return false;
-        }
-        return set.contains(this.character);
+        return (this.mySet & this.rules.bit(x, y)) != 0;
     }
 
     /**
@@ -76,7 +87,7 @@ public class Player {
      * @param y The Y-coordinate on the game board.
      */
     public void setMySet(int x, int y) {
-        this.mySet.add(x, y, this.character);
+        this.mySet |= this.rules.bit(x, y);
     }
 
     /**
@@ -86,13 +97,13 @@ public class Player {
      * @param y The Y-coordinate on the game board.
      */
     public void removeMySet(int x, int y) {
-        this.mySet.remove(x, y);
+        this.mySet &= ~this.rules.bit(x, y);
     }
 
     /**
      * Resets the player's set of moves on the game board to an empty state.
      */
     public void resetPlayer() {
-        this.mySet = new Coordinate();
+        this.mySet = 0;
     }
 }
@@ -0,0 +1,294 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.PositionIndex` class numbers the legal positions of a variant from 0 to `size() - 1`, so that
+ * data about positions can be kept in flat arrays.
+ * <p>
+ *     Player 2 moves first and a player who holds the piece limit lifts one piece before placing again, keeping
+ *     the turn. The piece counts of a legal position therefore follow from the side to move: with player 2 to
+ *     move both players hold as many pieces, or player 2 just lifted one; with player 1 to move player 2 holds
+ *     one piece more, or both hold the limit. Positions are grouped in blocks by side to move and piece counts.
+ *     Within a block, player 1's cells are ranked in the combinatorial number system, then player 2's cells
+ *     among the cells left free, so ranking and unranking are arithmetic and need no table of positions.
+ * </p>
+ * <p>
+ *     A position where the side to move has completed a line cannot arise, since the match ends first. Such
+ *     positions keep their index, which leaves a few unused entries in an array, but `forEach` skips them. A
+ *     position where the waiting player completed a line is legal and has no successors.
+ * </p>
+ */
+public final class PositionIndex {
+    private final Rules rules;
+    private final int cells;
+    private final int maxPieces;
+    private final long[][] binomial;
+    private final long[] blockStart;
+    private final int[] blockPieces1;
+    private final int[] blockPieces2;
+    private final boolean[] blockTurn;
+    private final long[] offsets;
+    private final long size;
+
+    /**
+     * Constructs a new `tictactoe.PositionIndex`. Use `Rules.getPositionIndex` to share one per variant.
+     *
+     * @param rules The variant whose positions are numbered.
+     * @throws IllegalArgumentException If the variant has more positions than a `long` can count.
+     */
+    public PositionIndex(Rules rules) {
+        this.rules = rules;
+        this.cells = rules.getCells();
+        this.maxPieces = rules.getMaxPieces();
+        this.binomial = new long[this.cells + 1][this.cells + 1];
+        for (int n = 0; n <= this.cells; n++) {
+            this.binomial[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                this.binomial[n][k] = this.binomial[n - 1][k - 1] + this.binomial[n - 1][k];
+            }
+        }
+        int counts = this.maxPieces + 1;
+        this.offsets = new long[2 * counts * counts];
+        this.blockStart = new long[this.offsets.length];
+        this.blockPieces1 = new int[this.offsets.length];
+        this.blockPieces2 = new int[this.offsets.length];
+        this.blockTurn = new boolean[this.offsets.length];
+        int blocks = 0;
+        long total = 0;
+        try {
+            for (int side = 1; side >= 0; side--) {
+                for (int pieces1 = 0; pieces1 <= this.maxPieces; pieces1++) {
+                    for (int pieces2 = 0; pieces2 <= this.maxPieces; pieces2++) {
+                        int block = this.block(side == 1, pieces1, pieces2);
+                        if (!this.isLegal(side == 1, pieces1, pieces2)) {
+                            this.offsets[block] = -1;
+                            continue;
+                        }
+                        this.offsets[block] = total;
+                        this.blockStart[blocks] = total;
+                        this.blockPieces1[blocks] = pieces1;
+                        this.blockPieces2[blocks] = pieces2;
+                        this.blockTurn[blocks] = side == 1;
+                        blocks++;
+                        total = Math.addExact(total, Math.multiplyExact(this.binomial[this.cells][pieces1],
+                                this.binomial[this.cells - pieces1][pieces2]));
+                    }
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The variant " + rules + " has too many positions to index.", e);
+        }
+        this.blockStart[blocks] = total;
+        this.size = total;
+    }
+
+    /**
+     * Returns the number of indices.
+     *
+     * @return One more than the largest index.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Computes the index of a position.
+     *
+     * @param player1 The mask of player 1's pieces.
+     * @param player2 The mask of player 2's pieces.
+     * @param turn    True if player 2 is to move, like `GameEngine.isTurn`.
+     * @return The index, or -1 if the pieces overlap, leave the board or have counts no match can reach.
+     */
+    public long rank(long player1, long player2, boolean turn) {
+        int pieces1 = Long.bitCount(player1);
+        int pieces2 = Long.bitCount(player2);
+        long full = this.rules.getFullMask();
+        if (pieces1 > this.maxPieces || pieces2 > this.maxPieces || (player1 & player2) != 0
+                || ((player1 | player2) & ~full) != 0) {
+            return -1;
+        }
+        long start = this.offsets[this.block(turn, pieces1, pieces2)];
+        if (start < 0) {
+            return -1;
+        }
+        long free = full & ~player1;
+        long compressed = 0;
+        for (long pieces = player2; pieces != 0; pieces &= pieces - 1) {
+            compressed |= 1L << Long.bitCount(free & ~(-1L << Long.numberOfTrailingZeros(pieces)));
+        }
+        return start + this.rankCombination(player1) * this.binomial[this.cells - pieces1][pieces2]
+                + this.rankCombination(compressed);
+    }
+
+    /**
+     * Computes the index of the position of a match.
+     *
+     * @param engine The engine running the match.
+     * @return The index.
+     */
+    public long rank(GameEngine engine) {
+        return this.rank(engine.getPlayer1().getMySet(), engine.getPlayer2().getMySet(), engine.isTurn());
+    }
+
+    /**
+     * Computes the position of an index.
+     *
+     * @param index  The index, from 0 to `size() - 1`.
+     * @param pieces Receives the mask of player 1's pieces and the mask of player 2's pieces.
+     * @return True if player 2 is to move.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public boolean unrank(long index, long[] pieces) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Position index " + index + " is out of range.");
+        }
+        int block = 0;
+        while (this.blockStart[block + 1] <= index) {
+            block++;
+        }
+        int pieces1 = this.blockPieces1[block];
+        int pieces2 = this.blockPieces2[block];
+        long rank = index - this.blockStart[block];
+        long player2Combinations = this.binomial[this.cells - pieces1][pieces2];
+        long player1 = this.unrankCombination(rank / player2Combinations, pieces1, this.cells);
+        long compressed = this.unrankCombination(rank % player2Combinations, pieces2, this.cells - pieces1);
+        long player2 = 0;
+        long free = this.rules.getFullMask() & ~player1;
+        for (int j = 0; free != 0; j++, free &= free - 1) {
+            if ((compressed & 1L << j) != 0) {
+                player2 |= free & -free;
+            }
+        }
+        pieces[0] = player1;
+        pieces[1] = player2;
+        return this.blockTurn[block];
+    }
+
+    /**
+     * Walks every position that can arise in a match, in index order, without creating objects.
+     *
+     * @param visitor The visitor called for each position.
+     */
+    public void forEach(PositionVisitor visitor) {
+        WinMasks winMasks = this.rules.getWinMasks();
+        int[] freeCells = new int[this.cells];
+        long index = 0;
+        for (int block = 0; this.blockStart[block] < this.size; block++) {
+            int pieces1 = this.blockPieces1[block];
+            int pieces2 = this.blockPieces2[block];
+            boolean turn = this.blockTurn[block];
+            long player1Combinations = this.binomial[this.cells][pieces1];
+            long player2Combinations = this.binomial[this.cells - pieces1][pieces2];
+            long player1 = (1L << pieces1) - 1;
+            for (long i = 0; i < player1Combinations; i++) {
+                int free = 0;
+                for (int cell = 0; cell < this.cells; cell++) {
+                    if ((player1 & 1L << cell) == 0) {
+                        freeCells[free++] = cell;
+                    }
+                }
+                long compressed = (1L << pieces2) - 1;
+                for (long j = 0; j < player2Combinations; j++) {
+                    long player2 = 0;
+                    for (long bits = compressed; bits != 0; bits &= bits - 1) {
+                        player2 |= 1L << freeCells[Long.numberOfTrailingZeros(bits)];
+                    }
+                    if (!winMasks.isWin(turn ? player2 : player1)) {
+                        visitor.visit(index, player1, player2, turn);
+                    }
+                    index++;
+                    if (j + 1 < player2Combinations) {
+                        compressed = nextCombination(compressed);
+                    }
+                }
+                if (i + 1 < player1Combinations) {
+                    player1 = nextCombination(player1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the indices of the positions one move away, as `GameEngine.nextPlayerMove` plays them: a
+     * placement passes the turn, a lift keeps it.
+     *
+     * @param player1  The mask of player 1's pieces.
+     * @param player2  The mask of player 2's pieces.
+     * @param turn     True if player 2 is to move.
+     * @param children Receives the indices, in the order of the cells moved on; `Rules.getCells` entries are
+     *                 enough.
+     * @return The number of successors, 0 if the waiting player completed a line.
+     */
+    public int successors(long player1, long player2, boolean turn, long[] children) {
+        long mover = turn ? player2 : player1;
+        if (this.rules.getWinMasks().isWin(turn ? player1 : player2)) {
+            return 0;
+        }
+        int count = 0;
+        if (Long.bitCount(mover) < this.maxPieces) {
+            for (long free = this.rules.getFullMask() & ~(player1 | player2); free != 0; free &= free - 1) {
+                long bit = free & -free;
+                children[count++] = turn ? this.rank(player1, player2 | bit, false)
+                        : this.rank(player1 | bit, player2, true);
+            }
+        } else {
+            for (long own = mover; own != 0; own &= own - 1) {
+                long bit = own & -own;
+                children[count++] = turn ? this.rank(player1, player2 & ~bit, true)
+                        : this.rank(player1 & ~bit, player2, false);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a match can reach the piece counts with the side to move.
+     */
+    private boolean isLegal(boolean turn, int pieces1, int pieces2) {
+        int max = this.maxPieces;
+        if (turn) {
+            return pieces1 == pieces2 || pieces1 == max && pieces2 == max - 1;
+        }
+        return pieces2 == pieces1 + 1 || pieces1 == max && pieces2 == max;
+    }
+
+    private int block(boolean turn, int pieces1, int pieces2) {
+        return ((turn ? 1 : 0) * (this.maxPieces + 1) + pieces1) * (this.maxPieces + 1) + pieces2;
+    }
+
+    /**
+     * Ranks a set of cells among the sets of as many cells, in the order `nextCombination` walks them.
+     */
+    private long rankCombination(long mask) {
+        long rank = 0;
+        int k = 1;
+        for (; mask != 0; mask &= mask - 1) {
+            rank += this.binomial[Long.numberOfTrailingZeros(mask)][k++];
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the set of k of the lowest n cells with the given rank.
+     */
+    private long unrankCombination(long rank, int k, int n) {
+        long mask = 0;
+        for (; k > 0; k--) {
+            n--;
+            while (this.binomial[n][k] > rank) {
+                n--;
+            }
+            mask |= 1L << n;
+            rank -= this.binomial[n][k];
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the next larger mask with as many bits set.
+     */
+    private static long nextCombination(long mask) {
+        long lowest = mask & -mask;
+        long ripple = mask + lowest;
+        return ripple | (((ripple ^ mask) >>> 2) / lowest);
+    }
+}
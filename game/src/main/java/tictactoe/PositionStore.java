@@ -0,0 +1,312 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The `tictactoe.PositionStore` class looks up precomputed best moves and outcomes in a memory-mapped file.
+ * <p>
+ *     The file starts with a header of `HEADER_BYTES` bytes: the `MAGIC` number, the `VERSION`, the board size,
+ *     win length and pieces per player as one byte each, the number of entries as an int and the flags as an
+ *     int. It is followed by the keys of all entries as ascending longs, then by their values as shorts in the
+ *     same order. A lookup is a binary search over the keys, read in place from the mapping, so the table costs
+ *     no heap and no loading time, and every process on the host shares the same pages of the page cache.
+ * </p>
+ * <p>
+ *     A key packs player 1's pieces, player 2's pieces shifted by the number of cells, and the side to move
+ *     above both, which fits in a long for boards of up to `MAX_CELLS` cells. A value packs the best cell in
+ *     bits 0-5 (`NO_MOVE` if the match is over), the outcome for the side to move in bits 6-7, using the
+ *     `tictactoe.Solver` constants, and the depth to the result, capped at 255, in bits 8-15.
+ * </p>
+ * <p>
+ *     A store with the `CANONICAL` flag holds only the canonical form of every position, as chosen by
+ *     `tictactoe.Symmetries`, which makes it up to 8 times smaller. Lookups move the position to its canonical
+ *     form first and move the stored best cell back.
+ * </p>
+ */
+public final class PositionStore {
+    /**
+     * The number at the start of every store: "TTTP" in ASCII.
+     */
+    public static final int MAGIC = 0x54545450;
+
+    /**
+     * The version of the file format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The size of the header in bytes.
+     */
+    public static final int HEADER_BYTES = 16;
+
+    /**
+     * The largest number of cells whose positions can be keyed.
+     */
+    public static final int MAX_CELLS = 31;
+
+    /**
+     * The best cell of a position whose match is over.
+     */
+    public static final int NO_MOVE = 0x3F;
+
+    /**
+     * The flag of a store that holds only canonical positions.
+     */
+    public static final int CANONICAL = 1;
+
+    /**
+     * The result of a lookup for a position that is not in the store.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private final Rules rules;
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final int valuesOffset;
+    private final Symmetries symmetries;
+
+    private PositionStore(Rules rules, MappedByteBuffer buffer, int count, int flags) {
+        this.rules = rules;
+        this.buffer = buffer;
+        this.count = count;
+        this.valuesOffset = HEADER_BYTES + 8 * count;
+        this.symmetries = (flags & CANONICAL) != 0 ? rules.getSymmetries() : null;
+    }
+
+    /**
+     * Maps a store file read-only.
+     *
+     * @param file The store file.
+     * @return The store.
+     * @throws IOException If the file cannot be mapped or is not a store.
+     */
+    public static PositionStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION) {
+                throw new IOException(file + " is not a position store of version " + VERSION + ".");
+            }
+            Rules rules = Rules.of(buffer.get(5), buffer.get(6), buffer.get(7));
+            int count = buffer.getInt(8);
+            if (buffer.limit() != HEADER_BYTES + 10L * count) {
+                throw new IOException(file + " is truncated.");
+            }
+            return new PositionStore(rules, buffer, count, buffer.getInt(12));
+        }
+    }
+
+    /**
+     * Packs a position into its key.
+     *
+     * @param rules   The variant of the position.
+     * @param player1 The mask of player 1's pieces.
+     * @param player2 The mask of player 2's pieces.
+     * @param turn    True if it is player 2's move.
+     * @return The key of the position.
+     * @throws IllegalArgumentException If the board has more than `MAX_CELLS` cells.
+     */
+    public static long key(Rules rules, long player1, long player2, boolean turn) {
+        int cells = rules.getCells();
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException("Positions of boards with more than " + MAX_CELLS + " cells cannot be stored.");
+        }
+        return player1 | player2 << cells | (turn ? 1L : 0L) << 2 * cells;
+    }
+
+    /**
+     * Packs the result of a position into its value.
+     *
+     * @param bestMove The best cell, or -1 if the match is over.
+     * @param outcome  `Solver.WIN`, `Solver.LOSS` or `Solver.DRAW` for the side to move.
+     * @param depth    The number of moves until the outcome is reached.
+     * @return The value of the position.
+     */
+    public static short value(int bestMove, int outcome, int depth) {
+        int cell = bestMove < 0 ? NO_MOVE : bestMove;
+        return (short) (Math.min(depth, 255) << 8 | outcome << 6 | cell);
+    }
+
+    /**
+     * Looks up the current position of a match.
+     *
+     * @param engine The engine running the match, which must be played with the rules of the store.
+     * @return The value of the position, or `NOT_FOUND`.
+     */
+    public int lookup(GameEngine engine) {
+        return this.lookup(engine.getPlayer1().getMySet(), engine.getPlayer2().getMySet(), engine.isTurn());
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param player1 The mask of player 1's pieces.
+     * @param player2 The mask of player 2's pieces.
+     * @param turn    True if it is player 2's move.
+     * @return The value of the position, or `NOT_FOUND`.
+     */
+    public int lookup(long player1, long player2, boolean turn) {
+        if (this.symmetries == null) {
+            return this.find(key(this.rules, player1, player2, turn));
+        }
+        int transform = this.symmetries.canonicalTransform(player1, player2);
+        long image1 = this.symmetries.transform(player1, transform);
+        long image2 = this.symmetries.transform(player2, transform);
+        int value = this.find(key(this.rules, image1, image2, turn));
+        if (value == NOT_FOUND || bestMove(value) < 0) {
+            return value;
+        }
+        int cell = this.symmetries.transformCell(bestMove(value), this.symmetries.inverse(transform));
+        return (value & ~NO_MOVE) | cell;
+    }
+
+    private int find(long key) {
+        int low = 0;
+        int high = this.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long found = this.buffer.getLong(HEADER_BYTES + 8 * middle);
+            if (found < key) {
+                low = middle + 1;
+            } else if (found > key) {
+                high = middle - 1;
+            } else {
+                return this.buffer.getShort(this.valuesOffset + 2 * middle) & 0xFFFF;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the best move stored in a value.
+     *
+     * @param value A value returned by `lookup`.
+     * @return The cell index, or -1 if the match is over.
+     */
+    public static int bestMove(int value) {
+        int cell = value & NO_MOVE;
+        return cell == NO_MOVE ? -1 : cell;
+    }
+
+    /**
+     * Returns the outcome stored in a value.
+     *
+     * @param value A value returned by `lookup`.
+     * @return `Solver.WIN`, `Solver.LOSS` or `Solver.DRAW` for the side to move.
+     */
+    public static int outcome(int value) {
+        return (value >>> 6) & 0x3;
+    }
+
+    /**
+     * Returns the depth stored in a value.
+     *
+     * @param value A value returned by `lookup`.
+     * @return The number of moves until the outcome is reached, capped at 255.
+     */
+    public static int depth(int value) {
+        return value >>> 8;
+    }
+
+    /**
+     * Retrieves the variant of the stored positions.
+     *
+     * @return The rules read from the header.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Retrieves the number of stored positions.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Writes a store file.
+     *
+     * @param file   The file to write, replaced if it exists.
+     * @param rules  The variant of the positions.
+     * @param keys   The keys of the positions, as given by `key`, without duplicates.
+     * @param values The values of the positions, in the same order as the keys.
+     * @param flags  `CANONICAL` if only canonical positions are given, otherwise 0.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Path file, Rules rules, long[] keys, short[] values, int flags) throws IOException {
+        int count = keys.length;
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 10 * count);
+        buffer.putInt(MAGIC);
+        buffer.put((byte) VERSION);
+        buffer.put((byte) rules.getSize());
+        buffer.put((byte) rules.getWinLength());
+        buffer.put((byte) rules.getMaxPieces());
+        buffer.putInt(count);
+        buffer.putInt(flags);
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(keys[order[i]]);
+        }
+        for (int i = 0; i < count; i++) {
+            buffer.putShort(values[order[i]]);
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Writes a store of the canonical form of every position of the standard 3x3 game, as solved by
+     * `tictactoe.Solver`.
+     *
+     * @param file The file to write, replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writeSolved(Path file) throws IOException {
+        Rules rules = Rules.STANDARD;
+        Solver solver = Solver.get();
+        Symmetries symmetries = rules.getSymmetries();
+        int maxPieces = rules.getMaxPieces();
+        long[] keys = new long[2 * 19683];
+        short[] values = new short[keys.length];
+        int count = 0;
+        for (int player1 = 0; player1 <= BitBoard.FULL; player1++) {
+            if (Integer.bitCount(player1) > maxPieces) {
+                continue;
+            }
+            for (int player2 = 0; player2 <= BitBoard.FULL; player2++) {
+                if ((player1 & player2) != 0 || Integer.bitCount(player2) > maxPieces) {
+                    continue;
+                }
+                for (int side = 0; side < 2; side++) {
+                    int state = BitBoard.pack(player1, player2, side == 1);
+                    if (rules.getWinMasks().isWin(BitBoard.mover(state))
+                            || symmetries.canonicalTransform(player1, player2) != 0) {
+                        continue;
+                    }
+                    keys[count] = key(rules, player1, player2, side == 1);
+                    values[count] = value(solver.bestMove(state), solver.outcome(state), solver.depth(state));
+                    count++;
+                }
+            }
+        }
+        write(file, rules, Arrays.copyOf(keys, count), Arrays.copyOf(values, count), CANONICAL);
+    }
+}
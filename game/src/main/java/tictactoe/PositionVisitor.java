@@ -0,0 +1,16 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.PositionVisitor` interface receives the positions walked by `PositionIndex.forEach`.
+ */
+public interface PositionVisitor {
+    /**
+     * Called for each position.
+     *
+     * @param index   The index of the position.
+     * @param player1 The mask of player 1's pieces.
+     * @param player2 The mask of player 2's pieces.
+     * @param turn    True if player 2 is to move, like `GameEngine.isTurn`.
+     */
+    void visit(long index, long player1, long player2, boolean turn);
+}
@@ -0,0 +1,34 @@
+package tictactoe;
+
+import java.util.SplittableRandom;
+
+/**
+ * The `tictactoe.RandomPolicy` class chooses a uniformly random legal move.
+ */
+public class RandomPolicy implements MovePolicy {
+    private SplittableRandom random = new SplittableRandom();
+
+    @Override
+    public void reset(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int chooseMove(GameEngine engine) {
+        return pick(engine.legalMoves(), this.random);
+    }
+
+    /**
+     * Picks one of the set bits of a mask at random.
+     *
+     * @param cells  The mask of the cells to pick from, which must not be 0.
+     * @param random The source of randomness.
+     * @return The index of the picked bit.
+     */
+    static int pick(long cells, SplittableRandom random) {
+        for (int skip = random.nextInt(Long.bitCount(cells)); skip > 0; skip--) {
+            cells &= cells - 1;
+        }
+        return Long.numberOfTrailingZeros(cells);
+    }
+}
@@ -0,0 +1,236 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The `tictactoe.Ratings` class rates the entrants of a `tictactoe.Tournament` with Elo and Glicko as results
+ * come in.
+ * <p>
+ *     Elo ratings move after every game by `ELO_K` times the surprise of the result. Glicko ratings also keep a
+ *     rating deviation, the uncertainty of the rating, and are updated once per rating period from every game
+ *     of the period against the opponents' ratings at its start. Between periods the deviation grows again
+ *     toward its initial value. A tournament ends a period after every round.
+ * </p>
+ * <p>
+ *     Results must be recorded from one thread at a time.
+ * </p>
+ */
+public class Ratings {
+    /**
+     * The rating every entrant starts with, in both systems.
+     */
+    public static final double INITIAL_RATING = 1500;
+
+    /**
+     * The Glicko rating deviation of an entrant that has not played.
+     */
+    public static final double INITIAL_DEVIATION = 350;
+
+    /**
+     * The largest Elo change of one game.
+     */
+    public static final double ELO_K = 16;
+
+    /**
+     * The growth of the Glicko rating deviation per rating period.
+     */
+    public static final double DEVIATION_GROWTH = 30;
+
+    private static final double Q = Math.log(10) / 400;
+
+    private final String[] names;
+    private final double[] elo;
+    private final double[] rating;
+    private final double[] deviation;
+    private final double[] periodImpact;
+    private final double[] periodInformation;
+    private final long[] wins;
+    private final long[] draws;
+    private final long[] losses;
+
+    /**
+     * Constructs a new `tictactoe.Ratings` with every entrant at the initial rating.
+     *
+     * @param names The names of the entrants.
+     */
+    public Ratings(String[] names) {
+        int count = names.length;
+        this.names = names.clone();
+        this.elo = new double[count];
+        this.rating = new double[count];
+        this.deviation = new double[count];
+        this.periodImpact = new double[count];
+        this.periodInformation = new double[count];
+        this.wins = new long[count];
+        this.draws = new long[count];
+        this.losses = new long[count];
+        Arrays.fill(this.elo, INITIAL_RATING);
+        Arrays.fill(this.rating, INITIAL_RATING);
+        Arrays.fill(this.deviation, INITIAL_DEVIATION);
+    }
+
+    /**
+     * Records the result of one game.
+     *
+     * @param a      The index of one entrant.
+     * @param b      The index of the other entrant.
+     * @param scoreA 1 if `a` won, 0.5 for a draw, 0 if `b` won.
+     */
+    public void record(int a, int b, double scoreA) {
+        double expected = 1 / (1 + Math.pow(10, (this.elo[b] - this.elo[a]) / 400));
+        this.elo[a] += ELO_K * (scoreA - expected);
+        this.elo[b] -= ELO_K * (scoreA - expected);
+
+        this.accumulate(a, b, scoreA);
+        this.accumulate(b, a, 1 - scoreA);
+
+        if (scoreA == 1) {
+            this.wins[a]++;
+            this.losses[b]++;
+        } else if (scoreA == 0) {
+            this.losses[a]++;
+            this.wins[b]++;
+        } else {
+            this.draws[a]++;
+            this.draws[b]++;
+        }
+    }
+
+    /**
+     * Ends a Glicko rating period: applies the games recorded since the last period and lets the deviations
+     * grow for the next one.
+     */
+    public void endPeriod() {
+        for (int e = 0; e < this.names.length; e++) {
+            double variance = this.deviation[e] * this.deviation[e];
+            if (this.periodInformation[e] > 0) {
+                variance = 1 / (1 / variance + Q * Q * this.periodInformation[e]);
+                this.rating[e] += Q * variance * this.periodImpact[e];
+            }
+            double grown = variance + DEVIATION_GROWTH * DEVIATION_GROWTH;
+            this.deviation[e] = Math.min(Math.sqrt(grown), INITIAL_DEVIATION);
+            this.periodImpact[e] = 0;
+            this.periodInformation[e] = 0;
+        }
+    }
+
+    /**
+     * Returns the number of entrants.
+     *
+     * @return The entrant count.
+     */
+    public int size() {
+        return this.names.length;
+    }
+
+    /**
+     * Retrieves the name of an entrant.
+     *
+     * @param entrant The index of the entrant.
+     * @return The name.
+     */
+    public String getName(int entrant) {
+        return this.names[entrant];
+    }
+
+    /**
+     * Retrieves the Elo rating of an entrant.
+     *
+     * @param entrant The index of the entrant.
+     * @return The rating.
+     */
+    public double getElo(int entrant) {
+        return this.elo[entrant];
+    }
+
+    /**
+     * Retrieves the Glicko rating of an entrant, as of the last period.
+     *
+     * @param entrant The index of the entrant.
+     * @return The rating.
+     */
+    public double getRating(int entrant) {
+        return this.rating[entrant];
+    }
+
+    /**
+     * Retrieves the Glicko rating deviation of an entrant, as of the last period.
+     *
+     * @param entrant The index of the entrant.
+     * @return The deviation; the true strength lies within twice the deviation of the rating with 95% certainty.
+     */
+    public double getDeviation(int entrant) {
+        return this.deviation[entrant];
+    }
+
+    /**
+     * Returns the number of games an entrant played.
+     *
+     * @param entrant The index of the entrant.
+     * @return The wins, draws and losses together.
+     */
+    public long getGames(int entrant) {
+        return this.wins[entrant] + this.draws[entrant] + this.losses[entrant];
+    }
+
+    /**
+     * Returns the share of the points an entrant scored.
+     *
+     * @param entrant The index of the entrant.
+     * @return The score, from 0 to 1, counting a draw as half a point.
+     */
+    public double getScore(int entrant) {
+        long games = this.getGames(entrant);
+        return games == 0 ? 0 : (this.wins[entrant] + 0.5 * this.draws[entrant]) / games;
+    }
+
+    /**
+     * Returns the entrants from the highest Glicko rating to the lowest.
+     *
+     * @return The entrant indices in ranking order.
+     */
+    public int[] ranking() {
+        List<Integer> order = new ArrayList<>();
+        for (int e = 0; e < this.names.length; e++) {
+            order.add(e);
+        }
+        order.sort((a, b) -> Double.compare(this.rating[b], this.rating[a]));
+        int[] ranking = new int[order.size()];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = order.get(i);
+        }
+        return ranking;
+    }
+
+    /**
+     * Formats the ratings table, best entrant first.
+     *
+     * @return One line per entrant with its games, wins, draws, losses, score, Elo and Glicko rating.
+     */
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder(String.format("%-4s %-16s %8s %8s %8s %8s %7s %7s %13s%n",
+                "#", "Entrant", "Games", "Wins", "Draws", "Losses", "Score", "Elo", "Glicko"));
+        int place = 1;
+        for (int e : this.ranking()) {
+            table.append(String.format("%-4d %-16s %8d %8d %8d %8d %6.1f%% %7.0f %7.0f +-%3.0f%n", place++,
+                    this.names[e], this.getGames(e), this.wins[e], this.draws[e], this.losses[e],
+                    100 * this.getScore(e), this.elo[e], this.rating[e], 2 * this.deviation[e]));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Adds one game of an entrant to its Glicko sums for the period, against the opponent's rating at the start
+     * of the period.
+     */
+    private void accumulate(int entrant, int opponent, double score) {
+        double g = 1 / Math.sqrt(1 + 3 * Q * Q * this.deviation[opponent] * this.deviation[opponent]
+                / (Math.PI * Math.PI));
+        double expected = 1 / (1 + Math.pow(10, -g * (this.rating[entrant] - this.rating[opponent]) / 400));
+        this.periodImpact[entrant] += g * (score - expected);
+        this.periodInformation[entrant] += g * g * expected * (1 - expected);
+    }
+}
@@ -0,0 +1,252 @@
+package tictactoe;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The `tictactoe.Rules` class describes a variant of the game: the board size, the number of pieces in a
+ * row needed to win and the number of pieces a player places before they must lift one.
+ * <p>
+ *     Cell (x, y), counted from 1, has the index (x - 1) * size + (y - 1), which is its bit in a player's
+ *     `long` mask. Boards up to 8x8 therefore fit in one `long` per player.
+ * </p>
+ * <p>
+ *     Each variant carries its lookup tables. `Rules.of` returns one shared instance per variant, so the tables
+ *     are built once per JVM however many games, sessions or players use the variant.
+ * </p>
+ */
+public final class Rules {
+    /**
+     * The largest supported board size.
+     */
+    public static final int MAX_SIZE = 8;
+
+    private static final ConcurrentMap<Integer, Rules> VARIANTS = new ConcurrentHashMap<>();
+
+    /**
+     * The standard game: a 3x3 board, 3 in a row and 3 pieces per player.
+     */
+    public static final Rules STANDARD = of(3, 3, 3);
+
+    private final int size;
+    private final int winLength;
+    private final int maxPieces;
+    private final WinMasks winMasks;
+    private volatile Symmetries symmetries;
+    private volatile PositionIndex positionIndex;
+
+    /**
+     * Constructs a new `tictactoe.Rules` object.
+     *
+     * @param size      The number of rows and columns of the board (3 to 8).
+     * @param winLength The number of pieces in a row needed to win (3 to size).
+     * @param maxPieces The number of pieces a player places before they must lift one.
+     * @throws IllegalArgumentException If the values do not describe a playable variant.
+     */
+    public Rules(int size, int winLength, int maxPieces) {
+        if (size < 3 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be between 3 and " + MAX_SIZE + ".");
+        }
+        if (winLength < 3 || winLength > size) {
+            throw new IllegalArgumentException("Win length must be between 3 and the board size.");
+        }
+        if (maxPieces < winLength || 2 * maxPieces > size * size) {
+            throw new IllegalArgumentException("Pieces per player must be between the win length and half the cells.");
+        }
+        this.size = size;
+        this.winLength = winLength;
+        this.maxPieces = maxPieces;
+        this.winMasks = new WinMasks(this);
+    }
+
+    /**
+     * Returns the shared `tictactoe.Rules` object of a variant, creating it on first use.
+     *
+     * @param size      The number of rows and columns of the board (3 to 8).
+     * @param winLength The number of pieces in a row needed to win (3 to size).
+     * @param maxPieces The number of pieces a player places before they must lift one.
+     * @return The rules of the variant.
+     * @throws IllegalArgumentException If the values do not describe a playable variant.
+     */
+    public static Rules of(int size, int winLength, int maxPieces) {
+        if (((size | winLength | maxPieces) & ~0xFF) != 0) {
+            // Not a playable variant, and not a valid key either; let the constructor reject it.
+            return new Rules(size, winLength, maxPieces);
+        }
+        Integer key = size << 16 | winLength << 8 | maxPieces;
+        Rules rules = VARIANTS.get(key);
+        if (rules == null) {
+            rules = new Rules(size, winLength, maxPieces);
+            Rules raced = VARIANTS.putIfAbsent(key, rules);
+            if (raced != null) {
+                rules = raced;
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Builds the tables this variant otherwise builds on first use, so that no game pays for them later.
+     *
+     * @return These rules.
+     */
+    public Rules precompute() {
+        this.getSymmetries();
+        return this;
+    }
+
+    /**
+     * Returns the number of rows and columns of the board.
+     *
+     * @return The board size.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of pieces in a row needed to win.
+     *
+     * @return The win length.
+     */
+    public int getWinLength() {
+        return this.winLength;
+    }
+
+    /**
+     * Returns the number of pieces a player places before they must lift one.
+     *
+     * @return The piece limit per player.
+     */
+    public int getMaxPieces() {
+        return this.maxPieces;
+    }
+
+    /**
+     * Returns the winning lines of this variant.
+     *
+     * @return The `tictactoe.WinMasks` of the board.
+     */
+    public WinMasks getWinMasks() {
+        return this.winMasks;
+    }
+
+    /**
+     * Returns the symmetry tables of this variant, building them on first use.
+     *
+     * @return The `tictactoe.Symmetries` of the board.
+     */
+    public Symmetries getSymmetries() {
+        Symmetries tables = this.symmetries;
+        if (tables == null) {
+            tables = new Symmetries(this);
+            this.symmetries = tables;
+        }
+        return tables;
+    }
+
+    /**
+     * Returns the numbering of the positions of this variant, building it on first use.
+     *
+     * @return The `tictactoe.PositionIndex` of the variant.
+     * @throws IllegalArgumentException If the variant has more positions than a `long` can count.
+     */
+    public PositionIndex getPositionIndex() {
+        PositionIndex index = this.positionIndex;
+        if (index == null) {
+            index = new PositionIndex(this);
+            this.positionIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of cells on the board.
+     *
+     * @return The cell count.
+     */
+    public int getCells() {
+        return this.size * this.size;
+    }
+
+    /**
+     * Returns the mask with every cell of the board set.
+     *
+     * @return The full board mask.
+     */
+    public long getFullMask() {
+        return this.getCells() == Long.SIZE ? -1L : (1L << this.getCells()) - 1;
+    }
+
+    /**
+     * Converts a coordinate to its cell index.
+     *
+     * @param x The X-coordinate (1 to size).
+     * @param y The Y-coordinate (1 to size).
+     * @return The cell index.
+     */
+    public int index(int x, int y) {
+        return (x - 1) * this.size + (y - 1);
+    }
+
+    /**
+     * Converts a coordinate to its single-bit mask.
+     *
+     * @param x The X-coordinate (1 to size).
+     * @param y The Y-coordinate (1 to size).
+     * @return The mask with only the bit of the cell set.
+     */
+    public long bit(int x, int y) {
+        return 1L << this.index(x, y);
+    }
+
+    /**
+     * Returns the X-coordinate of a cell index.
+     *
+     * @param index The cell index.
+     * @return The X-coordinate (1 to size).
+     */
+    public int x(int index) {
+        return index / this.size + 1;
+    }
+
+    /**
+     * Returns the Y-coordinate of a cell index.
+     *
+     * @param index The cell index.
+     * @return The Y-coordinate (1 to size).
+     */
+    public int y(int index) {
+        return index % this.size + 1;
+    }
+
+    /**
+     * Checks if a coordinate lies on the board.
+     *
+     * @param x The X-coordinate.
+     * @param y The Y-coordinate.
+     * @return True if both values are between 1 and the board size, otherwise false.
+     */
+    public boolean isOnBoard(int x, int y) {
+        return x >= 1 && x <= this.size && y >= 1 && y <= this.size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Rules)) {
+            return false;
+        }
+        Rules rules = (Rules) other;
+        return this.size == rules.size && this.winLength == rules.winLength && this.maxPieces == rules.maxPieces;
+    }
+
+    @Override
+    public int hashCode() {
+        return (this.size * 31 + this.winLength) * 31 + this.maxPieces;
+    }
+
+    @Override
+    public String toString() {
+        return this.size + "x" + this.size + ", " + this.winLength + " in a row, " + this.maxPieces + " pieces";
+    }
+}
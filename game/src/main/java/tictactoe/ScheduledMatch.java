@@ -0,0 +1,209 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The `tictactoe.ScheduledMatch` class is a match between two `tictactoe.Seat` objects run by a
+ * `tictactoe.MatchScheduler`.
+ * <p>
+ *     A match holds no thread. Each seat has one slot for a submitted move; submitting fills the slot and puts
+ *     the match on the scheduler's ready queue unless it is there already. A worker then plays every waiting move
+ *     of the seat on turn and takes the match off the queue. A move of the seat not on turn stays in its slot
+ *     until its turn comes, and a seat whose slot is full cannot submit again, which bounds the work a single
+ *     match can queue.
+ * </p>
+ * <p>
+ *     The engine is that of a `tictactoe.MatchContext` taken from the scheduler's pool and given back, reset, when
+ *     the match ends. Its players are named `Player 1` and `Player 2`; the names the players joined with are
+ *     those of their seats.
+ * </p>
+ */
+public final class ScheduledMatch {
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private final MatchScheduler scheduler;
+    private final MatchContextPool contexts;
+    private final MatchContext context;
+    private final Seat seat1;
+    private final Seat seat2;
+    private final GameEngine engine;
+    private final AtomicIntegerArray pending;
+    private final AtomicBoolean scheduled;
+    private final AtomicInteger resigned;
+    private final AtomicBoolean released;
+    private volatile boolean over;
+    private boolean started;
+    private long readySince;
+
+    /**
+     * Constructs a new `tictactoe.ScheduledMatch`.
+     *
+     * @param scheduler The scheduler running the match.
+     * @param contexts  The pool the context of the match is taken from and given back to.
+     * @param seat1     The seat playing player 1.
+     * @param seat2     The seat playing player 2, who moves first.
+     */
+    ScheduledMatch(MatchScheduler scheduler, MatchContextPool contexts, Seat seat1, Seat seat2) {
+        this.scheduler = scheduler;
+        this.contexts = contexts;
+        this.context = contexts.acquire();
+        this.seat1 = seat1;
+        this.seat2 = seat2;
+        this.engine = this.context.getEngine();
+        this.pending = new AtomicIntegerArray(3);
+        this.pending.set(1, EMPTY);
+        this.pending.set(2, EMPTY);
+        this.scheduled = new AtomicBoolean();
+        this.resigned = new AtomicInteger();
+        this.released = new AtomicBoolean();
+    }
+
+    /**
+     * Retrieves the seat of a player.
+     *
+     * @param player 1 or 2.
+     * @return The seat.
+     */
+    public Seat getSeat(int player) {
+        return player == 1 ? this.seat1 : this.seat2;
+    }
+
+    /**
+     * Retrieves the engine of the match. It must only be read from the listener callbacks of the match, since it
+     * plays another match once this one is over.
+     *
+     * @return The engine.
+     */
+    public GameEngine getEngine() {
+        return this.engine;
+    }
+
+    /**
+     * Checks if the match is over.
+     *
+     * @return True once a player won or resigned, or the match failed.
+     */
+    public boolean isOver() {
+        return this.over;
+    }
+
+    boolean post(int player, int cell) {
+        if (this.over || !this.pending.compareAndSet(player, EMPTY, cell)) {
+            return false;
+        }
+        this.scheduler.schedule(this);
+        return true;
+    }
+
+    void resign(int player) {
+        if (this.resigned.compareAndSet(0, player)) {
+            this.scheduler.schedule(this);
+        }
+    }
+
+    /**
+     * Marks the match as queued.
+     *
+     * @return False if it is already queued or running, in which case the worker will see the new work.
+     */
+    boolean enqueue(long now) {
+        if (!this.scheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        this.readySince = now;
+        return true;
+    }
+
+    long getReadySince() {
+        return this.readySince;
+    }
+
+    /**
+     * Plays the waiting moves of the seat on turn, after announcing the match on its first run. Runs on one
+     * worker at a time.
+     */
+    void run() {
+        if (this.over) {
+            return;
+        }
+        if (!this.started) {
+            this.started = true;
+            this.seat1.getListener().onStart(this, 1);
+            this.seat2.getListener().onStart(this, 2);
+        }
+        while (true) {
+            int loser = this.resigned.get();
+            if (loser != 0) {
+                this.finish(3 - loser);
+                return;
+            }
+            int player = this.engine.isTurn() ? 2 : 1;
+            int cell = this.pending.getAndSet(player, EMPTY);
+            if (cell == EMPTY) {
+                break;
+            }
+            MoveResult result = cell < 0 || cell >= this.engine.getRules().getCells()
+                    ? MoveResult.REJECTED_OUT_OF_BOARD
+                    : this.engine.play(cell);
+            this.seat1.getListener().onMove(this, player, cell, result);
+            this.seat2.getListener().onMove(this, player, cell, result);
+            if (result == MoveResult.WON) {
+                this.finish(player);
+                return;
+            }
+        }
+        this.scheduled.set(false);
+        // A move or resignation that arrived while the match was still marked as queued must not be lost.
+        int player = this.engine.isTurn() ? 2 : 1;
+        if (this.pending.get(player) != EMPTY || this.resigned.get() != 0) {
+            this.scheduler.schedule(this);
+        }
+    }
+
+    /**
+     * Ends a match whose run threw: it takes no more moves, gives its slot back to the scheduler and tells both
+     * seats it is over without a winner. Runs on the worker that ran the match.
+     */
+    void fail() {
+        boolean announced = this.over;
+        this.over = true;
+        this.pending.set(1, EMPTY);
+        this.pending.set(2, EMPTY);
+        this.scheduled.set(false);
+        try {
+            if (!announced) {
+                for (Seat seat : new Seat[] { this.seat1, this.seat2 }) {
+                    try {
+                        seat.getListener().onOver(this, 0);
+                    } catch (RuntimeException e) {
+                        // The other seat is still told, and the failure is already counted.
+                    }
+                }
+            }
+        } finally {
+            this.release();
+        }
+    }
+
+    private void finish(int winner) {
+        this.over = true;
+        try {
+            this.seat1.getListener().onOver(this, winner);
+            this.seat2.getListener().onOver(this, winner);
+        } finally {
+            this.release();
+        }
+    }
+
+    /**
+     * Gives the context and the slot of the match back to the scheduler, once however the match ended.
+     */
+    private void release() {
+        if (this.released.compareAndSet(false, true)) {
+            this.contexts.release(this.context);
+            this.scheduler.finished(this);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * The `tictactoe.Screen` class provides methods for displaying text-based
+ * menus, game screens, and messages.
+ */
+public class Screen {
+    private final InputSource input;
+    private final InputLine line;
+    private final String reset = "\u001B[0m";
+    private final String red = "\u001B[31m";
+    private final String green = "\u001B[32m";
+    private BoardRenderer renderer;
+    private boolean diffRendering;
+    private StartupProfile profile;
+
+    /**
+     * Constructs a new `tictactoe.Screen` object that reads from the console.
+     */
+    public Screen() {
+        this(new ChannelInputSource(Channels.newChannel(System.in)));
+    }
+
+    /**
+     * Constructs a new `tictactoe.Screen` object that reads from the given source, e.g. a script of moves.
+     *
+     * @param input The source of the typed lines.
+     */
+    public Screen(InputSource input) {
+        this.input = input;
+        this.line = new InputLine();
+        this.profile = StartupProfile.INTERACTIVE;
+    }
+
+    public void clearScreen() {
+        // Clear the console screen by printing multiple newline characters
+        System.out.print("\033[H\033[2J");
+        System.out.flush();
+        if (renderer != null) {
+            renderer.invalidate();
+        }
+    }
+
+    /**
+     * Displays the main menu and prompts the user for a choice.
+     *
+     * @return The user's menu choice.
+     */
+    public int mainMenu() {
+        while (true) {
+            clearScreen();
+            System.out.println("-----Welcome to Tic Tac Toe v2--------");
+            System.out.println("| [1]: Start                         |");
+            System.out.println("| [2]: Exit                          |");
+            System.out.println("--------------------------------------");
+            System.out.print(">>  ");
+            int choice = this.nextLine().parseChoice();
+            if (choice >= 1 && choice <= 2) {
+                return choice;
+            } else {
+                System.out.println(red + "Invalid input, please try again. \n\n" + reset);
+            }
+        }
+    }
+
+    /**
+     * Displays the opponent menu and prompts the user to choose who plays as player 2.
+     *
+     * @return The user's choice (1 for a human, 2 for the computer, 3 for the Monte Carlo computer).
+     */
+    public int opponentMenu() {
+        while (true) {
+            clearScreen();
+            System.out.println("--------------------------------------");
+            System.out.println("| Who is player 2?                   |");
+            System.out.println("| [1]: Human                         |");
+            System.out.println("| [2]: Computer                      |");
+            System.out.println("| [3]: Computer (Monte Carlo)        |");
+            System.out.println("--------------------------------------");
+            System.out.print(">>  ");
+            int choice = this.nextLine().parseChoice();
+            if (choice >= 1 && choice <= 3) {
+                return choice;
+            } else {
+                System.out.println(red + "Invalid input, please try again. \n\n" + reset);
+            }
+        }
+    }
+
+    /**
+     * Prompts the user to enter their name.
+     *
+     * @param someText The text to display before the input prompt.
+     * @return The user's entered name.
+     */
+    public String nameInput(String someText) {
+        clearScreen();
+        System.out.println(someText);
+        System.out.println("Enter your name: ");
+        System.out.print(">>  ");
+        return this.nextLine().toString();
+    }
+
+    /**
+     * Prompts the user to enter their preferred character.
+     *
+     * @return The user's entered preferred character.
+     */
+    public String characterInput() {
+        while (true) {
+            System.out.println("Enter your preferred character: ");
+            System.out.print(">> ");
+            String input = this.nextLine().toString();
+            if (input.length() == 1) {
+                return input;
+            } else {
+                System.out.println(red + "Please enter only 1 character\n\n" + reset);
+            }
+        }
+    }
+
+    /**
+     * Displays an exit screen with a thank-you message.
+     */
+    public void exitScreen() {
+        clearScreen();
+        System.out.println("-----------------EXIT-----------------");
+        System.out.println("|       " + green + "thank you for playing" + reset + "        |");
+        System.out.println("--------------------------------------");
+    }
+
+    /**
+     * Displays the current player's name.
+     *
+     * @param player The name of the current player.
+     */
+    public void displayName(String player) {
+        System.out.printf("Player: %s's turn \n", player);
+    }
+
+    /**
+     * Displays the game board. The whole frame is built by a `tictactoe.BoardRenderer` and written at once.
+     *
+     * @param board The board to display.
+     */
+    public void board(Board board) {
+        if (renderer == null || !renderer.getRules().equals(board.getRules())) {
+            renderer = new BoardRenderer(board.getRules());
+        }
+        int length = diffRendering ? renderer.renderChanges(board) : renderer.renderFrame(board);
+        System.out.write(renderer.getBuffer(), 0, length);
+        System.out.flush();
+    }
+
+    /**
+     * Chooses whether the board is redrawn in full or only where cells changed.
+     *
+     * @param diffRendering True to redraw only the changed cells, false to redraw the whole frame.
+     */
+    public void setDiffRendering(boolean diffRendering) {
+        this.diffRendering = diffRendering;
+    }
+
+    /**
+     * Displays a loading screen with a given message and loading animation, and waits for it to end.
+     *
+     * @param message The loading message to display.
+     */
+    public void displayLoadingScreen(String message) {
+        this.startLoading(message).finish();
+    }
+
+    /**
+     * Starts the loading animation on its own thread, so the game can be prepared while it plays. Nothing may
+     * be displayed until the returned loading screen is finished.
+     *
+     * @param message The loading message to display.
+     * @return The running loading screen.
+     */
+    public LoadingScreen startLoading(String message) {
+        String complete = "\n" + green + "Loading complete!" + reset + "\n-----------------------------------";
+        return new LoadingScreen(message, complete, this.profile);
+    }
+
+    /**
+     * Chooses whether loading animations are shown.
+     *
+     * @param profile The startup profile, `StartupProfile.INTERACTIVE` unless set.
+     */
+    public void setStartupProfile(StartupProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Prompts the user to enter coordinates for their move.
+     *
+     * @param size The number of rows and columns of the board.
+     * @return An array of two integers representing the X and Y coordinates, or null if the user typed 'undo'.
+     */
+    public int[] getCoordinate(int size) {
+        while (true) {
+            System.out.print("Enter coordinates (e.g., '1, 2') or 'undo': ");
+            GameMetrics metrics = GameMetrics.get();
+            long start = metrics.start();
+            InputLine input = this.nextLine();
+            metrics.stop(metrics.getInputWaitTimes(), start);
+            if (input.isWord("undo")) {
+                return null;
+            }
+            long coordinate = input.parseCoordinate(size);
+            if (coordinate >= 0) {
+                return new int[] { InputParser.x(coordinate), InputParser.y(coordinate) };
+            }
+            System.out.println(red + InputParser.describe(coordinate, size) + "\n\n" + reset);
+        }
+    }
+
+    /**
+     * Parses coordinates typed as two numbers separated by a comma or spaces, e.g. '1, 2'.
+     *
+     * @param input The typed line.
+     * @param size  The number of rows and columns of the board.
+     * @return An array of two integers representing the X and Y coordinates.
+     * @throws IllegalArgumentException If the line does not hold two numbers between 0 and the board size.
+     */
+    public static int[] parseCoordinate(String input, int size) {
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        long coordinate = InputParser.parseCoordinate(bytes, 0, bytes.length, size);
+        if (coordinate < 0) {
+            throw new IllegalArgumentException(InputParser.describe(coordinate, size));
+        }
+        return new int[] { InputParser.x(coordinate), InputParser.y(coordinate) };
+    }
+
+    /**
+     * Waits for the next typed line.
+     *
+     * @return The line, which is reused by the next call.
+     * @throws NoSuchElementException If the input ended.
+     * @throws UncheckedIOException   If reading the input fails.
+     */
+    private InputLine nextLine() {
+        try {
+            int status;
+            while ((status = this.input.read(this.line)) == InputSource.NONE) {
+                Thread.yield();
+            }
+            if (status == InputSource.END) {
+                throw new NoSuchElementException("The input ended.");
+            }
+            return this.line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Displays a message indicating that the match has ended due to a winning move
+     * type.
+     *
+     * @param direction The winning move type (`WinMasks.HORIZONTAL`, `WinMasks.VERTICAL` or
+     *                  `WinMasks.DIAGONAL`).
+     */
+    public void displayMatchOver(int direction) {
+        String winningMove = "";
+        switch (direction) {
+            case WinMasks.VERTICAL: {
+                winningMove = "Vertical";
+                break;
+            }
+            case WinMasks.HORIZONTAL: {
+                winningMove = "Horizontal";
+                break;
+            }
+            case WinMasks.DIAGONAL: {
+                winningMove = "Diagonal";
+                break;
+            }
+            default: {
+                break;
+            }
+        }
+        System.out.printf("%sMatch ended by %s move!%s\n\n", green, winningMove, reset);
+    }
+
+    /**
+     * Displays a message to announce the winner of the game round.
+     *
+     * @param winner The name of the winning player.
+     */
+    public void displayWinner(String winner) {
+        System.out.printf("%sThe winner of this round is %s!!\nCongratulations!!%s\n\n", green, winner, reset);
+    }
+
+    /**
+     * Displays a menu for restarting the game, allowing the user to choose between
+     * a rematch or exiting the game.
+     *
+     * @return The user's choice (1 for rematch, 2 for exit).
+     */
+    public int restartGame() {
+        while (true) {
+            clearScreen();
+            System.out.println("--------------------------------------");
+            System.out.println("| Would you like a rematch?          |");
+            System.out.println("| [1]: Yes                           |");
+            System.out.println("| [2]: Exit Game                     |");
+            System.out.println("--------------------------------------");
+            System.out.print(">>  ");
+            int choice = this.nextLine().parseChoice();
+            if (choice >= 1 && choice <= 2) {
+                return choice;
+            } else {
+                System.out.println(red + "Invalid input, please try again. \n\n" + reset);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.SearchPolicy` class chooses moves with a depth-limited `tictactoe.NegamaxSearch`.
+ * <p>
+ *     The search is limited by depth rather than time and its tables are emptied for every match, so the
+ *     moves do not depend on the speed of the machine or on earlier matches.
+ * </p>
+ */
+public class SearchPolicy implements MovePolicy {
+    private static final long NO_DEADLINE = Long.MAX_VALUE / 4;
+
+    private final NegamaxSearch search;
+    private final int depth;
+
+    /**
+     * Constructs a new search policy.
+     *
+     * @param rules The variant to play.
+     * @param depth The number of plies to search.
+     */
+    public SearchPolicy(Rules rules, int depth) {
+        this.search = new NegamaxSearch(rules, 16);
+        this.depth = depth;
+    }
+
+    @Override
+    public void reset(long seed) {
+        this.search.clear();
+    }
+
+    @Override
+    public int chooseMove(GameEngine engine) {
+        long mine = engine.getCurrentPlayer().getMySet();
+        long theirs = engine.getOpponent().getMySet();
+        return this.search.bestMove(mine, theirs, engine.isTurn(), NO_DEADLINE, this.depth);
+    }
+}
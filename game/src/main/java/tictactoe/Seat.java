@@ -0,0 +1,138 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.Seat` class is a player waiting for, or playing, a match in a `tictactoe.MatchScheduler`.
+ * <p>
+ *     A seat joins with `MatchScheduler.join` and can be taken back out with `MatchScheduler.leave` until it is
+ *     paired.
+ * </p>
+ */
+public final class Seat {
+    private final String name;
+    private final int rating;
+    private final Rules rules;
+    private final MatchListener listener;
+    private long joinedAt;
+    private long key;
+    private volatile ScheduledMatch match;
+    private volatile int player;
+    private boolean left;
+
+    /**
+     * Constructs a new `tictactoe.Seat`.
+     *
+     * @param name     The name of the player.
+     * @param rating   The rating opponents are matched by.
+     * @param rules    The variant the player wants to play.
+     * @param listener The listener receiving the events of the match.
+     */
+    public Seat(String name, int rating, Rules rules, MatchListener listener) {
+        this.name = name;
+        this.rating = rating;
+        this.rules = rules;
+        this.listener = listener;
+    }
+
+    /**
+     * Submits a move for this seat. The move is played once the seat is on turn.
+     *
+     * @param cell The cell index, as given by `Rules.index`.
+     * @return False if the seat is not in a running match or still has a move waiting, in which case the move
+     *         is dropped.
+     */
+    public boolean move(int cell) {
+        ScheduledMatch current = this.match;
+        return current != null && current.post(this.player, cell);
+    }
+
+    /**
+     * Gives up the match, which the opponent wins.
+     */
+    public void resign() {
+        ScheduledMatch current = this.match;
+        if (current != null) {
+            current.resign(this.player);
+        }
+    }
+
+    /**
+     * Retrieves the name of the player.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Retrieves the rating opponents are matched by.
+     *
+     * @return The rating.
+     */
+    public int getRating() {
+        return this.rating;
+    }
+
+    /**
+     * Retrieves the variant the player wants to play.
+     *
+     * @return The rules.
+     */
+    public Rules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Retrieves the match of this seat.
+     *
+     * @return The match, or null while the seat waits for an opponent.
+     */
+    public ScheduledMatch getMatch() {
+        return this.match;
+    }
+
+    /**
+     * Retrieves the player this seat plays.
+     *
+     * @return 1 or 2, or 0 while the seat waits for an opponent.
+     */
+    public int getPlayer() {
+        return this.player;
+    }
+
+    MatchListener getListener() {
+        return this.listener;
+    }
+
+    long getJoinedAt() {
+        return this.joinedAt;
+    }
+
+    /**
+     * Returns the key of the seat in its waiting pool, which orders seats by rating and then by arrival.
+     */
+    long getKey() {
+        return this.key;
+    }
+
+    void join(long now, long sequence) {
+        this.joinedAt = now;
+        this.key = (long) this.rating << 32 | (sequence & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Marks the seat as gone from its waiting pool. Guarded by the lock of the scheduler.
+     */
+    void leave() {
+        this.left = true;
+    }
+
+    boolean hasLeft() {
+        return this.left;
+    }
+
+    void seat(ScheduledMatch match, int player) {
+        this.player = player;
+        this.match = match;
+    }
+}
@@ -0,0 +1,136 @@
+package tictactoe;
+
+import java.util.function.Supplier;
+
+/**
+ * The `tictactoe.SelfPlay` class plays many matches between two `tictactoe.MovePolicy` instances.
+ * <p>
+ *     The matches are split across worker threads. Every thread owns its engine, players, policies and
+ *     `tictactoe.SelfPlayStats`, so the threads share nothing until their results are merged. Match i is
+ *     seeded from the run seed and i alone, which makes a run reproducible whatever the number of threads.
+ *     A match that reaches the ply limit counts as a draw, since players who keep lifting can play forever.
+ * </p>
+ */
+public class SelfPlay {
+    private final Rules rules;
+    private final Supplier<MovePolicy> policy1;
+    private final Supplier<MovePolicy> policy2;
+    private final int maxPlies;
+
+    /**
+     * Constructs a new `tictactoe.SelfPlay` runner.
+     *
+     * @param rules    The variant to play.
+     * @param policy1  Creates the policy of player 1 for each thread.
+     * @param policy2  Creates the policy of player 2, who moves first, for each thread.
+     * @param maxPlies The number of plies after which a match is a draw.
+     */
+    public SelfPlay(Rules rules, Supplier<MovePolicy> policy1, Supplier<MovePolicy> policy2, int maxPlies) {
+        this.rules = rules;
+        this.policy1 = policy1;
+        this.policy2 = policy2;
+        this.maxPlies = maxPlies;
+    }
+
+    /**
+     * Plays the matches and waits for them to finish.
+     *
+     * @param games   The number of matches to play.
+     * @param threads The number of worker threads.
+     * @param seed    The seed of the run.
+     * @return The merged results of every match.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public SelfPlayStats run(long games, int threads, long seed) throws InterruptedException {
+        SelfPlayStats[] results = new SelfPlayStats[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int first = t;
+            results[t] = new SelfPlayStats();
+            workers[t] = new Thread(() -> this.work(first, threads, games, seed, results[first]), "self-play-" + t);
+            workers[t].start();
+        }
+        SelfPlayStats total = new SelfPlayStats();
+        for (int t = 0; t < threads; t++) {
+            workers[t].join();
+            total.merge(results[t]);
+        }
+        return total;
+    }
+
+    /**
+     * Plays every match whose index is `first` plus a multiple of `stride`.
+     */
+    private void work(int first, int stride, long games, long seed, SelfPlayStats stats) {
+        GameEngine engine = new GameEngine(this.rules,
+                new Player("Player 1", "X", this.rules), new Player("Player 2", "O", this.rules));
+        MovePolicy player1Policy = this.policy1.get();
+        MovePolicy player2Policy = this.policy2.get();
+        for (long game = first; game < games; game += stride) {
+            int winner = play(engine, player1Policy, player2Policy, mix(seed + game), this.maxPlies);
+            stats.record(winner, engine.getHistory().getPlies());
+        }
+    }
+
+    /**
+     * Plays one match between two policies on an engine, which is reset first.
+     *
+     * @param engine   The engine to play on.
+     * @param policy1  The policy of player 1.
+     * @param policy2  The policy of player 2, who moves first.
+     * @param seed     The seed of the match.
+     * @param maxPlies The number of plies after which the match is a draw.
+     * @return The player who won, 1 or 2, or 0 for a draw.
+     * @throws IllegalStateException If a policy chooses a move the engine rejects.
+     */
+    static int play(GameEngine engine, MovePolicy policy1, MovePolicy policy2, long seed, int maxPlies) {
+        engine.reset();
+        policy1.reset(seed);
+        policy2.reset(mix(seed));
+        int plies = 0;
+        while (!engine.isOver() && plies < maxPlies) {
+            MovePolicy policy = engine.isTurn() ? policy2 : policy1;
+            MoveResult result = engine.play(policy.chooseMove(engine));
+            if (!result.isAccepted()) {
+                throw new IllegalStateException("Policy chose a rejected move: " + result);
+            }
+            plies++;
+        }
+        if (!engine.isOver()) {
+            return 0;
+        }
+        return engine.getWinner() == engine.getPlayer1() ? 1 : 2;
+    }
+
+    /**
+     * Creates the policy with the given name: `random`, `greedy`, or `search:depth`.
+     *
+     * @param name  The policy name.
+     * @param rules The variant to play.
+     * @return A supplier of new instances of the policy.
+     * @throws IllegalArgumentException If the name is unknown.
+     */
+    public static Supplier<MovePolicy> policy(String name, Rules rules) {
+        if (name.equals("random")) {
+            return RandomPolicy::new;
+        }
+        if (name.equals("greedy")) {
+            return GreedyPolicy::new;
+        }
+        if (name.startsWith("search:")) {
+            int depth = Integer.parseInt(name.substring("search:".length()));
+            return () -> new SearchPolicy(rules, depth);
+        }
+        throw new IllegalArgumentException("Unknown policy: " + name);
+    }
+
+    /**
+     * Scrambles a value with the SplitMix64 finalizer.
+     */
+    static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,114 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.SelfPlayStats` class accumulates the results of self-play matches.
+ * <p>
+ *     Each worker thread fills its own instance, and the instances are merged once the workers finish,
+ *     so recording a match never takes a lock.
+ * </p>
+ */
+public class SelfPlayStats {
+    private long games;
+    private long player1Wins;
+    private long player2Wins;
+    private long draws;
+    private long totalPlies;
+    private int shortest = Integer.MAX_VALUE;
+    private int longest;
+
+    /**
+     * Records the result of one match.
+     *
+     * @param winner 1 or 2 for the winning player, or 0 if the match hit the ply limit.
+     * @param plies  The number of accepted moves, lifts included.
+     */
+    public void record(int winner, int plies) {
+        this.games++;
+        if (winner == 1) {
+            this.player1Wins++;
+        } else if (winner == 2) {
+            this.player2Wins++;
+        } else {
+            this.draws++;
+        }
+        this.totalPlies += plies;
+        this.shortest = Math.min(this.shortest, plies);
+        this.longest = Math.max(this.longest, plies);
+    }
+
+    /**
+     * Adds the results of another instance to this one.
+     *
+     * @param other The results to add.
+     */
+    public void merge(SelfPlayStats other) {
+        this.games += other.games;
+        this.player1Wins += other.player1Wins;
+        this.player2Wins += other.player2Wins;
+        this.draws += other.draws;
+        this.totalPlies += other.totalPlies;
+        this.shortest = Math.min(this.shortest, other.shortest);
+        this.longest = Math.max(this.longest, other.longest);
+    }
+
+    /**
+     * Returns the number of matches played.
+     *
+     * @return The number of matches played.
+     */
+    public long getGames() {
+        return this.games;
+    }
+
+    /**
+     * Returns the number of matches won by player 1.
+     *
+     * @return The number of matches won by player 1.
+     */
+    public long getPlayer1Wins() {
+        return this.player1Wins;
+    }
+
+    /**
+     * Returns the number of matches won by player 2.
+     *
+     * @return The number of matches won by player 2.
+     */
+    public long getPlayer2Wins() {
+        return this.player2Wins;
+    }
+
+    /**
+     * Returns the number of matches that hit the ply limit.
+     *
+     * @return The number of matches that hit the ply limit.
+     */
+    public long getDraws() {
+        return this.draws;
+    }
+
+    /**
+     * Returns the number of plies played over all matches.
+     *
+     * @return The number of plies played over all matches.
+     */
+    public long getTotalPlies() {
+        return this.totalPlies;
+    }
+
+    /**
+     * Returns the average number of plies per match.
+     *
+     * @return The average match length, or 0 if no match was played.
+     */
+    public double getAverageLength() {
+        return this.games == 0 ? 0 : (double) this.totalPlies / this.games;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d player1=%d player2=%d draws=%d avgPlies=%.2f minPlies=%d maxPlies=%d",
+                this.games, this.player1Wins, this.player2Wins, this.draws, this.getAverageLength(),
+                this.games == 0 ? 0 : this.shortest, this.longest);
+    }
+}
@@ -0,0 +1,246 @@
+package tictactoe;
+
+import java.util.Arrays;
+
+/**
+ * The `tictactoe.Solver` class holds the perfect-play result of every position of the standard 3x3 game.
+ * <p>
+ *     Because a player with 3 pieces must lift one before placing again, positions can repeat and a plain
+ *     minimax search never ends. The solver uses retrograde analysis instead: positions where the last
+ *     placed piece completed a line are lost for the side to move, and each pass over the table labels the
+ *     positions whose result follows from the positions labelled in earlier passes. Whatever is still
+ *     unlabelled once a pass changes nothing is a draw.
+ * </p>
+ * <p>
+ *     The labels are stored in one `short` per position. A position is indexed by reading both players'
+ *     pieces as a base-3 number and adding the side to move, which is a perfect hash of the
+ *     `tictactoe.BitBoard` state, so every lookup is a single array read.
+ * </p>
+ */
+public final class Solver {
+    /**
+     * The outcome of a position that neither player can force a win from.
+     */
+    public static final int DRAW = 0;
+
+    /**
+     * The outcome of a position that the side to move wins with perfect play.
+     */
+    public static final int WIN = 1;
+
+    /**
+     * The outcome of a position that the side to move loses with perfect play.
+     */
+    public static final int LOSS = 2;
+
+    private static final int POSITIONS = 19683;
+    private static final int NO_MOVE = 0xF;
+    private static final int UNKNOWN = 3;
+    private static final int MAX_PIECES = Rules.STANDARD.getMaxPieces();
+    private static final WinMasks WIN_MASKS = Rules.STANDARD.getWinMasks();
+    private static final int[] TERNARY = new int[BitBoard.FULL + 1];
+
+    static {
+        for (int mask = 1; mask <= BitBoard.FULL; mask++) {
+            int low = Integer.numberOfTrailingZeros(mask);
+            TERNARY[mask] = TERNARY[mask & (mask - 1)] + pow3(low);
+        }
+    }
+
+    private final short[] table;
+
+    private Solver() {
+        this.table = new short[2 * POSITIONS];
+        this.solve();
+    }
+
+    private static final class Holder {
+        private static final Solver INSTANCE = new Solver();
+    }
+
+    /**
+     * Retrieves the solved table, solving it on first use.
+     *
+     * @return The shared `tictactoe.Solver`.
+     */
+    public static Solver get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Converts a packed state to its table index.
+     *
+     * @param state The `tictactoe.BitBoard` packed state.
+     * @return The index of the state in the table.
+     */
+    public static int index(int state) {
+        int index = TERNARY[BitBoard.player1(state)] + 2 * TERNARY[BitBoard.player2(state)];
+        return BitBoard.turn(state) ? index + POSITIONS : index;
+    }
+
+    /**
+     * Returns the outcome of a position for the side to move.
+     *
+     * @param state The `tictactoe.BitBoard` packed state.
+     * @return `WIN`, `LOSS` or `DRAW`.
+     */
+    public int outcome(int state) {
+        return (this.table[index(state)] >>> 4) & 0x3;
+    }
+
+    /**
+     * Returns the number of moves, lifts included, until the outcome is reached with perfect play.
+     *
+     * @param state The `tictactoe.BitBoard` packed state.
+     * @return The depth to the result, or 0 for a draw.
+     */
+    public int depth(int state) {
+        return (this.table[index(state)] & 0xFFFF) >>> 6;
+    }
+
+    /**
+     * Returns the best move of a position. The move is a placement if the side to move has fewer than
+     * 3 pieces and a lift otherwise.
+     *
+     * @param state The `tictactoe.BitBoard` packed state.
+     * @return The cell index of the best move, or -1 if the match is already over.
+     */
+    public int bestMove(int state) {
+        int move = this.table[index(state)] & NO_MOVE;
+        return move == NO_MOVE ? -1 : move;
+    }
+
+    /**
+     * Labels every position of the table.
+     */
+    private void solve() {
+        int[] states = validStates();
+        byte[] outcome = new byte[this.table.length];
+        short[] depth = new short[this.table.length];
+        byte[] best = new byte[this.table.length];
+        Arrays.fill(outcome, (byte) UNKNOWN);
+        Arrays.fill(best, (byte) NO_MOVE);
+
+        for (int state : states) {
+            if (WIN_MASKS.isWin(BitBoard.waiting(state))) {
+                outcome[index(state)] = LOSS;
+            }
+        }
+
+        boolean changed = true;
+        for (int pass = 1; changed; pass++) {
+            changed = false;
+            for (int state : states) {
+                int index = index(state);
+                if (outcome[index] != UNKNOWN) {
+                    continue;
+                }
+                boolean lift = Integer.bitCount(BitBoard.mover(state)) == MAX_PIECES;
+                int moves = lift ? BitBoard.mover(state) : ~BitBoard.occupied(state) & BitBoard.FULL;
+                boolean allLost = true;
+                int slowest = NO_MOVE;
+                int result = UNKNOWN;
+                for (; moves != 0; moves &= moves - 1) {
+                    int cell = Integer.numberOfTrailingZeros(moves);
+                    int child = index(lift ? BitBoard.lift(state, cell) : BitBoard.place(state, cell));
+                    if (outcome[child] == UNKNOWN || depth[child] >= pass) {
+                        allLost = false;
+                        continue;
+                    }
+                    int value = lift ? outcome[child] : flip(outcome[child]);
+                    if (value == WIN) {
+                        result = WIN;
+                        best[index] = (byte) cell;
+                        break;
+                    }
+                    if (value != LOSS) {
+                        allLost = false;
+                    } else if (depth[child] == pass - 1) {
+                        slowest = cell;
+                    }
+                }
+                if (result == UNKNOWN && allLost) {
+                    result = LOSS;
+                    best[index] = (byte) slowest;
+                }
+                if (result != UNKNOWN) {
+                    outcome[index] = (byte) result;
+                    depth[index] = (short) pass;
+                    changed = true;
+                }
+            }
+        }
+
+        for (int state : states) {
+            int index = index(state);
+            if (outcome[index] == UNKNOWN) {
+                outcome[index] = DRAW;
+                best[index] = (byte) drawingMove(state, outcome);
+            }
+        }
+        for (int state : states) {
+            int index = index(state);
+            this.table[index] = (short) ((depth[index] << 6) | (outcome[index] << 4) | best[index]);
+        }
+    }
+
+    /**
+     * Finds a move of a drawn position that keeps the draw.
+     *
+     * @param state   The packed state.
+     * @param outcome The outcome labels, with every unlabelled position still `UNKNOWN`.
+     * @return The cell index of the move.
+     */
+    private static int drawingMove(int state, byte[] outcome) {
+        boolean lift = Integer.bitCount(BitBoard.mover(state)) == MAX_PIECES;
+        int moves = lift ? BitBoard.mover(state) : ~BitBoard.occupied(state) & BitBoard.FULL;
+        for (; moves != 0; moves &= moves - 1) {
+            int cell = Integer.numberOfTrailingZeros(moves);
+            int child = index(lift ? BitBoard.lift(state, cell) : BitBoard.place(state, cell));
+            if (outcome[child] == UNKNOWN || outcome[child] == DRAW) {
+                return cell;
+            }
+        }
+        return NO_MOVE;
+    }
+
+    /**
+     * Lists every valid position: each player has at most 3 pieces, the pieces do not overlap and the
+     * side to move has not completed a line.
+     *
+     * @return The packed states of the valid positions.
+     */
+    private static int[] validStates() {
+        int count = 0;
+        int[] states = new int[2 * POSITIONS];
+        for (int player1 = 0; player1 <= BitBoard.FULL; player1++) {
+            if (Integer.bitCount(player1) > MAX_PIECES) {
+                continue;
+            }
+            for (int player2 = 0; player2 <= BitBoard.FULL; player2++) {
+                if ((player1 & player2) != 0 || Integer.bitCount(player2) > MAX_PIECES) {
+                    continue;
+                }
+                for (int side = 0; side < 2; side++) {
+                    int state = BitBoard.pack(player1, player2, side == 1);
+                    if (!WIN_MASKS.isWin(BitBoard.mover(state))) {
+                        states[count++] = state;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(states, count);
+    }
+
+    private static int flip(int outcome) {
+        return outcome == WIN ? LOSS : outcome == LOSS ? WIN : outcome;
+    }
+
+    private static int pow3(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 3;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.Spectator` class follows a match broadcast by a `tictactoe.SpectatorChannel`.
+ * <p>
+ *     The spectator reads the events of the channel in order and keeps its own copy of the board, as of the
+ *     last event read. When it falls too far behind it is conflated: the missed events are skipped, and the
+ *     board jumps to the latest state. A spectator belongs to one thread, e.g. the one writing to a watcher's
+ *     connection; one that stops polling simply holds nothing back. Once its channel ends the subscriptions of
+ *     the match, the spectator is closed and reads no further event.
+ * </p>
+ */
+public final class Spectator {
+    /**
+     * The result of `poll` when there is no new event.
+     */
+    public static final long NONE = 0;
+
+    /**
+     * The result of `poll` when events were skipped and the board jumped to the latest state.
+     */
+    public static final long CONFLATED = -1;
+
+    /**
+     * The result of `poll` once the channel has moved on to another match.
+     */
+    public static final long CLOSED = -2;
+
+    private final SpectatorChannel channel;
+    private final long generation;
+    private final long[] snapshot;
+    private long next;
+    private long player1;
+    private long player2;
+    private int winner;
+    private int direction;
+    private long conflations;
+
+    /**
+     * Constructs a new `tictactoe.Spectator` that starts from the current state of the board.
+     *
+     * @param channel The channel to follow.
+     */
+    Spectator(SpectatorChannel channel) {
+        this.channel = channel;
+        this.generation = channel.getGeneration();
+        this.snapshot = new long[4];
+        this.catchUp();
+    }
+
+    /**
+     * Reads the next event and applies it to the board.
+     *
+     * @return The event, `NONE` if there is no new event, `CONFLATED` if events were skipped, or `CLOSED` if the
+     *         channel has moved on to another match.
+     */
+    public long poll() {
+        long event = this.channel.read(this.next);
+        // Checked after the read: an event of the next match is published after the generation changed.
+        if (this.isClosed()) {
+            return CLOSED;
+        }
+        if (event == 0) {
+            return NONE;
+        }
+        if (event < 0) {
+            this.catchUp();
+            this.conflations++;
+            return CONFLATED;
+        }
+        this.next++;
+        int cell = SpectatorChannel.cellOf(event);
+        switch (SpectatorChannel.typeOf(event)) {
+            case SpectatorChannel.PLACE: {
+                if (SpectatorChannel.playerOf(event) == 1) {
+                    this.player1 |= 1L << cell;
+                } else {
+                    this.player2 |= 1L << cell;
+                }
+                break;
+            }
+            case SpectatorChannel.LIFT: {
+                if (SpectatorChannel.playerOf(event) == 1) {
+                    this.player1 &= ~(1L << cell);
+                } else {
+                    this.player2 &= ~(1L << cell);
+                }
+                this.winner = 0;
+                this.direction = WinMasks.NONE;
+                break;
+            }
+            case SpectatorChannel.WIN: {
+                this.winner = SpectatorChannel.playerOf(event);
+                this.direction = SpectatorChannel.directionOf(event);
+                break;
+            }
+            default: {
+                this.player1 = 0;
+                this.player2 = 0;
+                this.winner = 0;
+                this.direction = WinMasks.NONE;
+                break;
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Checks if the channel has moved on to another match since the spectator subscribed.
+     *
+     * @return True if the spectator reads no further event.
+     */
+    public boolean isClosed() {
+        return this.channel.getGeneration() != this.generation;
+    }
+
+    /**
+     * Returns the sequence number of the last event applied to the board.
+     *
+     * @return The sequence number, or 0 if the board is still empty.
+     */
+    public long getSequence() {
+        return this.next - 1;
+    }
+
+    /**
+     * Retrieves the pieces of a player.
+     *
+     * @param player 1 or 2.
+     * @return The mask of the player's cells, indexed as by `Rules.index`.
+     */
+    public long getPieces(int player) {
+        return player == 1 ? this.player1 : this.player2;
+    }
+
+    /**
+     * Retrieves the winner of the match.
+     *
+     * @return 1 or 2, or 0 if the match is not won.
+     */
+    public int getWinner() {
+        return this.winner;
+    }
+
+    /**
+     * Retrieves the direction of the winning line.
+     *
+     * @return `WinMasks.HORIZONTAL`, `WinMasks.VERTICAL`, `WinMasks.DIAGONAL` or `WinMasks.NONE`.
+     */
+    public int getDirection() {
+        return this.direction;
+    }
+
+    /**
+     * Returns how often the spectator fell behind and skipped events.
+     *
+     * @return The number of conflations.
+     */
+    public long getConflations() {
+        return this.conflations;
+    }
+
+    /**
+     * Copies the latest state of the board and continues after the latest event it includes.
+     */
+    private void catchUp() {
+        this.next = this.channel.snapshot(this.snapshot) + 1;
+        this.player1 = this.snapshot[0];
+        this.player2 = this.snapshot[1];
+        this.winner = (int) this.snapshot[2];
+        this.direction = (int) this.snapshot[3];
+    }
+}
@@ -0,0 +1,288 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The `tictactoe.SpectatorChannel` class broadcasts the moves of one match to any number of
+ * `tictactoe.Spectator`s.
+ * <p>
+ *     The channel listens to a `tictactoe.GameEngine` and publishes every placed piece, lifted piece, win and
+ *     reset as one packed long into a ring buffer. The game thread is the only producer and never waits for the
+ *     spectators: it does not know how many there are, and publishing costs a few ordered stores whatever their
+ *     number. Every spectator reads the ring at its own pace. One that falls so far behind that the events it
+ *     has not read were overwritten skips them and jumps to the latest state of the board, which the channel
+ *     also publishes under a sequence lock.
+ * </p>
+ * <p>
+ *     An event holds its sequence number, starting at 1, in the upper 48 bits, then the type, the player and
+ *     the cell. The direction of the line takes the place of the cell in a `WIN` event.
+ * </p>
+ * <p>
+ *     A channel reused for another match is given a new generation with `endSubscriptions` before the match
+ *     starts. Spectators subscribed in an earlier generation are closed and see none of its events.
+ * </p>
+ */
+public final class SpectatorChannel implements MoveListener {
+    /**
+     * The number of events kept for spectators that lag behind, unless another capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The event type of a placed piece.
+     */
+    public static final int PLACE = 0;
+
+    /**
+     * The event type of a lifted piece.
+     */
+    public static final int LIFT = 1;
+
+    /**
+     * The event type of a win.
+     */
+    public static final int WIN = 2;
+
+    /**
+     * The event type of a reset for a new match.
+     */
+    public static final int RESET = 3;
+
+    private static final int SEQUENCE_SHIFT = 16;
+    private static final int VERSION = 0;
+    private static final int PLAYER1 = 1;
+    private static final int PLAYER2 = 2;
+    private static final int WINNER = 3;
+    private static final int DIRECTION = 4;
+
+    private final AtomicLongArray events;
+    private final int mask;
+    private final AtomicLong cursor;
+    private final AtomicLongArray state;
+    private final MoveListener next;
+    private volatile long generation;
+    private long sequence;
+    private long player1;
+    private long player2;
+    private int winner;
+    private int direction;
+
+    /**
+     * Constructs a new `tictactoe.SpectatorChannel` for an empty board.
+     *
+     * @param capacity The number of events kept for spectators that lag behind, rounded up to a power of two.
+     * @param next     The listener every event is passed on to, e.g. that of a `tictactoe.MoveRecorder`, or null.
+     */
+    public SpectatorChannel(int capacity, MoveListener next) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.events = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.cursor = new AtomicLong();
+        this.state = new AtomicLongArray(DIRECTION + 1);
+        this.next = next;
+        this.direction = WinMasks.NONE;
+        this.state.set(DIRECTION, WinMasks.NONE);
+    }
+
+    /**
+     * Subscribes a new spectator, which starts from the current state of the board.
+     *
+     * @return The spectator.
+     */
+    public Spectator subscribe() {
+        return new Spectator(this);
+    }
+
+    @Override
+    public void onPlace(int cell, int player) {
+        if (player == 1) {
+            this.player1 |= 1L << cell;
+        } else {
+            this.player2 |= 1L << cell;
+        }
+        this.publish(PLACE, player, cell);
+        if (this.next != null) {
+            this.next.onPlace(cell, player);
+        }
+    }
+
+    @Override
+    public void onLift(int cell, int player) {
+        if (player == 1) {
+            this.player1 &= ~(1L << cell);
+        } else {
+            this.player2 &= ~(1L << cell);
+        }
+        // Only taking back the winning move lifts a piece once the match is won.
+        this.winner = 0;
+        this.direction = WinMasks.NONE;
+        this.publish(LIFT, player, cell);
+        if (this.next != null) {
+            this.next.onLift(cell, player);
+        }
+    }
+
+    @Override
+    public void onWin(int player, int direction) {
+        this.winner = player;
+        this.direction = direction;
+        this.publish(WIN, player, direction);
+        if (this.next != null) {
+            this.next.onWin(player, direction);
+        }
+    }
+
+    @Override
+    public void onReset() {
+        this.player1 = 0;
+        this.player2 = 0;
+        this.winner = 0;
+        this.direction = WinMasks.NONE;
+        this.publish(RESET, 0, 0);
+        if (this.next != null) {
+            this.next.onReset();
+        }
+    }
+
+    /**
+     * Closes every current spectator, so that only spectators subscribed from now on follow the channel. Called by
+     * the game thread before the channel carries the events of another match.
+     */
+    public void endSubscriptions() {
+        this.generation++;
+    }
+
+    /**
+     * Returns the sequence number of the latest event.
+     *
+     * @return The sequence number, or 0 before the first event.
+     */
+    public long getSequence() {
+        return this.cursor.get();
+    }
+
+    /**
+     * Returns the number of events kept for spectators that lag behind.
+     *
+     * @return The capacity of the ring.
+     */
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Extracts the sequence number of an event.
+     *
+     * @param event An event.
+     * @return The sequence number.
+     */
+    public static long sequenceOf(long event) {
+        return event >>> SEQUENCE_SHIFT;
+    }
+
+    /**
+     * Extracts the type of an event.
+     *
+     * @param event An event.
+     * @return `PLACE`, `LIFT`, `WIN` or `RESET`.
+     */
+    public static int typeOf(long event) {
+        return (int) (event >>> 14) & 3;
+    }
+
+    /**
+     * Extracts the player of an event.
+     *
+     * @param event An event.
+     * @return 1 or 2, or 0 for a reset.
+     */
+    public static int playerOf(long event) {
+        return (int) (event >>> 12) & 3;
+    }
+
+    /**
+     * Extracts the cell of an event.
+     *
+     * @param event A `PLACE` or `LIFT` event.
+     * @return The cell index, as given by `Rules.index`.
+     */
+    public static int cellOf(long event) {
+        return (int) event & 0xFFF;
+    }
+
+    /**
+     * Extracts the direction of the line of a win.
+     *
+     * @param event A `WIN` event.
+     * @return `WinMasks.HORIZONTAL`, `WinMasks.VERTICAL` or `WinMasks.DIAGONAL`.
+     */
+    public static int directionOf(long event) {
+        return (int) event & 0xFFF;
+    }
+
+    /**
+     * Returns the generation of the channel, which `endSubscriptions` advances.
+     *
+     * @return The generation.
+     */
+    long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Reads an event for a spectator.
+     *
+     * @param sequence The sequence number of the event.
+     * @return The event, 0 if it was not published yet, or -1 if it was already overwritten.
+     */
+    long read(long sequence) {
+        long published = this.cursor.get();
+        if (sequence > published) {
+            return 0;
+        }
+        if (published - sequence > this.mask) {
+            return -1;
+        }
+        long event = this.events.get((int) sequence & this.mask);
+        // The slot may have been reused while it was read.
+        return sequenceOf(event) == sequence ? event : -1;
+    }
+
+    /**
+     * Copies the latest state of the board for a spectator.
+     *
+     * @param snapshot Receives the pieces of player 1 and player 2, the winner and the direction of the line.
+     * @return The sequence number of the latest event the state includes.
+     */
+    long snapshot(long[] snapshot) {
+        while (true) {
+            long version = this.state.get(VERSION);
+            if ((version & 1) == 0) {
+                for (int i = PLAYER1; i <= DIRECTION; i++) {
+                    snapshot[i - 1] = this.state.get(i);
+                }
+                if (this.state.get(VERSION) == version) {
+                    return version >>> 1;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Publishes an event to the ring and the new state of the board under the sequence lock. The ordered stores
+     * make every write visible before the cursor or version that covers it.
+     */
+    private void publish(int type, int player, int cell) {
+        long sequence = ++this.sequence;
+        this.events.lazySet((int) sequence & this.mask, sequence << SEQUENCE_SHIFT | type << 14 | player << 12 | cell);
+        this.cursor.lazySet(sequence);
+        this.state.lazySet(VERSION, 2 * sequence - 1);
+        this.state.lazySet(PLAYER1, this.player1);
+        this.state.lazySet(PLAYER2, this.player2);
+        this.state.lazySet(WINNER, this.winner);
+        this.state.lazySet(DIRECTION, this.direction);
+        this.state.lazySet(VERSION, 2 * sequence);
+    }
+}
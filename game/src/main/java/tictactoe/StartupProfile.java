@@ -0,0 +1,59 @@
+package tictactoe;
+
+import java.util.Locale;
+
+/**
+ * The `tictactoe.StartupProfile` enum chooses how a `tictactoe.Game` starts.
+ * <p>
+ *     The interactive profile shows the loading animation for people at the console. The animation runs on its
+ *     own thread while the game prepares, and can be skipped. The fast profile shows no animation, for scripted
+ *     and automated play, so a game is ready as soon as its tables are.
+ * </p>
+ */
+public enum StartupProfile {
+    /**
+     * Shows the loading animation, a frame every half second.
+     */
+    INTERACTIVE(500),
+
+    /**
+     * Shows no loading animation.
+     */
+    FAST(0);
+
+    /**
+     * The system property that selects a profile by name, e.g. `-Dtictactoe.startup=fast`.
+     */
+    public static final String PROPERTY = "tictactoe.startup";
+
+    private final long frameMillis;
+
+    StartupProfile(long frameMillis) {
+        this.frameMillis = frameMillis;
+    }
+
+    /**
+     * Returns the time each frame of the loading animation is shown.
+     *
+     * @return The frame time in milliseconds, 0 if there is no animation.
+     */
+    public long getFrameMillis() {
+        return this.frameMillis;
+    }
+
+    /**
+     * Chooses the profile of this process: the one named by the `tictactoe.startup` system property, otherwise
+     * the interactive profile when a console is attached and the fast profile when input or output is
+     * redirected.
+     *
+     * @return The profile.
+     * @throws IllegalArgumentException If the system property names no profile.
+     */
+    public static StartupProfile detect() {
+        String name = System.getProperty(PROPERTY);
+        if (name != null) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+        return System.console() != null ? INTERACTIVE : FAST;
+    }
+}
@@ -0,0 +1,167 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.Symmetries` class maps positions to a canonical form under the 8 symmetries of the board.
+ * <p>
+ *     A square board looks the same after any of 4 rotations, each with or without a mirror, so up to 8
+ *     positions share every result. Caches and tables keyed on the canonical form store only one of them.
+ *     Transform t mirrors the columns if bit 2 is set and then turns the board clockwise by t &amp; 3 quarter
+ *     turns; transform 0 is the identity.
+ * </p>
+ * <p>
+ *     Every transform is a permutation of the cell indices, precomputed in a table. To move a whole piece mask,
+ *     the mask is cut into bytes and each byte is looked up in a table of 256 precomputed images, so a
+ *     transform costs one lookup per 8 cells.
+ * </p>
+ */
+public final class Symmetries {
+    /**
+     * The number of symmetries of a square board.
+     */
+    public static final int COUNT = 8;
+
+    private final Rules rules;
+    private final int cells;
+    private final int chunks;
+    private final int[][] cellTables;
+    private final int[] inverses;
+    private final long[][][] maskTables;
+
+    /**
+     * Constructs the symmetry tables of a variant.
+     *
+     * @param rules The variant whose board is transformed.
+     */
+    Symmetries(Rules rules) {
+        int size = rules.getSize();
+        int last = size - 1;
+        this.rules = rules;
+        this.cells = rules.getCells();
+        this.chunks = (this.cells + 7) / 8;
+        this.cellTables = new int[COUNT][this.cells];
+        for (int t = 0; t < COUNT; t++) {
+            for (int cell = 0; cell < this.cells; cell++) {
+                int row = cell / size;
+                int column = cell % size;
+                if ((t & 4) != 0) {
+                    column = last - column;
+                }
+                for (int turn = 0; turn < (t & 3); turn++) {
+                    int turned = column;
+                    column = last - row;
+                    row = turned;
+                }
+                this.cellTables[t][cell] = row * size + column;
+            }
+        }
+
+        this.inverses = new int[COUNT];
+        for (int t = 0; t < COUNT; t++) {
+            for (int u = 0; u < COUNT; u++) {
+                boolean identity = true;
+                for (int cell = 0; cell < this.cells; cell++) {
+                    identity &= this.cellTables[u][this.cellTables[t][cell]] == cell;
+                }
+                if (identity) {
+                    this.inverses[t] = u;
+                }
+            }
+        }
+
+        this.maskTables = new long[COUNT][this.chunks][256];
+        for (int t = 0; t < COUNT; t++) {
+            for (int chunk = 0; chunk < this.chunks; chunk++) {
+                for (int bits = 1; bits < 256; bits++) {
+                    long image = 0;
+                    for (int bit = 0; bit < 8; bit++) {
+                        int cell = 8 * chunk + bit;
+                        if ((bits & (1 << bit)) != 0 && cell < this.cells) {
+                            image |= 1L << this.cellTables[t][cell];
+                        }
+                    }
+                    this.maskTables[t][chunk][bits] = image;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves a cell by a transform.
+     *
+     * @param cell      The cell index, as given by `Rules.index`.
+     * @param transform The transform, from 0 to `COUNT` - 1.
+     * @return The index of the cell the given one is moved to.
+     */
+    public int transformCell(int cell, int transform) {
+        return this.cellTables[transform][cell];
+    }
+
+    /**
+     * Moves every piece of a mask by a transform.
+     *
+     * @param mask      The piece mask.
+     * @param transform The transform, from 0 to `COUNT` - 1.
+     * @return The transformed mask.
+     */
+    public long transform(long mask, int transform) {
+        long[][] tables = this.maskTables[transform];
+        long image = 0;
+        for (int chunk = 0; chunk < this.chunks; chunk++) {
+            image |= tables[chunk][(int) (mask >>> (8 * chunk)) & 0xFF];
+        }
+        return image;
+    }
+
+    /**
+     * Returns the transform that undoes another, which maps moves of a canonical position back to the board.
+     *
+     * @param transform The transform, from 0 to `COUNT` - 1.
+     * @return The inverse transform.
+     */
+    public int inverse(int transform) {
+        return this.inverses[transform];
+    }
+
+    /**
+     * Finds the transform that turns a position into its canonical form: the image with the smallest player 2
+     * mask, and among those the smallest player 1 mask, both read as unsigned numbers. The side to move is not
+     * changed by any transform.
+     *
+     * @param player1 The mask of player 1's pieces.
+     * @param player2 The mask of player 2's pieces.
+     * @return The transform to apply to both masks.
+     */
+    public int canonicalTransform(long player1, long player2) {
+        int best = 0;
+        long bestPlayer1 = player1;
+        long bestPlayer2 = player2;
+        for (int t = 1; t < COUNT; t++) {
+            long image2 = this.transform(player2, t);
+            int order = Long.compareUnsigned(image2, bestPlayer2);
+            if (order > 0) {
+                continue;
+            }
+            long image1 = this.transform(player1, t);
+            if (order < 0 || Long.compareUnsigned(image1, bestPlayer1) < 0) {
+                best = t;
+                bestPlayer1 = image1;
+                bestPlayer2 = image2;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Packs the canonical form of a position into a key, in the format of `PositionStore.key`.
+     *
+     * @param player1 The mask of player 1's pieces.
+     * @param player2 The mask of player 2's pieces.
+     * @param turn    True if it is player 2's move.
+     * @return The key shared by the position and all its symmetric copies.
+     * @throws IllegalArgumentException If the board has more than `PositionStore.MAX_CELLS` cells.
+     */
+    public long canonicalKey(long player1, long player2, boolean turn) {
+        int t = this.canonicalTransform(player1, player2);
+        return PositionStore.key(this.rules, this.transform(player1, t), this.transform(player2, t), turn);
+    }
+}
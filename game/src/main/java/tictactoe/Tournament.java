@@ -0,0 +1,248 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * The `tictactoe.Tournament` class plays a roster of `tictactoe.MovePolicy` entrants against each other and
+ * rates them.
+ * <p>
+ *     A round-robin tournament pairs every entrant with every other one. A Swiss tournament plays several rounds
+ *     and pairs entrants of similar rating in each, avoiding rematches where it can; with an odd roster the
+ *     entrant left over sits the round out. Every pairing plays a number of games in which the entrants take
+ *     turns to move first, and in a Swiss tournament the entrant who moved first less often so far starts.
+ * </p>
+ * <p>
+ *     The games of a round are played in parallel on a `ForkJoinPool`, split into batches that idle workers
+ *     steal. Every worker thread has its own engine and policy instances, as `tictactoe.MovePolicy` requires.
+ *     Once the round is played its results are fed to the `tictactoe.Ratings` in schedule order, and the round
+ *     ends a Glicko rating period. Game i of a round is seeded from the tournament seed, the round and i alone,
+ *     so a tournament is reproducible whatever the number of workers. Games that reach the ply limit are
+ *     draws.
+ * </p>
+ */
+public class Tournament {
+    private static final int BATCH_GAMES = 64;
+    private static final byte DRAW = 0;
+    private static final byte FIRST_WON = 1;
+    private static final byte SECOND_WON = 2;
+
+    private final Rules rules;
+    private final int maxPlies;
+    private final ForkJoinPool pool;
+    private final List<String> names;
+    private final List<Supplier<MovePolicy>> policies;
+    private final ThreadLocal<Worker> workers;
+
+    /**
+     * The engine and policy instances of one worker thread.
+     */
+    private final class Worker {
+        private final GameEngine engine;
+        private MovePolicy[] policies;
+
+        private Worker() {
+            this.engine = new GameEngine(Tournament.this.rules, new Player("Player 1", "X", Tournament.this.rules),
+                    new Player("Player 2", "O", Tournament.this.rules));
+            this.policies = new MovePolicy[0];
+        }
+
+        private MovePolicy policy(int entrant) {
+            if (entrant >= this.policies.length) {
+                this.policies = Arrays.copyOf(this.policies, Tournament.this.policies.size());
+            }
+            if (this.policies[entrant] == null) {
+                this.policies[entrant] = Tournament.this.policies.get(entrant).get();
+            }
+            return this.policies[entrant];
+        }
+    }
+
+    /**
+     * Plays a range of the games of a round, splitting it while it is larger than a batch.
+     */
+    private final class Games extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] first;
+        private final int[] second;
+        private final byte[] results;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        private Games(int[] first, int[] second, byte[] results, long seed, int from, int to) {
+            this.first = first;
+            this.second = second;
+            this.results = results;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > BATCH_GAMES) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Games(this.first, this.second, this.results, this.seed, this.from, middle),
+                        new Games(this.first, this.second, this.results, this.seed, middle, this.to));
+                return;
+            }
+            Worker worker = Tournament.this.workers.get();
+            for (int game = this.from; game < this.to; game++) {
+                // Player 2 of the engine moves first.
+                int winner = SelfPlay.play(worker.engine, worker.policy(this.second[game]),
+                        worker.policy(this.first[game]), SelfPlay.mix(this.seed + game), Tournament.this.maxPlies);
+                this.results[game] = winner == 2 ? FIRST_WON : winner == 1 ? SECOND_WON : DRAW;
+            }
+        }
+    }
+
+    /**
+     * Constructs a new `tictactoe.Tournament` with an empty roster.
+     *
+     * @param rules    The variant to play.
+     * @param maxPlies The number of plies after which a game is a draw.
+     * @param pool     The pool the games are played on.
+     */
+    public Tournament(Rules rules, int maxPlies, ForkJoinPool pool) {
+        this.rules = rules;
+        this.maxPlies = maxPlies;
+        this.pool = pool;
+        this.names = new ArrayList<>();
+        this.policies = new ArrayList<>();
+        this.workers = ThreadLocal.withInitial(Worker::new);
+    }
+
+    /**
+     * Adds an entrant to the roster.
+     *
+     * @param name   The name shown in the ratings table.
+     * @param policy Creates instances of the entrant's policy, one per worker thread.
+     * @return This tournament.
+     */
+    public Tournament add(String name, Supplier<MovePolicy> policy) {
+        this.names.add(name);
+        this.policies.add(policy);
+        return this;
+    }
+
+    /**
+     * Plays a round-robin tournament as one round.
+     *
+     * @param gamesPerPairing The number of games every two entrants play.
+     * @param seed            The seed of the tournament.
+     * @return The ratings after the tournament.
+     */
+    public Ratings roundRobin(int gamesPerPairing, long seed) {
+        int entrants = this.names.size();
+        int games = entrants * (entrants - 1) / 2 * gamesPerPairing;
+        int[] first = new int[games];
+        int[] second = new int[games];
+        int game = 0;
+        for (int a = 0; a < entrants; a++) {
+            for (int b = a + 1; b < entrants; b++) {
+                for (int k = 0; k < gamesPerPairing; k++) {
+                    // Alternate colours; with an odd number of games the extra first move goes to either side.
+                    boolean aFirst = (k + a + b) % 2 == 0;
+                    first[game] = aFirst ? a : b;
+                    second[game++] = aFirst ? b : a;
+                }
+            }
+        }
+        Ratings ratings = new Ratings(this.names.toArray(new String[0]));
+        this.playRound(first, second, ratings, SelfPlay.mix(seed));
+        return ratings;
+    }
+
+    /**
+     * Plays a Swiss tournament.
+     *
+     * @param rounds          The number of rounds.
+     * @param gamesPerPairing The number of games the entrants of a pairing play each round.
+     * @param seed            The seed of the tournament.
+     * @return The ratings after the last round.
+     */
+    public Ratings swiss(int rounds, int gamesPerPairing, long seed) {
+        int entrants = this.names.size();
+        Ratings ratings = new Ratings(this.names.toArray(new String[0]));
+        boolean[][] met = new boolean[entrants][entrants];
+        int[] firstMoves = new int[entrants];
+        for (int round = 0; round < rounds; round++) {
+            int pairings = entrants / 2;
+            int[] first = new int[pairings * gamesPerPairing];
+            int[] second = new int[pairings * gamesPerPairing];
+            pairSwissRound(ratings.ranking(), met, firstMoves, gamesPerPairing, first, second);
+            this.playRound(first, second, ratings, SelfPlay.mix(seed + round));
+        }
+        return ratings;
+    }
+
+    /**
+     * Pairs the entrants of a Swiss round from the top of the ranking down, each with the next entrant it has not
+     * met yet, or with the next one if it has met them all. The entrant of a pairing that moved first less often
+     * moves first, and the games of a pairing alternate otherwise.
+     *
+     * @param ranking         The entrants, best first.
+     * @param met             Which entrants met in earlier rounds; updated with the new pairings.
+     * @param firstMoves      The number of games each entrant moved first in; updated with the new games.
+     * @param gamesPerPairing The number of games of each pairing.
+     * @param first           Receives the entrant moving first in each game.
+     * @param second          Receives the other entrant of each game.
+     * @return The number of games of the round.
+     */
+    static int pairSwissRound(int[] ranking, boolean[][] met, int[] firstMoves, int gamesPerPairing, int[] first,
+            int[] second) {
+        int entrants = ranking.length;
+        boolean[] paired = new boolean[entrants];
+        int game = 0;
+        for (int i = 0; i < entrants; i++) {
+            int a = ranking[i];
+            if (paired[a]) {
+                continue;
+            }
+            int b = -1;
+            for (int j = i + 1; j < entrants; j++) {
+                int candidate = ranking[j];
+                if (!paired[candidate] && (b < 0 || !met[a][candidate] && met[a][b])) {
+                    b = candidate;
+                    if (!met[a][b]) {
+                        break;
+                    }
+                }
+            }
+            if (b < 0) {
+                // The lowest rated entrant left over sits the round out.
+                break;
+            }
+            paired[a] = true;
+            paired[b] = true;
+            met[a][b] = true;
+            met[b][a] = true;
+            for (int k = 0; k < gamesPerPairing; k++) {
+                boolean aFirst = firstMoves[a] < firstMoves[b] || firstMoves[a] == firstMoves[b] && k % 2 == 0;
+                first[game] = aFirst ? a : b;
+                second[game++] = aFirst ? b : a;
+                firstMoves[aFirst ? a : b]++;
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Plays the games of a round in parallel, then records their results in order and ends the rating period.
+     */
+    private void playRound(int[] first, int[] second, Ratings ratings, long seed) {
+        byte[] results = new byte[first.length];
+        this.pool.invoke(new Games(first, second, results, seed, 0, first.length));
+        for (int game = 0; game < first.length; game++) {
+            double score = results[game] == FIRST_WON ? 1 : results[game] == SECOND_WON ? 0 : 0.5;
+            ratings.record(first[game], second[game], score);
+        }
+        ratings.endPeriod();
+    }
+}
@@ -0,0 +1,225 @@
+package tictactoe;
+
+/**
+ * The `tictactoe.WinMasks` class detects winning lines on a player's piece mask.
+ * <p>
+ *     Every line of `winLength` cells in a row, column or diagonal is stored as a mask. On boards of up to
+ *     16 cells, a table indexed by every possible mask holds the first line that mask completes, so a check
+ *     is a single array read. On larger boards a check only tests the lines through the cell that was just
+ *     played.
+ * </p>
+ */
+public final class WinMasks {
+    /**
+     * The direction of a line running along a row.
+     */
+    public static final int HORIZONTAL = 0;
+
+    /**
+     * The direction of a line running along a column.
+     */
+    public static final int VERTICAL = 1;
+
+    /**
+     * The direction of a line running corner to corner.
+     */
+    public static final int DIAGONAL = 2;
+
+    /**
+     * The value returned when no line is complete.
+     */
+    public static final int NONE = -1;
+
+    private static final int MAX_TABLE_CELLS = 16;
+
+    private final long[] lines;
+    private final int[] directions;
+    private final int[][] linesThroughCell;
+    private final byte[] winningLine;
+
+    /**
+     * Constructs the lines of a variant.
+     *
+     * @param rules The variant whose lines are built.
+     */
+    WinMasks(Rules rules) {
+        int size = rules.getSize();
+        int length = rules.getWinLength();
+        int starts = size - length + 1;
+        int count = 2 * size * starts + 2 * starts * starts;
+        this.lines = new long[count];
+        this.directions = new int[count];
+
+        int line = 0;
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < starts; y++) {
+                this.directions[line] = HORIZONTAL;
+                this.lines[line++] = this.line(size, length, x, y, 0, 1);
+            }
+        }
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < starts; x++) {
+                this.directions[line] = VERTICAL;
+                this.lines[line++] = this.line(size, length, x, y, 1, 0);
+            }
+        }
+        for (int x = 0; x < starts; x++) {
+            for (int y = 0; y < starts; y++) {
+                this.directions[line] = DIAGONAL;
+                this.lines[line++] = this.line(size, length, x, y, 1, 1);
+            }
+        }
+        for (int x = 0; x < starts; x++) {
+            for (int y = length - 1; y < size; y++) {
+                this.directions[line] = DIAGONAL;
+                this.lines[line++] = this.line(size, length, x, y, 1, -1);
+            }
+        }
+
+        this.linesThroughCell = new int[rules.getCells()][];
+        for (int cell = 0; cell < rules.getCells(); cell++) {
+            int through = 0;
+            for (long mask : this.lines) {
+                if ((mask & (1L << cell)) != 0) {
+                    through++;
+                }
+            }
+            this.linesThroughCell[cell] = new int[through];
+            for (int i = 0, j = 0; i < count; i++) {
+                if ((this.lines[i] & (1L << cell)) != 0) {
+                    this.linesThroughCell[cell][j++] = i;
+                }
+            }
+        }
+
+        if (rules.getCells() <= MAX_TABLE_CELLS) {
+            this.winningLine = new byte[1 << rules.getCells()];
+            for (int mask = 0; mask < this.winningLine.length; mask++) {
+                this.winningLine[mask] = (byte) this.scan(mask);
+            }
+        } else {
+            this.winningLine = null;
+        }
+    }
+
+    /**
+     * Returns the number of lines on the board.
+     *
+     * @return The number of lines.
+     */
+    public int count() {
+        return this.lines.length;
+    }
+
+    /**
+     * Returns the mask of a line.
+     *
+     * @param line The line index.
+     * @return The mask of the cells on the line.
+     */
+    public long mask(int line) {
+        return this.lines[line];
+    }
+
+    /**
+     * Returns the direction of a line.
+     *
+     * @param line The line index.
+     * @return `HORIZONTAL`, `VERTICAL` or `DIAGONAL`.
+     */
+    public int direction(int line) {
+        return this.directions[line];
+    }
+
+    /**
+     * Finds the line completed by a player's pieces.
+     *
+     * @param playerSet The mask of the player's pieces.
+     * @return The index of the completed line, or `NONE` if there is none.
+     */
+    public int winningLine(long playerSet) {
+        if (this.winningLine != null) {
+            return this.winningLine[(int) playerSet];
+        }
+        return this.scan(playerSet);
+    }
+
+    /**
+     * Finds the line completed by a player's pieces, given the cell of the piece placed last.
+     *
+     * @param playerSet The mask of the player's pieces.
+     * @param cell      The cell index of the piece placed last.
+     * @return The index of the completed line, or `NONE` if there is none.
+     */
+    public int winningLine(long playerSet, int cell) {
+        if (this.winningLine != null) {
+            return this.winningLine[(int) playerSet];
+        }
+        for (int line : this.linesThroughCell[cell]) {
+            if ((playerSet & this.lines[line]) == this.lines[line]) {
+                return line;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Checks if a player's pieces complete any line.
+     *
+     * @param playerSet The mask of the player's pieces.
+     * @return True if a line is complete, otherwise false.
+     */
+    public boolean isWin(long playerSet) {
+        return this.winningLine(playerSet) != NONE;
+    }
+
+    /**
+     * Checks if a player's pieces complete a line through the cell of the piece placed last.
+     *
+     * @param playerSet The mask of the player's pieces.
+     * @param cell      The cell index of the piece placed last.
+     * @return True if a line is complete, otherwise false.
+     */
+    public boolean isWin(long playerSet, int cell) {
+        return this.winningLine(playerSet, cell) != NONE;
+    }
+
+    /**
+     * Scores a position by the lines each player could still complete. A line counts for a player when the
+     * other player has no piece on it, and it is worth the square of the pieces already on it.
+     *
+     * @param mine   The mask of the pieces of the player the score is for.
+     * @param theirs The mask of the other player's pieces.
+     * @return The score, positive when the position favours `mine`.
+     */
+    public int openLineScore(long mine, long theirs) {
+        int score = 0;
+        for (long mask : this.lines) {
+            int own = Long.bitCount(mine & mask);
+            int other = Long.bitCount(theirs & mask);
+            if (other == 0) {
+                score += own * own;
+            } else if (own == 0) {
+                score -= other * other;
+            }
+        }
+        return score;
+    }
+
+    private int scan(long playerSet) {
+        for (int line = 0; line < this.lines.length; line++) {
+            if ((playerSet & this.lines[line]) == this.lines[line]) {
+                return line;
+            }
+        }
+        return NONE;
+    }
+
+    private long line(int size, int length, int x, int y, int dx, int dy) {
+        long mask = 0;
+        for (int i = 0; i < length; i++) {
+            mask |= 1L << ((x + i * dx) * size + (y + i * dy));
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,73 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.ChannelInputSourceTest` class checks how `tictactoe.ChannelInputSource` splits a channel into
+ * bounded lines.
+ */
+class ChannelInputSourceTest {
+    /**
+     * Lines are split at newlines across refills of a small buffer, and a last line without one still counts.
+     */
+    @Test
+    void splitsLinesAcrossReads() throws IOException {
+        ChannelInputSource source = source("1, 2\r\nquit\n3 3", 4);
+        InputLine line = new InputLine(16);
+        assertEquals(InputSource.LINE, source.read(line));
+        assertEquals("1, 2", line.toString());
+        assertEquals(InputSource.LINE, source.read(line));
+        assertTrue(line.isWord("QUIT"));
+        assertEquals(InputSource.LINE, source.read(line));
+        assertEquals("3 3", line.toString());
+        assertEquals(InputSource.END, source.read(line));
+    }
+
+    /**
+     * An overlong line is returned as soon as it overflows, and the rest of it is dropped up to its newline.
+     */
+    @Test
+    void returnsAnOverlongLineAtOnce() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append('7');
+        }
+        ChannelInputSource source = source(text + "\n2, 1\n", 8);
+        InputLine line = new InputLine(16);
+        assertEquals(InputSource.LINE, source.read(line));
+        assertTrue(line.isOverflow());
+        assertEquals(InputParser.NOT_TWO_NUMBERS, line.parseCoordinate(3));
+        assertEquals(InputSource.LINE, source.read(line));
+        assertFalse(line.isOverflow());
+        assertEquals("2, 1", line.toString());
+        assertEquals(InputSource.END, source.read(line));
+    }
+
+    /**
+     * Bytes seen by `fill` are left for `read`, unless `discard` drops them.
+     */
+    @Test
+    void fillsWithoutTaking() throws IOException {
+        ChannelInputSource source = source("early\n1 1\n", 6);
+        InputLine line = new InputLine(16);
+        assertTrue(source.fill());
+        source.discard();
+        assertTrue(source.fill());
+        assertEquals(InputSource.LINE, source.read(line));
+        assertEquals("1 1", line.toString());
+        assertFalse(source.fill());
+    }
+
+    private static ChannelInputSource source(String text, int bufferBytes) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new ChannelInputSource(Channels.newChannel(new ByteArrayInputStream(bytes)), bufferBytes);
+    }
+}
@@ -0,0 +1,284 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.GameServerTest` class plays matches on a `tictactoe.GameServer` through local sockets.
+ */
+class GameServerTest {
+    private static final int TIMEOUT_MILLIS = 20_000;
+    private static final String[] WINNING_MOVES = { "1, 1", "1, 2", "1 3" };
+    private static final String[] LOSING_MOVES = { "2, 1", "2, 2", "2, 3" };
+
+    private GameServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = new GameServer(Rules.STANDARD);
+        this.server.start(0);
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.close();
+    }
+
+    /**
+     * Two clients are paired and the one completing a line first wins.
+     */
+    @Test
+    void playsAMatchToTheEnd() throws IOException {
+        try (Client first = new Client(this.server.getPort()); Client second = new Client(this.server.getPort())) {
+            assertEquals("WAITING", first.readLine());
+            assertEquals("START X 3 3 3", first.readLine());
+            assertEquals("START O 3 3 3", second.readLine());
+            // Lines sent ahead of a turn are read once it comes, so both clients can send all their moves now.
+            first.sendAll(LOSING_MOVES);
+            second.sendAll(WINNING_MOVES);
+            assertEquals("WIN", second.result());
+            assertEquals("LOSE", first.result());
+        }
+    }
+
+    /**
+     * A client that leaves during a match ends it for its opponent.
+     */
+    @Test
+    void tellsTheOpponentOfAClientThatLeft() throws IOException {
+        try (Client first = new Client(this.server.getPort()); Client second = new Client(this.server.getPort())) {
+            assertEquals("WAITING", first.readLine());
+            second.awaitTurn();
+            second.send("1, 1");
+            first.awaitTurn();
+            second.close();
+            first.send("2, 2");
+            assertEquals("OPPONENT_LEFT", first.result());
+        }
+    }
+
+    /**
+     * A client that leaves while waiting is not paired; the next client waits in its place.
+     */
+    @Test
+    void dropsAWaitingClientThatLeft() throws IOException, InterruptedException {
+        try (Client gone = new Client(this.server.getPort())) {
+            assertEquals("WAITING", gone.readLine());
+        }
+        this.awaitNoWaiting();
+        try (Client first = new Client(this.server.getPort()); Client second = new Client(this.server.getPort())) {
+            assertEquals("WAITING", first.readLine());
+            assertEquals("START X 3 3 3", first.readLine());
+            first.sendAll(LOSING_MOVES);
+            second.sendAll(WINNING_MOVES);
+            assertEquals("WIN", second.result());
+        }
+    }
+
+    /**
+     * A waiting client is still watched after it sends something before its match starts, so it is dropped once
+     * it leaves, and what it sent is not taken for a move.
+     */
+    @Test
+    void dropsAWaitingClientThatSpokeAndLeft() throws IOException, InterruptedException {
+        try (Client gone = new Client(this.server.getPort())) {
+            assertEquals("WAITING", gone.readLine());
+            gone.send("hello");
+            Thread.sleep(100);
+            assertTrue(this.server.isWaiting());
+        }
+        this.awaitNoWaiting();
+        try (Client first = new Client(this.server.getPort())) {
+            assertEquals("WAITING", first.readLine());
+            first.send("2, 2");
+            Thread.sleep(100);
+            try (Client second = new Client(this.server.getPort())) {
+                assertEquals("START X 3 3 3", first.readLine());
+                second.sendAll(WINNING_MOVES);
+                first.sendAll(LOSING_MOVES);
+                assertEquals("WIN", second.result());
+                assertEquals("LOSE", first.result());
+            }
+        }
+    }
+
+    /**
+     * A client sending a line longer than the limit, even one that never ends, is disconnected.
+     */
+    @Test
+    void disconnectsAClientSendingAnOverlongLine() throws IOException {
+        try (Client first = new Client(this.server.getPort()); Client second = new Client(this.server.getPort())) {
+            assertEquals("WAITING", first.readLine());
+            second.awaitTurn();
+            char[] flood = new char[4 * ClientConnection.MAX_LINE_BYTES];
+            Arrays.fill(flood, '1');
+            second.send(new String(flood).substring(1), false);
+            assertEquals("OPPONENT_LEFT", first.result());
+            assertTrue(second.isDisconnected());
+        }
+    }
+
+    /**
+     * Many matches run at once, each on its own session thread.
+     */
+    @Test
+    void playsManyMatchesAtOnce() throws Exception {
+        int pairs = 200;
+        ExecutorService clients = Executors.newFixedThreadPool(2 * pairs);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 2 * pairs; i++) {
+                // Clients connect in order, so even ones play X and odd ones play O in their match.
+                String[] moves = i % 2 == 0 ? LOSING_MOVES : WINNING_MOVES;
+                Client client = new Client(this.server.getPort());
+                results.add(clients.submit(() -> {
+                    try (Client player = client) {
+                        return player.play(moves);
+                    }
+                }));
+            }
+            int wins = 0;
+            for (Future<String> result : results) {
+                String outcome = result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                assertTrue(outcome.equals("WIN") || outcome.equals("LOSE"), outcome);
+                wins += outcome.equals("WIN") ? 1 : 0;
+            }
+            assertEquals(pairs, wins);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private void awaitNoWaiting() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (this.server.isWaiting() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertFalse(this.server.isWaiting());
+    }
+
+    /**
+     * A client speaking the line protocol of the server.
+     */
+    private static final class Client implements Closeable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final Writer out;
+
+        private Client(int port) throws IOException {
+            this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            this.socket.setSoTimeout(TIMEOUT_MILLIS);
+            this.in = new BufferedReader(new InputStreamReader(this.socket.getInputStream(), StandardCharsets.UTF_8));
+            this.out = new OutputStreamWriter(this.socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        private String readLine() throws IOException {
+            String line = this.in.readLine();
+            if (line == null) {
+                throw new IOException("The server closed the connection.");
+            }
+            return line;
+        }
+
+        private void send(String line) throws IOException {
+            this.send(line, true);
+        }
+
+        private void send(String text, boolean newline) throws IOException {
+            this.out.write(newline ? text + "\n" : text);
+            this.out.flush();
+        }
+
+        /**
+         * Skips the lines sent before the server closes the connection.
+         *
+         * @return True once the connection is closed or reset by the server.
+         */
+        private boolean isDisconnected() {
+            try {
+                while (this.in.readLine() != null) {
+                    continue;
+                }
+            } catch (IOException e) {
+                // A reset also means the server dropped the connection.
+            }
+            return true;
+        }
+
+        private void sendAll(String[] lines) throws IOException {
+            for (String line : lines) {
+                this.send(line);
+            }
+        }
+
+        /**
+         * Skips the lines before the next `TURN`.
+         */
+        private void awaitTurn() throws IOException {
+            String line;
+            while (!(line = this.readLine()).equals("TURN")) {
+                assertFalse(line.startsWith("ERROR") || line.equals("OPPONENT_LEFT"), line);
+            }
+        }
+
+        /**
+         * Answers every `TURN` with the next move until the match ends.
+         *
+         * @return The line that ended the match.
+         */
+        private String play(String[] moves) throws IOException {
+            int played = 0;
+            while (true) {
+                String line = this.readLine();
+                if (line.equals("TURN")) {
+                    this.send(moves[played++]);
+                } else if (line.equals("WIN") || line.equals("LOSE") || line.equals("OPPONENT_LEFT")) {
+                    return line;
+                } else {
+                    assertFalse(line.startsWith("ERROR"), line);
+                }
+            }
+        }
+
+        /**
+         * Skips the lines before the end of the match, for a client whose moves were sent ahead.
+         *
+         * @return The line that ended the match.
+         */
+        private String result() throws IOException {
+            while (true) {
+                String line = this.readLine();
+                if (line.equals("WIN") || line.equals("LOSE") || line.equals("OPPONENT_LEFT")) {
+                    return line;
+                }
+                assertFalse(line.startsWith("ERROR"), line);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.socket.close();
+        }
+    }
+}
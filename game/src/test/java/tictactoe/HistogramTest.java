@@ -0,0 +1,130 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.HistogramTest` class checks the percentiles of `tictactoe.Histogram` and the move counters of
+ * `tictactoe.GameMetrics`.
+ */
+class HistogramTest {
+    /**
+     * Small values have a bucket each, so their percentiles are exact.
+     */
+    @Test
+    void reportsSmallValuesExactly() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getPercentile(50));
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean(), 1e-9);
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(50, histogram.getPercentile(50));
+        assertEquals(99, histogram.getPercentile(99));
+        assertEquals(100, histogram.getPercentile(100));
+        assertEquals(100, histogram.getMax());
+    }
+
+    /**
+     * The percentiles of values spread over many magnitudes are never below the exact ones and at most a bucket
+     * width, about 3%, above them.
+     */
+    @Test
+    void boundsTheErrorOfLargeValues() {
+        Histogram histogram = new Histogram();
+        Random random = new Random(3);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 40);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[] { 1, 10, 50, 90, 99, 99.9 }) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = histogram.getPercentile(percentile);
+            assertTrue(reported >= exact, "p" + percentile + ": " + reported + " < " + exact);
+            assertTrue(reported <= exact + exact / 32 + 1, "p" + percentile + ": " + reported + " >> " + exact);
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[values.length - 1], histogram.getPercentile(100));
+    }
+
+    /**
+     * Negative values count as 0, and the largest long has a bucket.
+     */
+    @Test
+    void acceptsTheWholeRange() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    /**
+     * Threads recording at once lose no value.
+     */
+    @Test
+    void countsConcurrentRecords() throws InterruptedException {
+        Histogram histogram = new Histogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(i % 1000);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(400_000, histogram.getCount());
+        assertEquals(999, histogram.getMax());
+        assertEquals(499.5, histogram.getMean(), 1e-9);
+    }
+
+    /**
+     * Every move is counted under its result, and a finished match records its length.
+     */
+    @Test
+    void countsMovesByResult() {
+        GameMetrics metrics = GameMetrics.get();
+        long applied = metrics.getMovesApplied();
+        long taken = metrics.getRejectedTaken();
+        long notOwn = metrics.getRejectedNotOwn();
+        long outOfBoard = metrics.getRejectedOutOfBoard();
+        long gameOver = metrics.getRejectedGameOver();
+        long games = metrics.getGamesFinished();
+
+        Rules rules = Rules.STANDARD;
+        GameEngine engine = new GameEngine(rules, new Player("Player 1", "X", rules),
+                new Player("Player 2", "O", rules));
+        engine.nextPlayerMove(1, 1);
+        engine.nextPlayerMove(1, 1);
+        engine.nextPlayerMove(4, 1);
+        engine.nextPlayerMove(2, 1);
+        engine.nextPlayerMove(1, 2);
+        engine.nextPlayerMove(2, 2);
+        engine.nextPlayerMove(3, 3);
+        engine.nextPlayerMove(3, 1);
+        // Player 2 holds its three pieces and must lift one of them before completing the first row.
+        engine.nextPlayerMove(2, 3);
+        engine.nextPlayerMove(3, 3);
+        engine.nextPlayerMove(1, 3);
+        engine.nextPlayerMove(2, 3);
+
+        assertEquals(8, metrics.getMovesApplied() - applied);
+        assertEquals(1, metrics.getRejectedTaken() - taken);
+        assertEquals(1, metrics.getRejectedNotOwn() - notOwn);
+        assertEquals(1, metrics.getRejectedOutOfBoard() - outOfBoard);
+        assertEquals(1, metrics.getRejectedGameOver() - gameOver);
+        assertEquals(1, metrics.getGamesFinished() - games);
+    }
+}
@@ -0,0 +1,153 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.InputParserTest` class checks the coordinate and menu grammar of `tictactoe.InputParser`, and
+ * how a `tictactoe.Screen` reads it from an `tictactoe.InputSource`.
+ */
+class InputParserTest {
+    /**
+     * Two integers separated by commas or whitespace form a coordinate, with surrounding blanks dropped.
+     */
+    @Test
+    void parsesCoordinates() {
+        assertCoordinate("1, 2", 1, 2);
+        assertCoordinate("1 2", 1, 2);
+        assertCoordinate("  3,3\r\n", 3, 3);
+        assertCoordinate("2\t,, 1", 2, 1);
+        assertCoordinate("+1 0", 1, 0);
+        assertCoordinate("1 2,", 1, 2);
+    }
+
+    /**
+     * A line that is not two words is rejected.
+     */
+    @Test
+    void rejectsOtherWordCounts() {
+        assertEquals(InputParser.NOT_TWO_NUMBERS, parse("", 3));
+        assertEquals(InputParser.NOT_TWO_NUMBERS, parse("1", 3));
+        assertEquals(InputParser.NOT_TWO_NUMBERS, parse("1 2 3", 3));
+        assertEquals(InputParser.NOT_TWO_NUMBERS, parse(",1 2", 3));
+    }
+
+    /**
+     * Words must be ASCII integers that fit in an int.
+     */
+    @Test
+    void rejectsNonNumbers() {
+        assertEquals(InputParser.NOT_A_NUMBER, parse("a 1", 3));
+        assertEquals(InputParser.NOT_A_NUMBER, parse("1 -", 3));
+        assertEquals(InputParser.NOT_A_NUMBER, parse("1.0 2", 3));
+        assertEquals(InputParser.NOT_A_NUMBER, parse("1 2147483648", 3));
+    }
+
+    /**
+     * Numbers must lie between 0 and the board size.
+     */
+    @Test
+    void rejectsNumbersOffTheBoard() {
+        assertEquals(InputParser.OUT_OF_RANGE, parse("4 1", 3));
+        assertEquals(InputParser.OUT_OF_RANGE, parse("1 -1", 3));
+        assertEquals(InputParser.OUT_OF_RANGE, parse("1 2147483647", 3));
+        assertCoordinate("8 8", 8, 8, 8);
+    }
+
+    /**
+     * The parser agrees with the String path of `Screen.parseCoordinate`.
+     */
+    @Test
+    void agreesWithScreen() {
+        int[] coordinate = Screen.parseCoordinate(" 2 , 3 ", 3);
+        assertEquals(2, coordinate[0]);
+        assertEquals(3, coordinate[1]);
+    }
+
+    /**
+     * A menu choice is one integer, and words match ignoring case.
+     */
+    @Test
+    void parsesChoicesAndWords() {
+        assertEquals(2, choice(" 2 "));
+        assertEquals(-7, choice("-7"));
+        assertEquals(InputParser.INVALID, choice("abc"));
+        assertEquals(InputParser.INVALID, choice("1 2"));
+        assertEquals(InputParser.INVALID, choice(""));
+        byte[] quit = bytes(" Quit\n");
+        assertTrue(InputParser.isWord(quit, 0, quit.length, "QUIT"));
+        assertFalse(InputParser.isWord(quit, 0, quit.length, "QUITS"));
+    }
+
+    /**
+     * A line longer than the capacity of its `tictactoe.InputLine` fails every parse.
+     */
+    @Test
+    void rejectsOverflowedLines() {
+        MemoryInputSource source = new MemoryInputSource("1, 1                    2\n2 2\n");
+        InputLine line = new InputLine(8);
+        assertEquals(InputSource.LINE, source.read(line));
+        assertTrue(line.isOverflow());
+        assertEquals(InputParser.NOT_TWO_NUMBERS, line.parseCoordinate(3));
+        assertEquals(InputParser.INVALID, line.parseChoice());
+        assertEquals(InputSource.LINE, source.read(line));
+        assertFalse(line.isOverflow());
+        assertEquals(2, InputParser.x(line.parseCoordinate(3)));
+        assertEquals(InputSource.END, source.read(line));
+    }
+
+    /**
+     * A screen reading a script skips invalid lines, reports `undo` and parses menu choices, and fails once the
+     * script ends.
+     */
+    @Test
+    void drivesAScreenFromAScript() {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true));
+        try {
+            Screen screen = new Screen(new MemoryInputSource("x y\n9 9\n 2, 3\r\nUNDO\n3\n1\n"));
+            int[] coordinate = screen.getCoordinate(3);
+            assertEquals(2, coordinate[0]);
+            assertEquals(3, coordinate[1]);
+            assertNull(screen.getCoordinate(3));
+            assertEquals(1, screen.mainMenu());
+            assertThrows(NoSuchElementException.class, screen::mainMenu);
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    private static void assertCoordinate(String line, int x, int y) {
+        assertCoordinate(line, x, y, 3);
+    }
+
+    private static void assertCoordinate(String line, int x, int y, int size) {
+        long coordinate = parse(line, size);
+        assertTrue(coordinate >= 0, "'" + line + "' was rejected with " + coordinate);
+        assertEquals(x, InputParser.x(coordinate), line);
+        assertEquals(y, InputParser.y(coordinate), line);
+    }
+
+    private static long parse(String line, int size) {
+        byte[] bytes = bytes(line);
+        return InputParser.parseCoordinate(bytes, 0, bytes.length, size);
+    }
+
+    private static int choice(String line) {
+        byte[] bytes = bytes(line);
+        return InputParser.parseChoice(bytes, 0, bytes.length);
+    }
+
+    private static byte[] bytes(String line) {
+        return line.getBytes(StandardCharsets.US_ASCII);
+    }
+}
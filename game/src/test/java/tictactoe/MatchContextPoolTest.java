@@ -0,0 +1,79 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.MatchContextPoolTest` class checks that `tictactoe.MatchContextPool` hands out clean contexts
+ * and keeps spectators to their own match.
+ */
+class MatchContextPoolTest {
+    /**
+     * A released context comes back empty, with player 2 to move, and the most recent one first.
+     */
+    @Test
+    void reusesResetContexts() {
+        MatchContextPool pool = new MatchContextPool(Rules.STANDARD, null, 2);
+        MatchContext context = pool.acquire();
+        context.getEngine().play(4);
+        context.getEngine().play(0);
+        pool.release(context);
+        assertSame(context, pool.acquire());
+        assertEquals("BOARD .........", context.boardLine());
+        assertTrue(context.getEngine().isTurn());
+        assertEquals(1, pool.getCreated());
+        assertEquals(1, pool.getReused());
+    }
+
+    /**
+     * No more idle contexts are kept than the capacity.
+     */
+    @Test
+    void keepsAtMostItsCapacity() {
+        MatchContextPool pool = new MatchContextPool(Rules.STANDARD, null, 2);
+        MatchContext[] contexts = new MatchContext[5];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = pool.acquire();
+        }
+        for (MatchContext context : contexts) {
+            pool.release(context);
+        }
+        assertEquals(2, pool.getIdle());
+        assertSame(contexts[1], pool.acquire());
+        assertSame(contexts[0], pool.acquire());
+        assertNotSame(contexts[2], pool.acquire());
+        assertEquals(6, pool.getCreated());
+    }
+
+    /**
+     * The spectators of a match are closed when its context is released and never see the next match, while a
+     * spectator of the next match follows it.
+     */
+    @Test
+    void closesTheSpectatorsOfAReleasedMatch() {
+        MatchContextPool pool = new MatchContextPool(Rules.STANDARD, null, 1);
+        MatchContext context = pool.acquire();
+        Spectator earlier = context.getSpectators().subscribe();
+        context.getEngine().play(4);
+        assertEquals(SpectatorChannel.PLACE, SpectatorChannel.typeOf(earlier.poll()));
+        pool.release(context);
+
+        MatchContext next = pool.acquire();
+        Spectator later = next.getSpectators().subscribe();
+        next.getEngine().play(0);
+        assertTrue(earlier.isClosed());
+        assertEquals(Spectator.CLOSED, earlier.poll());
+        assertEquals(Spectator.CLOSED, earlier.poll());
+        assertEquals(1L << 4, earlier.getPieces(2));
+
+        assertFalse(later.isClosed());
+        assertEquals(SpectatorChannel.PLACE, SpectatorChannel.typeOf(later.poll()));
+        assertEquals(1L, later.getPieces(2));
+        assertEquals(Spectator.NONE, later.poll());
+    }
+}
@@ -0,0 +1,170 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.MatchSchedulerTest` class checks how `tictactoe.MatchScheduler` pairs seats and keeps its slots
+ * and contexts.
+ */
+class MatchSchedulerTest {
+    /**
+     * A match whose listener throws is ended without a winner and frees its slot for the next pairing.
+     */
+    @Test
+    void freesTheSlotOfAFailedMatch() throws InterruptedException {
+        MatchScheduler scheduler = new MatchScheduler(1, 1, 100, 1000, 0);
+        scheduler.start();
+        try {
+            for (int round = 0; round < 3; round++) {
+                CountDownLatch started = new CountDownLatch(2);
+                CountDownLatch abandoned = new CountDownLatch(2);
+                MatchListener failing = new MatchListener() {
+                    @Override
+                    public void onStart(ScheduledMatch match, int player) {
+                        started.countDown();
+                    }
+
+                    @Override
+                    public void onMove(ScheduledMatch match, int player, int cell, MoveResult result) {
+                        throw new IllegalStateException("A broken listener.");
+                    }
+
+                    @Override
+                    public void onOver(ScheduledMatch match, int winner) {
+                        if (winner == 0) {
+                            abandoned.countDown();
+                        }
+                    }
+                };
+                Seat first = new Seat("first", 1500, Rules.STANDARD, failing);
+                Seat second = new Seat("second", 1500, Rules.STANDARD, failing);
+                assertTrue(scheduler.join(first));
+                assertTrue(scheduler.join(second));
+                assertTrue(started.await(10, TimeUnit.SECONDS), "round " + round + " never started");
+                Seat mover = first.getPlayer() == 2 ? first : second;
+                assertTrue(mover.move(4));
+                assertTrue(abandoned.await(10, TimeUnit.SECONDS), "round " + round + " was not abandoned");
+                assertTrue(first.getMatch().isOver());
+                assertEquals(round + 1, scheduler.getFailedMatches());
+            }
+            awaitNoActiveMatch(scheduler);
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    /**
+     * A seat that leaves before it is paired is never paired, and one that leaves its match resigns it.
+     */
+    @Test
+    void dropsSeatsThatLeave() throws InterruptedException {
+        MatchScheduler scheduler = new MatchScheduler(1, 4, 100, 1000, 0);
+        scheduler.start();
+        try {
+            Seat gone = new Seat("gone", 1500, Rules.STANDARD, new Recorder());
+            assertTrue(scheduler.join(gone));
+            assertTrue(scheduler.leave(gone));
+            assertFalse(scheduler.leave(gone));
+            assertEquals(0, scheduler.getWaitingSeats());
+
+            Recorder first = new Recorder();
+            Recorder second = new Recorder();
+            Seat seat1 = new Seat("first", 1500, Rules.STANDARD, first);
+            Seat seat2 = new Seat("second", 1500, Rules.STANDARD, second);
+            assertTrue(scheduler.join(seat1));
+            Thread.sleep(100);
+            assertNull(seat1.getMatch());
+            assertTrue(scheduler.join(seat2));
+            assertNull(gone.getMatch());
+            assertTrue(first.started.await(10, TimeUnit.SECONDS));
+
+            assertFalse(scheduler.leave(seat1));
+            assertTrue(first.over.await(10, TimeUnit.SECONDS));
+            assertTrue(second.over.await(10, TimeUnit.SECONDS));
+            assertEquals(seat2.getPlayer(), second.winner);
+            assertEquals(seat2.getPlayer(), first.winner);
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    /**
+     * The engine of a finished match is reset and plays the next match of its variant.
+     */
+    @Test
+    void reusesTheEnginesOfFinishedMatches() throws InterruptedException {
+        MatchScheduler scheduler = new MatchScheduler(1, 4, 100, 1000, 0);
+        scheduler.start();
+        try {
+            GameEngine previous = null;
+            for (int round = 0; round < 3; round++) {
+                Recorder first = new Recorder();
+                Seat seat1 = new Seat("first", 1500, Rules.STANDARD, first);
+                Seat seat2 = new Seat("second", 1500, Rules.STANDARD, new Recorder());
+                assertTrue(scheduler.join(seat1));
+                assertTrue(scheduler.join(seat2));
+                assertTrue(first.started.await(10, TimeUnit.SECONDS));
+                GameEngine engine = first.engine;
+                if (previous != null) {
+                    assertSame(previous, engine);
+                }
+                assertEquals(0, first.occupiedAtStart);
+                Seat mover = seat1.getPlayer() == 2 ? seat1 : seat2;
+                assertTrue(mover.move(4));
+                assertTrue(first.moved.await(10, TimeUnit.SECONDS));
+                mover.resign();
+                assertTrue(first.over.await(10, TimeUnit.SECONDS));
+                awaitNoActiveMatch(scheduler);
+                previous = engine;
+            }
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    private static void awaitNoActiveMatch(MatchScheduler scheduler) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (scheduler.getActiveMatches() != 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(0, scheduler.getActiveMatches());
+    }
+
+    /**
+     * A listener that records the events of one match.
+     */
+    private static final class Recorder implements MatchListener {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch moved = new CountDownLatch(1);
+        private final CountDownLatch over = new CountDownLatch(1);
+        private volatile GameEngine engine;
+        private volatile long occupiedAtStart;
+        private volatile int winner = -1;
+
+        @Override
+        public void onStart(ScheduledMatch match, int player) {
+            this.engine = match.getEngine();
+            this.occupiedAtStart = match.getEngine().getBoard().getOccupied();
+            this.started.countDown();
+        }
+
+        @Override
+        public void onMove(ScheduledMatch match, int player, int cell, MoveResult result) {
+            this.moved.countDown();
+        }
+
+        @Override
+        public void onOver(ScheduledMatch match, int winner) {
+            this.winner = winner;
+            this.over.countDown();
+        }
+    }
+}
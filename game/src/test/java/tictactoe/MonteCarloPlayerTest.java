@@ -0,0 +1,63 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.MonteCarloPlayerTest` class checks that a `tictactoe.MonteCarloPlayer` sizes its search for its
+ * budget and plays by the rules.
+ */
+class MonteCarloPlayerTest {
+    /**
+     * The node pool grows with the budget and the workers, follows a playout cap, and stays between a root with
+     * all its moves per worker and `MAX_NODES`.
+     */
+    @Test
+    void sizesThePoolFromTheBudget() {
+        Rules rules = Rules.STANDARD;
+        int perPlayout = rules.getCells() + 1;
+        int small = MonteCarloPlayer.nodesFor(rules, ComputerPlayer.DEFAULT_BUDGET_NANOS, Long.MAX_VALUE, 1);
+        int large = MonteCarloPlayer.nodesFor(rules, 10 * ComputerPlayer.DEFAULT_BUDGET_NANOS, Long.MAX_VALUE, 1);
+        assertTrue(small < MonteCarloPlayer.MAX_NODES / 100, "small: " + small);
+        assertTrue(large > small);
+        assertTrue(MonteCarloPlayer.nodesFor(rules, ComputerPlayer.DEFAULT_BUDGET_NANOS, Long.MAX_VALUE, 4) > small);
+        assertEquals((1000 + 2) * perPlayout, MonteCarloPlayer.nodesFor(rules, Long.MAX_VALUE, 1000, 2));
+        assertEquals(MonteCarloPlayer.MAX_NODES, MonteCarloPlayer.nodesFor(rules, Long.MAX_VALUE, Long.MAX_VALUE, 8));
+        assertEquals(3 * perPlayout, MonteCarloPlayer.nodesFor(rules, 0, Long.MAX_VALUE, 3));
+        assertEquals(MonteCarloPlayer.MAX_NODES,
+                MonteCarloPlayer.nodesFor(rules, MonteCarloPlayer.DEFAULT_MOVE_NANOS, Long.MAX_VALUE, 64));
+    }
+
+    /**
+     * Two players with short budgets only submit moves the engine accepts, lifting once they have all their
+     * pieces, and take a line they can complete.
+     */
+    @Test
+    void playsOnlyLegalMoves() {
+        for (Rules rules : new Rules[] { Rules.STANDARD, Rules.of(5, 4, 5) }) {
+            MonteCarloPlayer player1 = new MonteCarloPlayer("Player 1", "X", rules, 2_000_000L, 500);
+            MonteCarloPlayer player2 = new MonteCarloPlayer("Player 2", "O", rules, 2_000_000L, 500);
+            GameEngine engine = new GameEngine(rules, player1, player2);
+            int lifts = 0;
+            for (int ply = 0; ply < 200 && !engine.isOver(); ply++) {
+                ComputerPlayer mover = (ComputerPlayer) engine.getCurrentPlayer();
+                int[] move = mover.chooseMove(engine);
+                MoveResult result = engine.nextPlayerMove(move[0], move[1]);
+                assertTrue(result.isAccepted(), rules + " ply " + ply + ": " + result);
+                lifts += result == MoveResult.LIFTED ? 1 : 0;
+            }
+            assertTrue(engine.isOver() || lifts > 0, rules + " neither ended nor lifted");
+        }
+
+        MonteCarloPlayer player1 = new MonteCarloPlayer("Player 1", "X", Rules.STANDARD, 50_000_000L, 5000);
+        GameEngine engine = new GameEngine(Rules.STANDARD, player1, new Player("Player 2", "O", Rules.STANDARD));
+        // Player 1 holds 4 and 5 and completes the middle row at 3, whatever player 2 threatens.
+        for (int cell : new int[] { 0, 4, 1, 5, 8 }) {
+            engine.play(cell);
+        }
+        int[] move = player1.chooseMove(engine);
+        assertEquals(MoveResult.WON, engine.nextPlayerMove(move[0], move[1]));
+    }
+}
@@ -0,0 +1,88 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.MoveBatchTest` class checks that a `tictactoe.MoveBatch` judges moves as `tictactoe.GameEngine`
+ * does.
+ */
+class MoveBatchTest {
+    /**
+     * Interleaved matches of random cells, rejected moves and moves after the end included, get the results the
+     * engine gives them one match at a time, and end in the engine's positions.
+     */
+    @Test
+    void agreesWithTheEngine() {
+        for (Rules rules : new Rules[] { Rules.STANDARD, Rules.of(4, 3, 4) }) {
+            int matches = 200;
+            int plies = 40;
+            Random random = new Random(17);
+            int[] cells = new int[matches * plies];
+            int[] positions = new int[matches * plies];
+            byte[] expected = new byte[matches * plies];
+            long[] end1 = new long[matches];
+            long[] end2 = new long[matches];
+            GameEngine engine = new GameEngine(rules, new Player("Player 1", "X", rules),
+                    new Player("Player 2", "O", rules));
+            for (int match = 0; match < matches; match++) {
+                engine.reset();
+                for (int ply = 0; ply < plies; ply++) {
+                    // Moves are interleaved ply by ply across the matches.
+                    int i = ply * matches + match;
+                    cells[i] = random.nextInt(rules.getCells());
+                    positions[i] = match;
+                    expected[i] = (byte) engine.play(cells[i]).ordinal();
+                }
+                end1[match] = engine.getPlayer1().getMySet();
+                end2[match] = engine.getPlayer2().getMySet();
+            }
+
+            long[] player1 = new long[matches];
+            long[] player2 = new long[matches];
+            boolean[] turns = new boolean[matches];
+            boolean[] over = new boolean[matches];
+            Arrays.fill(turns, true);
+            byte[] results = new byte[matches * plies];
+            new MoveBatch(rules).apply(player1, player2, turns, over, positions, cells, results, cells.length);
+            for (int i = 0; i < results.length; i++) {
+                assertEquals(MoveBatch.result(expected[i]), MoveBatch.result(results[i]), rules + " move " + i);
+            }
+            assertArrayEquals(end1, player1);
+            assertArrayEquals(end2, player2);
+        }
+    }
+
+    /**
+     * Positions taken from the middle of matches get their over flags from their pieces, and a won position
+     * rejects further moves.
+     */
+    @Test
+    void marksWonPositionsAsOver() {
+        MoveBatch batch = new MoveBatch(Rules.STANDARD);
+        // Player 2 has just completed the first column in the first position, player 1 the first row in the second.
+        long[] player1 = { 1L << 1 | 1L << 2, 1L | 1L << 1 | 1L << 2 };
+        long[] player2 = { 1L | 1L << 3 | 1L << 6, 1L << 4 | 1L << 5 };
+        boolean[] turns = { false, true };
+        boolean[] over = new boolean[2];
+        batch.markOver(player1, player2, turns, over, 2);
+        assertTrue(over[0]);
+        assertTrue(over[1]);
+
+        player1[1] = 1L << 1 | 1L << 2;
+        batch.markOver(player1, player2, turns, over, 2);
+        assertTrue(over[0]);
+        assertFalse(over[1]);
+        byte[] results = new byte[2];
+        batch.apply(player1, player2, turns, over, new int[] { 8, 8 }, results, 2);
+        assertEquals(MoveBatch.REJECTED_GAME_OVER, results[0]);
+        assertEquals(MoveBatch.PLACED, results[1]);
+        assertFalse(over[1]);
+    }
+}
@@ -0,0 +1,126 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.MoveHistoryTest` class checks that `tictactoe.GameEngine` undoes and redoes moves through its
+ * `tictactoe.MoveHistory`.
+ */
+class MoveHistoryTest {
+    /**
+     * Undoing every move of a match, lifts and the winning move included, passes back through every position, and
+     * redoing them all replays the match to the same end.
+     */
+    @Test
+    void undoesAndRedoesWholeMatches() {
+        Random random = new Random(11);
+        for (Rules rules : new Rules[] { Rules.STANDARD, Rules.of(4, 3, 4) }) {
+            GameEngine engine = engine(rules);
+            for (int match = 0; match < 100; match++) {
+                engine.reset();
+                List<long[]> positions = new ArrayList<>();
+                int lifts = 0;
+                while (!engine.isOver() && positions.size() < 200) {
+                    positions.add(position(engine));
+                    MoveResult result = engine.play(randomMove(engine, random));
+                    lifts += result == MoveResult.LIFTED ? 1 : 0;
+                }
+                long[] end = position(engine);
+                int plies = positions.size();
+                assertEquals(plies, engine.getHistory().getPlies());
+                assertEquals(plies, engine.getHistory().size(), "lifts: " + lifts);
+                for (int ply = plies - 1; ply >= 0; ply--) {
+                    assertTrue(engine.undo());
+                    assertArrayEquals(positions.get(ply), position(engine), rules + " match " + match + " ply " + ply);
+                }
+                assertFalse(engine.undo());
+                assertEquals(plies, engine.getHistory().getRedoable());
+                for (int ply = 1; ply <= plies; ply++) {
+                    assertTrue(engine.redo().isAccepted());
+                    long[] expected = ply == plies ? end : positions.get(ply);
+                    assertArrayEquals(expected, position(engine), rules + " match " + match + " redo " + ply);
+                }
+                assertNull(engine.redo());
+            }
+        }
+    }
+
+    /**
+     * A new move after an undo forgets the undone moves.
+     */
+    @Test
+    void forgetsUndoneMovesOnANewMove() {
+        GameEngine engine = engine(Rules.STANDARD);
+        engine.play(4);
+        engine.play(0);
+        assertTrue(engine.undo());
+        assertEquals(1, engine.getHistory().getRedoable());
+        assertEquals(MoveResult.PLACED, engine.play(8));
+        assertEquals(0, engine.getHistory().getRedoable());
+        assertNull(engine.redo());
+        assertEquals(8, engine.getHistory().cell(1));
+        assertEquals(1, engine.getHistory().player(1));
+    }
+
+    /**
+     * Once a match is longer than the history, the oldest moves are forgotten and exactly the capacity can be
+     * undone.
+     */
+    @Test
+    void forgetsTheOldestMovesBeyondTheCapacity() {
+        GameEngine engine = engine(Rules.STANDARD);
+        // Neither side ever completes a line: player 2 holds 0, 5 and 7, player 1 holds 1, 3 and 8.
+        for (int cell : new int[] { 0, 1, 5, 3, 7, 8 }) {
+            assertEquals(MoveResult.PLACED, engine.play(cell));
+        }
+        List<long[]> positions = new ArrayList<>();
+        int[] cycle = { 7, 7, 8, 8 };
+        for (int ply = 0; ply < 2 * GameEngine.HISTORY_CAPACITY; ply++) {
+            positions.add(position(engine));
+            assertTrue(engine.play(cycle[ply % cycle.length]).isAccepted());
+        }
+        MoveHistory history = engine.getHistory();
+        assertEquals(6 + 2 * GameEngine.HISTORY_CAPACITY, history.getPlies());
+        assertEquals(GameEngine.HISTORY_CAPACITY, history.size());
+        // The oldest move kept is the first of a cycle: player 2 lifting from 7.
+        assertEquals(7, history.cell(0));
+        assertEquals(2, history.player(0));
+        assertTrue(history.isLift(0));
+        for (int undone = 1; undone <= GameEngine.HISTORY_CAPACITY; undone++) {
+            assertTrue(engine.undo());
+        }
+        assertFalse(engine.undo());
+        assertArrayEquals(positions.get(GameEngine.HISTORY_CAPACITY), position(engine));
+    }
+
+    private static GameEngine engine(Rules rules) {
+        return new GameEngine(rules, new Player("Player 1", "X", rules), new Player("Player 2", "O", rules));
+    }
+
+    /**
+     * Captures the pieces of both players, the side to move, the end of the match and the occupied cells.
+     */
+    private static long[] position(GameEngine engine) {
+        return new long[] { engine.getPlayer1().getMySet(), engine.getPlayer2().getMySet(), engine.isTurn() ? 1 : 0,
+                engine.isOver() ? 1 : 0, engine.getBoard().getOccupied(), engine.getPlayer1().getSizeSet(),
+                engine.getPlayer2().getSizeSet() };
+    }
+
+    private static int randomMove(GameEngine engine, Random random) {
+        long legal = engine.legalMoves();
+        int skip = random.nextInt(Long.bitCount(legal));
+        for (int i = 0; i < skip; i++) {
+            legal &= legal - 1;
+        }
+        return Long.numberOfTrailingZeros(legal);
+    }
+}
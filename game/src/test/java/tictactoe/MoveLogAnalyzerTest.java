@@ -0,0 +1,152 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The `tictactoe.MoveLogAnalyzerTest` class checks the statistics `tictactoe.MoveLogAnalyzer` computes over logs
+ * written by `tictactoe.MoveRecorder`.
+ */
+class MoveLogAnalyzerTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Interleaved matches recorded into segments of a few records each are counted once each, with the winner
+     * and length they had, however the segment boundaries cut them.
+     */
+    @Test
+    void mergesGamesThatSpanSegments() throws IOException {
+        Rules rules = Rules.STANDARD;
+        MoveLogStats expected = new MoveLogStats(rules);
+        GameEngine[] engines = new GameEngine[5];
+        int[] openings = new int[engines.length];
+        int[] plies = new int[engines.length];
+        Random random = new Random(5);
+        try (MoveRecorder recorder = new MoveRecorder(this.directory, rules,
+                MoveRecorder.HEADER_BYTES + 7 * MoveRecorder.RECORD_BYTES)) {
+            for (int e = 0; e < engines.length; e++) {
+                engines[e] = new GameEngine(rules, new Player("Player 1", "X", rules),
+                        new Player("Player 2", "O", rules));
+                engines[e].setMoveListener(recorder.listener());
+            }
+            for (int turn = 0; turn < 3000; turn++) {
+                int e = turn % engines.length;
+                GameEngine engine = engines[e];
+                int player = engine.isTurn() ? 2 : 1;
+                long moves = engine.legalMoves();
+                for (int skip = random.nextInt(Long.bitCount(moves)); skip > 0; skip--) {
+                    moves &= moves - 1;
+                }
+                int cell = Long.numberOfTrailingZeros(moves);
+                MoveResult result = engine.play(cell);
+                expected.recordMove(result == MoveResult.LIFTED ? MoveRecorder.LIFT : MoveRecorder.PLACE);
+                if (plies[e]++ == 0) {
+                    openings[e] = cell;
+                }
+                if (result == MoveResult.WON) {
+                    expected.recordGame(openings[e], 2, player, plies[e]);
+                    plies[e] = 0;
+                    engine.reset();
+                }
+            }
+            for (int e = 0; e < engines.length; e++) {
+                if (plies[e] > 0) {
+                    expected.recordGame(openings[e], 2, 0, plies[e]);
+                }
+            }
+        }
+        MoveLogAnalyzer analyzer = new MoveLogAnalyzer(this.directory);
+        assertTrue(analyzer.getSegmentCount() > 100);
+        assertTrue(expected.getGames() > 100);
+        assertSameStats(expected, analyzer.analyze(ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * A game without moves in `IDLE_SEGMENTS` segments is counted as unfinished, and its later moves as another
+     * game; a shorter pause joins the moves into one game.
+     */
+    @Test
+    void countsIdleGamesAsUnfinished() throws IOException {
+        assertEquals(2, gamesAfterPause(this.directory.resolve("short"), MoveLogAnalyzer.IDLE_SEGMENTS - 1));
+        assertEquals(3, gamesAfterPause(this.directory.resolve("long"), MoveLogAnalyzer.IDLE_SEGMENTS));
+    }
+
+    /**
+     * A header holding no valid rules fails with an `IOException`, whether it is the first segment's or a later
+     * one's.
+     */
+    @Test
+    void rejectsCorruptHeaders() throws IOException {
+        try (MoveRecorder recorder = new MoveRecorder(this.directory, Rules.STANDARD,
+                MoveRecorder.HEADER_BYTES + MoveRecorder.RECORD_BYTES)) {
+            long game = recorder.newGame();
+            recorder.record(game, 4, MoveRecorder.PLACE, 2);
+            recorder.record(game, 0, MoveRecorder.PLACE, 1);
+        }
+        corruptWinLength(2);
+        MoveLogAnalyzer analyzer = new MoveLogAnalyzer(this.directory);
+        assertThrows(IOException.class, () -> analyzer.analyze(ForkJoinPool.commonPool()));
+        corruptWinLength(1);
+        assertThrows(IOException.class, () -> new MoveLogAnalyzer(this.directory));
+        assertThrows(IOException.class, () -> new MoveReplayer(this.directory));
+    }
+
+    /**
+     * Records one move of a game, `pause` full segments of another game, and one more move of the first game, then
+     * returns the number of games the analyzer counts.
+     */
+    private static long gamesAfterPause(Path directory, int pause) throws IOException {
+        int perSegment = 4;
+        try (MoveRecorder recorder = new MoveRecorder(directory, Rules.STANDARD,
+                MoveRecorder.HEADER_BYTES + perSegment * MoveRecorder.RECORD_BYTES)) {
+            long paused = recorder.newGame();
+            long busy = recorder.newGame();
+            recorder.record(paused, 4, MoveRecorder.PLACE, 2);
+            for (int i = 1; i < perSegment * (pause + 1); i++) {
+                recorder.record(busy, 8, i % 2 == 0 ? MoveRecorder.LIFT : MoveRecorder.PLACE, 1);
+            }
+            recorder.record(paused, 0, MoveRecorder.PLACE, 1);
+        }
+        MoveLogStats stats = new MoveLogAnalyzer(directory).analyze(ForkJoinPool.commonPool());
+        assertEquals(perSegment * (pause + 1) + 1, stats.getMoves());
+        assertEquals(stats.getGames(), stats.getUnfinished());
+        return stats.getGames();
+    }
+
+    /**
+     * Overwrites the win length in the header of a segment with one longer than the board.
+     */
+    private void corruptWinLength(int segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(MoveRecorder.segmentPath(this.directory, segment),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 9 }), 6);
+        }
+    }
+
+    private static void assertSameStats(MoveLogStats expected, MoveLogStats actual) {
+        assertEquals(expected.getMoves(), actual.getMoves());
+        assertEquals(expected.getLifts(), actual.getLifts());
+        assertEquals(expected.getGames(), actual.getGames());
+        assertEquals(expected.getWins(1), actual.getWins(1));
+        assertEquals(expected.getWins(2), actual.getWins(2));
+        assertEquals(expected.getUnfinished(), actual.getUnfinished());
+        assertEquals(expected.getAverageLength(), actual.getAverageLength(), 1e-9);
+        assertEquals(expected.getLongest(), actual.getLongest());
+        for (int cell = 0; cell < Rules.STANDARD.getCells(); cell++) {
+            assertEquals(expected.getOpenings(cell), actual.getOpenings(cell), "cell " + cell);
+            assertEquals(expected.getOpenerWinRate(cell), actual.getOpenerWinRate(cell), 1e-9, "cell " + cell);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The `tictactoe.MoveRecorderTest` class checks that a log written by `tictactoe.MoveRecorder` replays through
+ * `tictactoe.MoveReplayer` exactly as it was recorded.
+ */
+class MoveRecorderTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Every record comes back in order, across several segments.
+     */
+    @Test
+    void replaysEveryRecordInOrder() throws IOException {
+        List<long[]> written = new ArrayList<>();
+        Random random = new Random(7);
+        try (MoveRecorder recorder = new MoveRecorder(this.directory, Rules.STANDARD, 4096)) {
+            for (int i = 0; i < 5000; i++) {
+                long[] record = { recorder.newGame(), random.nextInt(9), random.nextInt(2), 1 + random.nextInt(2) };
+                recorder.record(record[0], (int) record[1], (int) record[2], (int) record[3]);
+                written.add(record);
+            }
+        }
+        MoveReplayer replayer = new MoveReplayer(this.directory);
+        assertEquals(Rules.STANDARD, replayer.getRules());
+        assertTrue(replayer.getSegments().length > 1);
+        List<long[]> read = new ArrayList<>();
+        long records = replayer.replay((game, cell, action, player) -> read.add(new long[] { game, cell, action,
+                player }));
+        assertEquals(written.size(), records);
+        for (int i = 0; i < written.size(); i++) {
+            assertArrayEquals(written.get(i), read.get(i), "record " + i);
+        }
+    }
+
+    /**
+     * The board rebuilt from the log matches the board of the recorded match, lifts included.
+     */
+    @Test
+    void rebuildsTheBoardOfAMatch() throws IOException {
+        Player player1 = new Player("Player 1", "X", Rules.STANDARD);
+        Player player2 = new Player("Player 2", "O", Rules.STANDARD);
+        GameEngine engine = new GameEngine(Rules.STANDARD, player1, player2);
+        long game;
+        try (MoveRecorder recorder = new MoveRecorder(this.directory, Rules.STANDARD)) {
+            // Ids are reserved in order, so the listener takes the one after this.
+            game = recorder.newGame() + 1;
+            engine.setMoveListener(recorder.listener());
+            Random random = new Random(11);
+            for (int ply = 0; ply < 40 && !engine.isOver(); ply++) {
+                long moves = engine.legalMoves();
+                for (int skip = random.nextInt(Long.bitCount(moves)); skip > 0; skip--) {
+                    moves &= moves - 1;
+                }
+                engine.play(Long.numberOfTrailingZeros(moves));
+            }
+        }
+        Board board = new MoveReplayer(this.directory).rebuild(game, "X", "O");
+        for (int cell = 0; cell < Rules.STANDARD.getCells(); cell++) {
+            assertEquals(engine.getBoard().getCell(cell), board.getCell(cell), "cell " + cell);
+        }
+    }
+
+    /**
+     * A later recorder appending to the same directory starts after the existing segments and ids.
+     */
+    @Test
+    void appendsWithoutReusingIds() throws IOException {
+        long first;
+        try (MoveRecorder recorder = new MoveRecorder(this.directory, Rules.STANDARD)) {
+            first = recorder.newGame();
+            recorder.record(first, 4, MoveRecorder.PLACE, 2);
+        }
+        long second;
+        try (MoveRecorder recorder = new MoveRecorder(this.directory, Rules.STANDARD)) {
+            second = recorder.newGame();
+            recorder.record(second, 0, MoveRecorder.PLACE, 2);
+        }
+        assertTrue(second > first);
+        MoveReplayer replayer = new MoveReplayer(this.directory);
+        assertArrayEquals(new int[] { 1, 2 }, replayer.getSegments());
+        replayer.replay(2, (game, cell, action, player) -> assertEquals(second, game));
+        assertEquals(second, replayer.getStartGame());
+    }
+
+    /**
+     * A log of another variant is not replayed as this one.
+     */
+    @Test
+    void rejectsSegmentsOfOtherRules() throws IOException {
+        new MoveRecorder(this.directory, Rules.STANDARD).close();
+        new MoveRecorder(this.directory, Rules.of(4, 3, 4)).close();
+        MoveReplayer replayer = new MoveReplayer(this.directory);
+        assertThrows(IOException.class, () -> replayer.replay((game, cell, action, player) -> { }));
+    }
+
+    /**
+     * Threads recording at once through one recorder lose no record, and the records of each game keep their
+     * order.
+     */
+    @Test
+    void recordsFromManyThreads() throws IOException, InterruptedException {
+        Thread[] threads = new Thread[4];
+        long[] games = new long[threads.length];
+        try (MoveRecorder recorder = new MoveRecorder(this.directory, Rules.STANDARD, 1024)) {
+            for (int t = 0; t < threads.length; t++) {
+                long game = recorder.newGame();
+                games[t] = game;
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        recorder.record(game, i % 9, MoveRecorder.PLACE, 1 + i % 2);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+        long[] next = new long[threads.length];
+        long records = new MoveReplayer(this.directory).replay((game, cell, action, player) -> {
+            int t = (int) (game - games[0]);
+            assertEquals(next[t] % 9, cell, "game " + t);
+            assertEquals(1 + next[t] % 2, player, "game " + t);
+            next[t]++;
+        });
+        assertEquals(threads.length * 5000, records);
+    }
+
+    /**
+     * A segment of version 1, whose header has unused bytes in place of the start game, is still replayed and
+     * analysed, with a start game of 0; a segment of a later version than this build writes is rejected.
+     */
+    @Test
+    void readsSegmentsOfVersion1() throws IOException {
+        ByteBuffer segment = ByteBuffer.allocate(MoveRecorder.HEADER_BYTES + 5 * MoveRecorder.RECORD_BYTES);
+        segment.putInt(MoveRecorder.MAGIC).put((byte) 1).put((byte) 3).put((byte) 3).put((byte) 3);
+        segment.putLong(-1L);
+        // Player 2 fills the first column while player 1 plays along the first row.
+        int[] cells = { 0, 1, 3, 2, 6 };
+        for (int i = 0; i < cells.length; i++) {
+            segment.putLong(7).put((byte) cells[i]).put((byte) MoveRecorder.PLACE).put((byte) (i % 2 == 0 ? 2 : 1))
+                    .put((byte) 0);
+        }
+        Files.write(MoveRecorder.segmentPath(this.directory, 1), segment.array());
+
+        MoveReplayer replayer = new MoveReplayer(this.directory);
+        assertEquals(Rules.STANDARD, replayer.getRules());
+        assertEquals(cells.length, replayer.replay((game, cell, action, player) -> assertEquals(7, game)));
+        assertEquals(1, replayer.getVersion());
+        assertEquals(0, replayer.getStartGame());
+        MoveLogStats stats = new MoveLogAnalyzer(this.directory).analyze(ForkJoinPool.commonPool());
+        assertEquals(1, stats.getGames());
+        assertEquals(1, stats.getWins(2));
+
+        // A recorder appending to the log writes the current version after it.
+        new MoveRecorder(this.directory, Rules.STANDARD).close();
+        replayer = new MoveReplayer(this.directory);
+        replayer.replay(2, (game, cell, action, player) -> { });
+        assertEquals(MoveRecorder.VERSION, replayer.getVersion());
+        assertEquals(2L << 32, replayer.getStartGame());
+
+        segment.put(4, (byte) (MoveRecorder.VERSION + 1));
+        Files.write(MoveRecorder.segmentPath(this.directory, 1), segment.array());
+        assertThrows(IOException.class, () -> new MoveReplayer(this.directory));
+    }
+}
@@ -0,0 +1,94 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.NegamaxSearchTest` class checks the moves of `tictactoe.NegamaxSearch` against the solved
+ * table of `tictactoe.Solver`, and that a `tictactoe.ComputerPlayer` keeps to the place-then-lift rules.
+ */
+class NegamaxSearchTest {
+    private static final long BUDGET = TimeUnit.SECONDS.toNanos(5);
+    private static final int MAX_WIN_DEPTH = 9;
+
+    /**
+     * Every position the side to move wins within a few plies must be kept won by the searched move.
+     */
+    @Test
+    void keepsEveryShortWin() {
+        Solver solver = Solver.get();
+        NegamaxSearch search = new NegamaxSearch(Rules.STANDARD, 16);
+        WinMasks winMasks = Rules.STANDARD.getWinMasks();
+        int[] checked = new int[1];
+        Rules.STANDARD.getPositionIndex().forEach((index, player1, player2, turn) -> {
+            int state = BitBoard.pack((int) player1, (int) player2, turn);
+            if (winMasks.isWin(BitBoard.waiting(state)) || solver.outcome(state) != Solver.WIN
+                    || solver.depth(state) > MAX_WIN_DEPTH) {
+                return;
+            }
+            int mine = BitBoard.mover(state);
+            int theirs = BitBoard.waiting(state);
+            int move = search.bestMove(mine, theirs, turn, BUDGET, solver.depth(state) + 1);
+            String position = "position " + index + " (" + player1 + ", " + player2 + ", " + turn + ")";
+            if (Integer.bitCount(mine) == Rules.STANDARD.getMaxPieces()) {
+                assertTrue((mine & 1 << move) != 0, "lift from an empty cell in " + position);
+                int next = BitBoard.lift(state, move);
+                assertEquals(Solver.WIN, solver.outcome(next), "lift gives up the win in " + position);
+            } else {
+                assertTrue(((mine | theirs) & 1 << move) == 0, "placement on an occupied cell in " + position);
+                int next = BitBoard.place(state, move);
+                assertTrue(winMasks.isWin(BitBoard.waiting(next)) || solver.outcome(next) == Solver.LOSS,
+                        "placement gives up the win in " + position);
+            }
+            checked[0]++;
+        });
+        assertTrue(checked[0] > 1000, "only " + checked[0] + " won positions were checked");
+    }
+
+    /**
+     * A line that can be completed at once must be completed.
+     */
+    @Test
+    void completesAnOpenLine() {
+        NegamaxSearch search = new NegamaxSearch(Rules.STANDARD, 12);
+        int mine = BitBoard.bit(1, 1) | BitBoard.bit(1, 2);
+        int theirs = BitBoard.bit(2, 2) | BitBoard.bit(3, 3);
+        assertEquals(BitBoard.index(1, 3), search.bestMove(mine, theirs, true, BUDGET));
+    }
+
+    /**
+     * A line the opponent can complete next must be blocked.
+     */
+    @Test
+    void blocksAnOpenLineOfTheOpponent() {
+        NegamaxSearch search = new NegamaxSearch(Rules.STANDARD, 12);
+        int mine = BitBoard.bit(2, 2);
+        int theirs = BitBoard.bit(1, 1) | BitBoard.bit(1, 2);
+        assertEquals(BitBoard.index(1, 3), search.bestMove(mine, theirs, false, BUDGET));
+    }
+
+    /**
+     * Two computer players on larger boards only submit moves the engine accepts, lifting once they have all
+     * their pieces.
+     */
+    @Test
+    void playsOnlyLegalMoves() {
+        for (Rules rules : new Rules[] { Rules.STANDARD, Rules.of(4, 3, 4), Rules.of(5, 4, 5) }) {
+            ComputerPlayer player1 = new ComputerPlayer("Player 1", "X", rules);
+            ComputerPlayer player2 = new ComputerPlayer("Player 2", "O", rules);
+            GameEngine engine = new GameEngine(rules, player1, player2);
+            int lifts = 0;
+            for (int ply = 0; ply < 200 && !engine.isOver(); ply++) {
+                ComputerPlayer mover = (ComputerPlayer) engine.getCurrentPlayer();
+                int[] move = mover.chooseMove(engine);
+                MoveResult result = engine.nextPlayerMove(move[0], move[1]);
+                assertTrue(result.isAccepted(), rules + " ply " + ply + ": " + result);
+                lifts += result == MoveResult.LIFTED ? 1 : 0;
+            }
+            assertTrue(engine.isOver() || lifts > 0, rules + " neither ended nor lifted");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.PositionIndexTest` class checks that `tictactoe.PositionIndex` ranks and unranks positions
+ * consistently and follows the moves of `tictactoe.GameEngine`.
+ */
+class PositionIndexTest {
+    /**
+     * The standard game has a fixed number of indices.
+     */
+    @Test
+    void countsTheStandardPositions() {
+        assertEquals(6970, Rules.STANDARD.getPositionIndex().size());
+    }
+
+    /**
+     * Every index of small variants unranks to a position that ranks back to it.
+     */
+    @Test
+    void roundTripsEveryIndex() {
+        for (Rules rules : new Rules[] { Rules.STANDARD, Rules.of(4, 3, 4) }) {
+            PositionIndex index = rules.getPositionIndex();
+            long[] pieces = new long[2];
+            for (long i = 0; i < index.size(); i++) {
+                boolean turn = index.unrank(i, pieces);
+                assertEquals(i, index.rank(pieces[0], pieces[1], turn), rules + " index " + i);
+            }
+        }
+    }
+
+    /**
+     * Random indices of a large variant round-trip as well.
+     */
+    @Test
+    void roundTripsRandomIndicesOfALargeVariant() {
+        PositionIndex index = new PositionIndex(Rules.of(8, 5, 5));
+        Random random = new Random(42);
+        long[] pieces = new long[2];
+        for (int i = 0; i < 100000; i++) {
+            long rank = (random.nextLong() >>> 1) % index.size();
+            boolean turn = index.unrank(rank, pieces);
+            assertEquals(0, pieces[0] & pieces[1]);
+            assertEquals(rank, index.rank(pieces[0], pieces[1], turn));
+        }
+    }
+
+    /**
+     * The enumerator visits increasing indices that match `rank`.
+     */
+    @Test
+    void visitsIndicesInOrder() {
+        PositionIndex index = Rules.of(4, 3, 4).getPositionIndex();
+        long[] last = { -1 };
+        index.forEach((i, player1, player2, turn) -> {
+            assertTrue(i > last[0]);
+            assertEquals(i, index.rank(player1, player2, turn));
+            last[0] = i;
+        });
+    }
+
+    /**
+     * Positions no match can reach have no index.
+     */
+    @Test
+    void rejectsUnreachablePositions() {
+        PositionIndex index = Rules.STANDARD.getPositionIndex();
+        assertEquals(-1, index.rank(0b11, 0, true));
+        assertEquals(-1, index.rank(0b1, 0b1, false));
+        assertEquals(-1, index.rank(0, 1L << 9, false));
+    }
+
+    /**
+     * The successors of every position reached in random matches are the positions the engine reaches with each
+     * legal move.
+     */
+    @Test
+    void agreesWithTheEngineOnSuccessors() {
+        Rules rules = Rules.of(4, 3, 4);
+        PositionIndex index = rules.getPositionIndex();
+        GameEngine engine = new GameEngine(rules, new Player("Player 1", "X", rules),
+                new Player("Player 2", "O", rules));
+        Random random = new Random(7);
+        long[] children = new long[rules.getCells()];
+        for (int match = 0; match < 200; match++) {
+            engine.reset();
+            for (int ply = 0; ply < 40 && !engine.isOver(); ply++) {
+                long player1 = engine.getPlayer1().getMySet();
+                long player2 = engine.getPlayer2().getMySet();
+                int count = index.successors(player1, player2, engine.isTurn(), children);
+                Set<Long> expected = new HashSet<>();
+                long legal = engine.legalMoves();
+                for (long moves = legal; moves != 0; moves &= moves - 1) {
+                    engine.play(Long.numberOfTrailingZeros(moves));
+                    expected.add(index.rank(engine));
+                    assertTrue(engine.undo());
+                }
+                Set<Long> actual = new HashSet<>();
+                for (int i = 0; i < count; i++) {
+                    actual.add(children[i]);
+                }
+                assertEquals(expected, actual, "match " + match + " ply " + ply);
+                int[] cells = new int[Long.bitCount(legal)];
+                for (int i = 0; legal != 0; legal &= legal - 1) {
+                    cells[i++] = Long.numberOfTrailingZeros(legal);
+                }
+                engine.play(cells[random.nextInt(cells.length)]);
+            }
+        }
+    }
+}
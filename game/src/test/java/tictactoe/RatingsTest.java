@@ -0,0 +1,153 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.RatingsTest` class checks the rating updates of `tictactoe.Ratings` and the pairings of
+ * `tictactoe.Tournament`.
+ */
+class RatingsTest {
+    /**
+     * A first win between new entrants moves both Elo ratings by half of `ELO_K` at once, and both Glicko ratings
+     * by the worked value once the period ends, with the deviations shrinking and then growing for the next period.
+     */
+    @Test
+    void updatesGlickoOncePerPeriod() {
+        Ratings ratings = new Ratings(new String[] { "a", "b" });
+        ratings.record(0, 1, 1);
+        assertEquals(Ratings.INITIAL_RATING + Ratings.ELO_K / 2, ratings.getElo(0), 1e-9);
+        assertEquals(Ratings.INITIAL_RATING - Ratings.ELO_K / 2, ratings.getElo(1), 1e-9);
+        assertEquals(Ratings.INITIAL_RATING, ratings.getRating(0));
+        assertEquals(Ratings.INITIAL_DEVIATION, ratings.getDeviation(0));
+
+        ratings.endPeriod();
+        // g(350) = 0.66907, E = 0.5: the variance becomes 290.23^2 and the rating moves by 162.21.
+        assertEquals(1662.21, ratings.getRating(0), 0.01);
+        assertEquals(1337.79, ratings.getRating(1), 0.01);
+        assertEquals(Math.sqrt(290.2305 * 290.2305 + Ratings.DEVIATION_GROWTH * Ratings.DEVIATION_GROWTH),
+                ratings.getDeviation(0), 0.01);
+        assertEquals(ratings.getDeviation(0), ratings.getDeviation(1), 1e-9);
+        assertEquals(0, ratings.ranking()[0]);
+        assertEquals(1, ratings.getScore(0));
+        assertEquals(0, ratings.getScore(1));
+    }
+
+    /**
+     * A draw between equal entrants moves no rating but still shrinks the deviations, and a period without games
+     * lets them grow back up to the initial deviation and no further.
+     */
+    @Test
+    void growsTheDeviationOfIdleEntrants() {
+        Ratings ratings = new Ratings(new String[] { "a", "b", "c" });
+        ratings.record(0, 1, 0.5);
+        ratings.endPeriod();
+        assertEquals(Ratings.INITIAL_RATING, ratings.getRating(0), 1e-9);
+        assertEquals(Ratings.INITIAL_RATING, ratings.getRating(1), 1e-9);
+        assertEquals(Ratings.INITIAL_RATING, ratings.getElo(0), 1e-9);
+        assertTrue(ratings.getDeviation(0) < Ratings.INITIAL_DEVIATION);
+        assertEquals(Ratings.INITIAL_DEVIATION, ratings.getDeviation(2));
+        assertEquals(1, ratings.getGames(0));
+        assertEquals(0.5, ratings.getScore(1));
+        assertEquals(0, ratings.getGames(2));
+
+        double before = ratings.getDeviation(0);
+        ratings.endPeriod();
+        double grown = Math.sqrt(before * before + Ratings.DEVIATION_GROWTH * Ratings.DEVIATION_GROWTH);
+        assertEquals(Math.min(grown, Ratings.INITIAL_DEVIATION), ratings.getDeviation(0), 1e-9);
+        for (int period = 0; period < 100; period++) {
+            ratings.endPeriod();
+        }
+        assertEquals(Ratings.INITIAL_DEVIATION, ratings.getDeviation(0));
+    }
+
+    /**
+     * Games of a period are rated against the ratings at its start, so the order of the games does not matter.
+     */
+    @Test
+    void ratesAPeriodIndependentlyOfItsOrder() {
+        Ratings forward = new Ratings(new String[] { "a", "b", "c" });
+        Ratings backward = new Ratings(new String[] { "a", "b", "c" });
+        forward.record(0, 1, 1);
+        forward.record(1, 2, 1);
+        forward.record(2, 0, 0.5);
+        backward.record(2, 0, 0.5);
+        backward.record(1, 2, 1);
+        backward.record(0, 1, 1);
+        forward.endPeriod();
+        backward.endPeriod();
+        for (int e = 0; e < 3; e++) {
+            assertEquals(forward.getRating(e), backward.getRating(e), 1e-9);
+            assertEquals(forward.getDeviation(e), backward.getDeviation(e), 1e-9);
+        }
+        assertEquals(3 * Ratings.INITIAL_RATING, forward.getRating(0) + forward.getRating(1) + forward.getRating(2),
+                1e-6);
+    }
+
+    /**
+     * While an entrant has opponents it has not met, Swiss rounds pair it with one of them, even when the ranking
+     * keeps pairing the same neighbours, and the entrant of a pairing that moved first less often moves first.
+     */
+    @Test
+    void avoidsRematchesInSwissRounds() {
+        int entrants = 8;
+        int[] ranking = { 0, 1, 2, 3, 4, 5, 6, 7 };
+        boolean[][] met = new boolean[entrants][entrants];
+        int[] firstMoves = new int[entrants];
+        for (int round = 0; round < 3; round++) {
+            int[] firstBefore = firstMoves.clone();
+            boolean[][] before = new boolean[entrants][];
+            for (int e = 0; e < entrants; e++) {
+                before[e] = met[e].clone();
+            }
+            int[] first = new int[entrants / 2];
+            int[] second = new int[entrants / 2];
+            assertEquals(entrants / 2, Tournament.pairSwissRound(ranking, met, firstMoves, 1, first, second));
+            boolean[] playing = new boolean[entrants];
+            for (int game = 0; game < first.length; game++) {
+                assertFalse(before[first[game]][second[game]], "round " + round + ": " + first[game] + " v "
+                        + second[game] + " again");
+                assertFalse(playing[first[game]] || playing[second[game]]);
+                assertTrue(firstBefore[first[game]] <= firstBefore[second[game]]);
+                playing[first[game]] = true;
+                playing[second[game]] = true;
+            }
+        }
+    }
+
+    /**
+     * A Swiss tournament gives every entrant the games of each round, and the searching entrant scores at least
+     * as well as the field; a round robin gives every entrant the games against every other.
+     */
+    @Test
+    void playsSwissTournaments() {
+        Rules rules = Rules.STANDARD;
+        Tournament tournament = new Tournament(rules, 200, ForkJoinPool.commonPool());
+        tournament.add("search", SelfPlay.policy("search:4", rules));
+        tournament.add("greedy", SelfPlay.policy("greedy", rules));
+        for (int i = 0; i < 4; i++) {
+            tournament.add("random" + i, SelfPlay.policy("random", rules));
+        }
+        Ratings ratings = tournament.swiss(3, 2, 7);
+        long games = 0;
+        for (int e = 0; e < ratings.size(); e++) {
+            assertEquals(3 * 2, ratings.getGames(e), ratings.getName(e));
+            games += ratings.getGames(e);
+        }
+        assertEquals(2 * 3 * 3 * 2, games);
+        assertTrue(ratings.getScore(0) >= 0.5, ratings.toString());
+
+        Ratings robin = new Tournament(rules, 200, ForkJoinPool.commonPool())
+                .add("a", SelfPlay.policy("random", rules))
+                .add("b", SelfPlay.policy("random", rules))
+                .add("c", SelfPlay.policy("greedy", rules))
+                .roundRobin(4, 1);
+        for (int e = 0; e < robin.size(); e++) {
+            assertEquals(2 * 4, robin.getGames(e));
+        }
+    }
+}
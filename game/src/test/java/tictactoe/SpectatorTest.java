@@ -0,0 +1,103 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The `tictactoe.SpectatorTest` class follows matches through a `tictactoe.SpectatorChannel`.
+ */
+class SpectatorTest {
+    /**
+     * A spectator sees every move of a won match, and the win carries the direction of the line, not its index.
+     */
+    @Test
+    void seesTheDirectionOfTheWinningLine() {
+        GameEngine engine = engine(Rules.STANDARD);
+        SpectatorChannel channel = new SpectatorChannel(SpectatorChannel.DEFAULT_CAPACITY, null);
+        engine.setMoveListener(channel);
+        Spectator spectator = channel.subscribe();
+        // Player 2 fills the first column, the first vertical line, while player 1 plays along the first row.
+        int[] moves = { 0, 1, 3, 2, 6 };
+        for (int cell : moves) {
+            engine.play(cell);
+        }
+        assertEquals(WinMasks.VERTICAL, Rules.STANDARD.getWinMasks().direction(engine.getWinningLine()));
+
+        for (int i = 0; i < moves.length; i++) {
+            long event = spectator.poll();
+            assertEquals(SpectatorChannel.PLACE, SpectatorChannel.typeOf(event));
+            assertEquals(moves[i], SpectatorChannel.cellOf(event));
+            assertEquals(i % 2 == 0 ? 2 : 1, SpectatorChannel.playerOf(event));
+        }
+        long win = spectator.poll();
+        assertEquals(SpectatorChannel.WIN, SpectatorChannel.typeOf(win));
+        assertEquals(2, SpectatorChannel.playerOf(win));
+        assertEquals(WinMasks.VERTICAL, SpectatorChannel.directionOf(win));
+        assertEquals(Spectator.NONE, spectator.poll());
+        assertEquals(2, spectator.getWinner());
+        assertEquals(WinMasks.VERTICAL, spectator.getDirection());
+        assertEquals(1L | 1L << 3 | 1L << 6, spectator.getPieces(2));
+        assertEquals(1L << 1 | 1L << 2, spectator.getPieces(1));
+
+        // A spectator joining after the win starts from the snapshot.
+        Spectator late = channel.subscribe();
+        assertEquals(Spectator.NONE, late.poll());
+        assertEquals(2, late.getWinner());
+        assertEquals(WinMasks.VERTICAL, late.getDirection());
+        assertEquals(spectator.getPieces(2), late.getPieces(2));
+        assertEquals(spectator.getPieces(1), late.getPieces(1));
+    }
+
+    /**
+     * On a larger board a diagonal win still reports `DIAGONAL`, whatever the index of its line.
+     */
+    @Test
+    void seesDiagonalsOnLargerBoards() {
+        Rules rules = Rules.of(5, 4, 5);
+        GameEngine engine = engine(rules);
+        SpectatorChannel channel = new SpectatorChannel(SpectatorChannel.DEFAULT_CAPACITY, null);
+        engine.setMoveListener(channel);
+        Spectator spectator = channel.subscribe();
+        int[] winner = { rules.index(2, 2), rules.index(3, 3), rules.index(4, 4), rules.index(5, 5) };
+        int[] loser = { rules.index(1, 1), rules.index(1, 2), rules.index(1, 3) };
+        for (int i = 0; i < winner.length; i++) {
+            assertEquals(i == winner.length - 1 ? MoveResult.WON : MoveResult.PLACED, engine.play(winner[i]));
+            if (i < loser.length) {
+                engine.play(loser[i]);
+            }
+        }
+        assertEquals(WinMasks.DIAGONAL, rules.getWinMasks().direction(engine.getWinningLine()));
+        long event;
+        while ((event = spectator.poll()) != Spectator.NONE) {
+            assertTrue(event > 0);
+        }
+        assertEquals(2, spectator.getWinner());
+        assertEquals(WinMasks.DIAGONAL, spectator.getDirection());
+    }
+
+    /**
+     * A spectator that falls behind by more than the capacity skips to the latest state, which includes the win.
+     */
+    @Test
+    void conflatesASlowSpectator() {
+        GameEngine engine = engine(Rules.STANDARD);
+        SpectatorChannel channel = new SpectatorChannel(2, null);
+        engine.setMoveListener(channel);
+        Spectator spectator = channel.subscribe();
+        for (int cell : new int[] { 0, 1, 3, 2, 6 }) {
+            engine.play(cell);
+        }
+        assertEquals(Spectator.CONFLATED, spectator.poll());
+        assertEquals(1, spectator.getConflations());
+        assertEquals(channel.getSequence(), spectator.getSequence());
+        assertEquals(2, spectator.getWinner());
+        assertEquals(WinMasks.VERTICAL, spectator.getDirection());
+        assertEquals(Spectator.NONE, spectator.poll());
+    }
+
+    private static GameEngine engine(Rules rules) {
+        return new GameEngine(rules, new Player("Player 1", "X", rules), new Player("Player 2", "O", rules));
+    }
+}